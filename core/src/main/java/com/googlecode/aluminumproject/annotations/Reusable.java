@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.annotations;
+
+import com.googlecode.aluminumproject.libraries.actions.Resettable;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that an action instance may be executed more than once. While a template is being processed, an action
+ * element without action contributions and action interceptors will then return the action it created to a pool and
+ * reuse it the next time it is processed (which saves creating an action for every iteration of a loop, for instance).
+ * Before it is reused, the action's parent is updated and its parameters are set again, unless they are action
+ * parameters themselves; injected fields are left as they are.
+ * <p>
+ * Reusable actions should therefore not change their own fields while they execute. Actions that do should implement
+ * {@link Resettable the resettable interface} instead, so that they can be reset before they are reused.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Reusable {}
\ No newline at end of file
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.cache;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.finders.TemplateFinder;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.utilities.Logger;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Abstract superclass that simplifies implementing the {@link Cache cache interface}. It keeps the {@link Statistics
+ * statistics} of the cache and implements {@link #findTemplate(Key, Loader) loading templates}; subclasses only have to
+ * {@link #getTemplate(Key) retrieve} and {@link #storeTemplate(Key, Template) store} templates and report the
+ * {@link #recordEviction(Key) evictions} that they perform.
+ * <p>
+ * By default, templates are loaded in single-flight mode: when several threads look for the same template at the same
+ * time and the cache does not contain it yet, only one of them loads the template and the others wait for the result.
+ * When the template can't be loaded, all waiting threads receive the same exception; failed loads are not cached.
+ * Single-flight loading can be switched off by setting the configuration parameter {@value #SINGLE_FLIGHT_LOADING} to
+ * {@code false}.
+ * <p>
+ * Loaded templates can be revalidated: when the configuration parameter {@value #REVALIDATION_INTERVAL} is set, the
+ * {@link Loader#getVersion(Key) version} of a loaded template is checked when it is found and its last check is at
+ * least that many milliseconds ago. Templates whose version has changed are loaded again; a template that is being
+ * processed while it is reloaded is not affected.
+ */
+public abstract class AbstractCache implements Cache {
+	private boolean singleFlightLoading;
+	private ConcurrentMap<Key, FutureTask<Template>> loads;
+
+	private long revalidationInterval;
+	private ConcurrentMap<Key, Validation> validations;
+
+	private AtomicLong hitCount;
+	private AtomicLong missCount;
+
+	private AtomicLong loadCount;
+	private AtomicLong loadTime;
+
+	private AtomicLong evictionCount;
+
+	/** The logger to use. */
+	protected final Logger logger;
+
+	/**
+	 * Creates an abstract cache.
+	 */
+	protected AbstractCache() {
+		singleFlightLoading = true;
+		loads = new ConcurrentHashMap<Key, FutureTask<Template>>();
+
+		revalidationInterval = -1;
+		validations = new ConcurrentHashMap<Key, Validation>();
+
+		hitCount = new AtomicLong();
+		missCount = new AtomicLong();
+
+		loadCount = new AtomicLong();
+		loadTime = new AtomicLong();
+
+		evictionCount = new AtomicLong();
+
+		logger = Logger.get(getClass());
+	}
+
+	public void initialise(Configuration configuration) throws AluminumException {
+		String singleFlightLoadingValue = configuration.getParameters().getValue(SINGLE_FLIGHT_LOADING, "true");
+
+		singleFlightLoading = Boolean.parseBoolean(singleFlightLoadingValue);
+		logger.debug("single-flight loading: ", singleFlightLoading);
+
+		String revalidationIntervalValue = configuration.getParameters().getValue(REVALIDATION_INTERVAL, null);
+
+		if (revalidationIntervalValue != null) {
+			try {
+				revalidationInterval = Long.parseLong(revalidationIntervalValue);
+			} catch (NumberFormatException exception) {
+				throw new AluminumException(exception,
+					"can't parse revalidation interval '", revalidationIntervalValue, "'");
+			}
+
+			if (revalidationInterval < 0) {
+				throw new AluminumException("the revalidation interval should not be negative");
+			}
+
+			logger.debug("using revalidation interval ", revalidationInterval);
+		}
+	}
+
+	public void disable() {
+		validations.clear();
+	}
+
+	public Template findTemplate(Key key) throws AluminumException {
+		Template template = getTemplate(key);
+
+		logger.debug("template with ", key, ": ", template);
+
+		if (template == null) {
+			missCount.incrementAndGet();
+		} else {
+			hitCount.incrementAndGet();
+		}
+
+		return template;
+	}
+
+	/**
+	 * Retrieves the template that is stored under a certain key.
+	 *
+	 * @param key the key of the template to retrieve
+	 * @return the template with the given key or {@code null} if no template was stored under the key given
+	 * @throws AluminumException when the cache is not available
+	 */
+	protected abstract Template getTemplate(Key key) throws AluminumException;
+
+	public Template findTemplate(Key key, Loader loader) throws AluminumException {
+		Template template = findTemplate(key);
+
+		if ((template == null) || isOutdated(key, loader)) {
+			template = singleFlightLoading ? loadTemplateOnce(key, loader, template) : loadTemplate(key, loader);
+		}
+
+		return template;
+	}
+
+	private boolean isOutdated(Key key, Loader loader) throws AluminumException {
+		Validation validation = (revalidationInterval < 0) ? null : validations.get(key);
+
+		if (validation == null) {
+			return false;
+		} else {
+			long validationTime = validation.validationTime.get();
+			long currentTime = System.currentTimeMillis();
+
+			if ((currentTime - validationTime < revalidationInterval) ||
+					!validation.validationTime.compareAndSet(validationTime, currentTime)) {
+				return false;
+			} else {
+				boolean outdated = loader.getVersion(key) != validation.version;
+
+				if (outdated) {
+					logger.debug("template with ", key, " has changed");
+				}
+
+				return outdated;
+			}
+		}
+	}
+
+	private Template loadTemplateOnce(
+			final Key key, final Loader loader, final Template outdatedTemplate) throws AluminumException {
+		FutureTask<Template> load = new FutureTask<Template>(new Callable<Template>() {
+			public Template call() throws AluminumException {
+				Template template = getTemplate(key);
+
+				return ((template == null) || (template == outdatedTemplate)) ? loadTemplate(key, loader) : template;
+			}
+		});
+
+		FutureTask<Template> ongoingLoad = loads.putIfAbsent(key, load);
+
+		if (ongoingLoad == null) {
+			try {
+				load.run();
+			} finally {
+				loads.remove(key, load);
+			}
+		} else {
+			logger.debug("waiting for template with ", key, " to be loaded");
+
+			load = ongoingLoad;
+		}
+
+		try {
+			return load.get();
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+
+			throw new AluminumException(exception, "interrupted while waiting for template with ", key);
+		} catch (ExecutionException exception) {
+			Throwable cause = exception.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			} else {
+				throw new AluminumException(cause, "can't load template with ", key);
+			}
+		}
+	}
+
+	private Template loadTemplate(Key key, Loader loader) throws AluminumException {
+		logger.debug("loading template with ", key);
+
+		long version = (revalidationInterval < 0) ? TemplateFinder.UNKNOWN_VERSION : loader.getVersion(key);
+		long startTime = System.nanoTime();
+
+		Template template = loader.loadTemplate(key);
+
+		loadTime.addAndGet(System.nanoTime() - startTime);
+		loadCount.incrementAndGet();
+
+		storeTemplate(key, template);
+
+		if (revalidationInterval >= 0) {
+			validations.put(key, new Validation(version, System.currentTimeMillis()));
+		}
+
+		return template;
+	}
+
+	/**
+	 * Records that a template has been evicted from this cache.
+	 *
+	 * @param key the key of the evicted template
+	 */
+	protected void recordEviction(Key key) {
+		validations.remove(key);
+
+		evictionCount.incrementAndGet();
+	}
+
+	public Statistics getStatistics() {
+		return new Statistics(hitCount.get(), missCount.get(), loadCount.get(), loadTime.get(), evictionCount.get());
+	}
+
+	private static class Validation {
+		private long version;
+		private AtomicLong validationTime;
+
+		public Validation(long version, long validationTime) {
+			this.version = version;
+			this.validationTime = new AtomicLong(validationTime);
+		}
+	}
+
+	/**
+	 * The name of the configuration parameter that determines whether templates are loaded in single-flight mode.
+	 */
+	public final static String SINGLE_FLIGHT_LOADING = "cache.single_flight_loading";
+
+	/**
+	 * The name of the configuration parameter that contains the number of milliseconds after which loaded templates are
+	 * revalidated.
+	 */
+	public final static String REVALIDATION_INTERVAL = "cache.revalidation_interval";
+}
\ No newline at end of file
@@ -17,6 +17,7 @@ package com.googlecode.aluminumproject.cache;
 
 import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.configuration.ConfigurationElement;
+import com.googlecode.aluminumproject.finders.TemplateFinder;
 import com.googlecode.aluminumproject.templates.Template;
 import com.googlecode.aluminumproject.utilities.Utilities;
 
@@ -25,6 +26,9 @@ import java.io.Serializable;
 /**
  * A cache for {@link Template templates}. Templates are stored under a {@link Key key}: the combination of the name of
  * the template and the name of the parser that produced it.
+ * <p>
+ * Besides storing and finding templates, a cache can {@link #findTemplate(Key, Loader) load} templates that it does not
+ * contain yet. Each cache keeps {@link Statistics statistics} about its use.
  */
 public interface Cache extends ConfigurationElement {
 	/**
@@ -46,6 +50,48 @@ public interface Cache extends ConfigurationElement {
 	 */
 	Template findTemplate(Key key) throws AluminumException;
 
+	/**
+	 * Finds a template by its key. When this cache does not contain the given key, the template is loaded using the
+	 * given loader and stored under the key.
+	 *
+	 * @param key the key to find a template by
+	 * @param loader the loader to use when this cache does not contain the template
+	 * @return the template with the given key
+	 * @throws AluminumException when the cache is not available or when the template can't be loaded
+	 */
+	Template findTemplate(Key key, Loader loader) throws AluminumException;
+
+	/**
+	 * Returns a snapshot of the statistics of this cache.
+	 *
+	 * @return the current statistics of this cache
+	 */
+	Statistics getStatistics();
+
+	/**
+	 * Loads templates that are not contained by a cache.
+	 */
+	public static interface Loader {
+		/**
+		 * Loads the template with a certain key.
+		 *
+		 * @param key the key of the template to load
+		 * @return the loaded template
+		 * @throws AluminumException when the template can't be loaded
+		 */
+		Template loadTemplate(Key key) throws AluminumException;
+
+		/**
+		 * Determines the version of the source of the template with a certain key. Caches can use the version of a
+		 * template to find out whether it has changed since it was loaded.
+		 *
+		 * @param key the key of the template to determine the version of
+		 * @return the version of the template's source or {@value TemplateFinder#UNKNOWN_VERSION} if it is not known
+		 * @throws AluminumException when the version of the template can't be determined
+		 */
+		long getVersion(Key key) throws AluminumException;
+	}
+
 	/**
 	 * The key that cached templates are stored under.
 	 */
@@ -64,9 +110,27 @@ public interface Cache extends ConfigurationElement {
 			this.parser = parser;
 		}
 
+		/**
+		 * Returns the name of the template.
+		 *
+		 * @return the name of the template that is stored under this key
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the name of the parser.
+		 *
+		 * @return the name of the parser that was used to create the template that is stored under this key
+		 */
+		public String getParser() {
+			return parser;
+		}
+
 		@Override
 		public int hashCode() {
-			return 53 * System.identityHashCode(name) + 53 * System.identityHashCode(parser) + 43;
+			return 53 * ((name == null) ? 0 : name.hashCode()) + 47 * ((parser == null) ? 0 : parser.hashCode()) + 43;
 		}
 
 		@Override
@@ -85,4 +149,99 @@ public interface Cache extends ConfigurationElement {
 
 		private final static long serialVersionUID = 20090524L;
 	}
+
+	/**
+	 * Statistics about the use of a cache: the number of cache hits and misses, the number of templates that were
+	 * loaded and the time it took to load them, and the number of templates that were evicted.
+	 */
+	public static class Statistics {
+		private long hitCount;
+		private long missCount;
+
+		private long loadCount;
+		private long loadTime;
+
+		private long evictionCount;
+
+		/**
+		 * Creates cache statistics.
+		 *
+		 * @param hitCount the number of times that a template was found
+		 * @param missCount the number of times that a template could not be found
+		 * @param loadCount the number of templates that were loaded
+		 * @param loadTime the total time spent loading templates (in nanoseconds)
+		 * @param evictionCount the number of templates that were evicted
+		 */
+		public Statistics(long hitCount, long missCount, long loadCount, long loadTime, long evictionCount) {
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+
+			this.loadCount = loadCount;
+			this.loadTime = loadTime;
+
+			this.evictionCount = evictionCount;
+		}
+
+		/**
+		 * Returns the number of cache hits.
+		 *
+		 * @return the number of times that a template was found
+		 */
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		/**
+		 * Returns the number of cache misses.
+		 *
+		 * @return the number of times that a template could not be found
+		 */
+		public long getMissCount() {
+			return missCount;
+		}
+
+		/**
+		 * Returns the ratio of cache hits to the number of lookups.
+		 *
+		 * @return the hit rate, a number between {@code 0} and {@code 1} (or {@code 1} when there have been no lookups)
+		 */
+		public double getHitRate() {
+			long lookupCount = hitCount + missCount;
+
+			return (lookupCount == 0) ? 1 : (double) hitCount / lookupCount;
+		}
+
+		/**
+		 * Returns the number of loaded templates.
+		 *
+		 * @return the number of templates that were loaded successfully
+		 */
+		public long getLoadCount() {
+			return loadCount;
+		}
+
+		/**
+		 * Returns the total load time.
+		 *
+		 * @return the total number of nanoseconds that were spent loading templates
+		 */
+		public long getLoadTime() {
+			return loadTime;
+		}
+
+		/**
+		 * Returns the number of evictions.
+		 *
+		 * @return the number of templates that were removed from the cache to make room for other templates
+		 */
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Cache statistics, hits: %d, misses: %d, loads: %d (%d ns), evictions: %d",
+				hitCount, missCount, loadCount, loadTime, evictionCount);
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.cache;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.templates.TemplateElement;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe, bounded {@link Cache cache} implementation.
+ * <p>
+ * A concurrent cache can be bounded in two ways: by the number of templates it contains and by the combined weight of
+ * those templates (the weight of a template is the number of template elements it consists of). When either of the
+ * bounds is exceeded, the least recently used templates are evicted. The bounds can be configured with the parameters
+ * {@value #MAXIMUM_SIZE} (which defaults to {@value #DEFAULT_MAXIMUM_SIZE}) and {@value #MAXIMUM_WEIGHT} (which is
+ * unbounded by default).
+ * <p>
+ * To keep contention low, large caches are divided into a number of segments, each of which guards its own share of the
+ * bounds with its own lock. Within a segment, templates are kept in access order, so that the least recently used one
+ * can be evicted without looking at the others. Small caches consist of a single segment and are therefore evicted in
+ * exact least recently used order.
+ */
+public class ConcurrentCache extends AbstractCache {
+	private Segment[] segments;
+
+	/**
+	 * Creates a concurrent cache.
+	 */
+	public ConcurrentCache() {
+		segments = new Segment[] {new Segment(DEFAULT_MAXIMUM_SIZE, Long.MAX_VALUE)};
+	}
+
+	@Override
+	public void initialise(Configuration configuration) throws AluminumException {
+		super.initialise(configuration);
+
+		ConfigurationParameters parameters = configuration.getParameters();
+
+		int maximumSize = (int) Math.min(getBound(parameters, MAXIMUM_SIZE, DEFAULT_MAXIMUM_SIZE), Integer.MAX_VALUE);
+		logger.debug("using maximum size ", maximumSize);
+
+		long maximumWeight = getBound(parameters, MAXIMUM_WEIGHT, Long.MAX_VALUE);
+		logger.debug("using maximum weight ", maximumWeight);
+
+		int segmentCount = 1;
+
+		while ((segmentCount < MAXIMUM_SEGMENT_COUNT) && (maximumSize / (segmentCount * 2) >= MINIMUM_SEGMENT_SIZE) &&
+				(maximumWeight / (segmentCount * 2) >= MINIMUM_SEGMENT_WEIGHT)) {
+			segmentCount *= 2;
+		}
+
+		logger.debug("using ", segmentCount, " segment(s)");
+
+		segments = new Segment[segmentCount];
+
+		for (int i = 0; i < segmentCount; i++) {
+			int segmentSize = (int) divide(maximumSize, segmentCount, i);
+			long segmentWeight = divide(maximumWeight, segmentCount, i);
+
+			segments[i] = new Segment(segmentSize, segmentWeight);
+		}
+	}
+
+	private long getBound(ConfigurationParameters parameters, String name, long defaultValue) throws AluminumException {
+		String value = parameters.getValue(name, null);
+
+		if (value == null) {
+			return defaultValue;
+		} else {
+			long bound;
+
+			try {
+				bound = Long.parseLong(value);
+			} catch (NumberFormatException exception) {
+				throw new AluminumException(exception, "can't parse value of parameter '", name, "': ", value);
+			}
+
+			if (bound < 1) {
+				throw new AluminumException("parameter '", name, "' should be positive, not ", bound);
+			}
+
+			return bound;
+		}
+	}
+
+	private static long divide(long bound, int segmentCount, int segmentIndex) {
+		long share;
+
+		if (bound == Long.MAX_VALUE) {
+			share = bound;
+		} else {
+			share = Math.max(bound / segmentCount + ((segmentIndex < bound % segmentCount) ? 1 : 0), 1);
+		}
+
+		return share;
+	}
+
+	@Override
+	public void disable() {
+		super.disable();
+
+		for (Segment segment: segments) {
+			segment.clear();
+		}
+	}
+
+	public void storeTemplate(Key key, Template template) throws AluminumException {
+		logger.debug("storing ", template, " under ", key);
+
+		getSegment(key).put(key, new Entry(template, getWeight(template)));
+	}
+
+	private long getWeight(Template template) throws AluminumException {
+		long templateWeight = 0;
+
+		List<TemplateElement> templateElements = new LinkedList<TemplateElement>(template.getChildren(null));
+
+		while (!templateElements.isEmpty()) {
+			templateWeight++;
+
+			templateElements.addAll(template.getChildren(templateElements.remove(0)));
+		}
+
+		return Math.max(templateWeight, 1);
+	}
+
+	@Override
+	protected Template getTemplate(Key key) {
+		return getSegment(key).get(key);
+	}
+
+	private Segment getSegment(Key key) {
+		int hash = key.hashCode();
+		hash ^= (hash >>> 16);
+
+		return segments[hash & (segments.length - 1)];
+	}
+
+	private class Segment {
+		private int maximumSize;
+		private long maximumWeight;
+
+		private Map<Key, Entry> entries;
+		private long weight;
+
+		private Lock lock;
+
+		public Segment(int maximumSize, long maximumWeight) {
+			this.maximumSize = maximumSize;
+			this.maximumWeight = maximumWeight;
+
+			entries = new LinkedHashMap<Key, Entry>(16, 0.75F, true);
+
+			lock = new ReentrantLock();
+		}
+
+		public Template get(Key key) {
+			Entry entry;
+
+			lock.lock();
+
+			try {
+				entry = entries.get(key);
+			} finally {
+				lock.unlock();
+			}
+
+			return (entry == null) ? null : entry.template;
+		}
+
+		public void put(Key key, Entry entry) {
+			lock.lock();
+
+			try {
+				Entry previousEntry = entries.put(key, entry);
+				weight += entry.weight;
+
+				if (previousEntry != null) {
+					weight -= previousEntry.weight;
+				}
+
+				Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+
+				while (((entries.size() > maximumSize) || (weight > maximumWeight)) && it.hasNext()) {
+					Map.Entry<Key, Entry> leastRecentlyUsedEntry = it.next();
+					it.remove();
+
+					Key evictedKey = leastRecentlyUsedEntry.getKey();
+					logger.debug("evicted template with ", evictedKey);
+
+					weight -= leastRecentlyUsedEntry.getValue().weight;
+
+					recordEviction(evictedKey);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		public void clear() {
+			lock.lock();
+
+			try {
+				entries.clear();
+				weight = 0;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private static class Entry {
+		private Template template;
+		private long weight;
+
+		public Entry(Template template, long weight) {
+			this.template = template;
+			this.weight = weight;
+		}
+	}
+
+	/** The name of the configuration parameter that contains the maximum number of templates in the cache. */
+	public final static String MAXIMUM_SIZE = "cache.concurrent.maximum_size";
+
+	/** The maximum number of templates in the cache when the {@value #MAXIMUM_SIZE} parameter is not set. */
+	public final static int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	/**
+	 * The name of the configuration parameter that contains the maximum combined weight of the templates in the cache.
+	 */
+	public final static String MAXIMUM_WEIGHT = "cache.concurrent.maximum_weight";
+
+	private final static int MAXIMUM_SEGMENT_COUNT = 16;
+	private final static int MINIMUM_SEGMENT_SIZE = 64;
+	private final static long MINIMUM_SEGMENT_WEIGHT = 4096;
+}
\ No newline at end of file
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.cache;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.finders.TemplateFinder;
+import com.googlecode.aluminumproject.optimisers.TemplateOptimiser;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.utilities.BinaryTemplateUtilities;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link Cache cache} that stores the templates it loads in a directory, so that they don't have to be parsed again
+ * after a restart.
+ * <p>
+ * Each loaded template is written to its own file, together with its {@link Key key} and the {@link
+ * Loader#getVersion(Key) version} of its source. Files are read lazily: when a template is not in memory yet, the cache
+ * looks for its file and only parses the template when there is no file, when the file was written in another format
+ * or when the source of the template has changed since the file was written. Templates whose version is {@link
+ * TemplateFinder#UNKNOWN_VERSION unknown} are always parsed. Templates are written using the {@link
+ * BinaryTemplateUtilities binary template format}. Since that format can't express everything a {@link
+ * TemplateOptimiser template optimiser} produces, templates that are read from a file are optimised again (when a
+ * template optimiser is configured).
+ * <p>
+ * The directory is configured with the required parameter {@value #DIRECTORY}; it is created when it does not exist.
+ */
+public class FileSystemCache extends AbstractCache {
+	private File directory;
+
+	private Configuration configuration;
+
+	private Map<Key, Template> templates;
+
+	/**
+	 * Creates a file system cache.
+	 */
+	public FileSystemCache() {
+		templates = new ConcurrentHashMap<Key, Template>();
+	}
+
+	@Override
+	public void initialise(Configuration configuration) throws AluminumException {
+		super.initialise(configuration);
+
+		this.configuration = configuration;
+
+		String directoryName = configuration.getParameters().getValue(DIRECTORY, null);
+
+		if (directoryName == null) {
+			throw new AluminumException("please provide a directory");
+		}
+
+		directory = new File(directoryName);
+
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new AluminumException("can't create directory '", directoryName, "'");
+		}
+
+		logger.debug("using directory ", directory.getAbsolutePath());
+	}
+
+	@Override
+	public void disable() {
+		super.disable();
+
+		templates.clear();
+	}
+
+	public void storeTemplate(Key key, Template template) {
+		logger.debug("storing ", template, " under ", key);
+
+		templates.put(key, template);
+	}
+
+	@Override
+	protected Template getTemplate(Key key) {
+		return templates.get(key);
+	}
+
+	@Override
+	public Template findTemplate(Key key, final Loader loader) throws AluminumException {
+		return super.findTemplate(key, new Loader() {
+			public Template loadTemplate(Key key) throws AluminumException {
+				long version = loader.getVersion(key);
+
+				File file = getFile(key);
+
+				Template template;
+
+				if (version == TemplateFinder.UNKNOWN_VERSION) {
+					template = loader.loadTemplate(key);
+				} else {
+					template = readTemplate(file, key, version);
+
+					if (template == null) {
+						template = loader.loadTemplate(key);
+
+						writeTemplate(file, key, version, template);
+					}
+				}
+
+				return template;
+			}
+
+			public long getVersion(Key key) throws AluminumException {
+				return loader.getVersion(key);
+			}
+		});
+	}
+
+	private File getFile(Key key) {
+		String name = key.getName();
+		String parser = key.getParser();
+
+		return new File(directory, String.format("%08x%08x.template",
+			(name == null) ? 0 : name.hashCode(), (parser == null) ? 0 : parser.hashCode()));
+	}
+
+	private Template readTemplate(File file, Key key, long version) {
+		Template template = null;
+
+		if (file.exists()) {
+			logger.debug("reading template with ", key, " from ", file);
+
+			try {
+				DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+
+				try {
+					if (in.readInt() != BinaryTemplateUtilities.FORMAT_VERSION) {
+						logger.debug("file ", file, " was written in another format");
+					} else if (!key.equals(new Key(readString(in), readString(in)))) {
+						logger.debug("file ", file, " contains another template");
+					} else if (in.readLong() != version) {
+						logger.debug("template with ", key, " has changed since it was written");
+					} else {
+						template = BinaryTemplateUtilities.readTemplate(key.getName(), in, configuration);
+					}
+				} finally {
+					in.close();
+				}
+			} catch (IOException exception) {
+				logger.warn(exception, "can't read template with ", key, " from ", file);
+			} catch (AluminumException exception) {
+				logger.warn(exception, "can't read template with ", key, " from ", file);
+			}
+		}
+
+		if (template != null) {
+			TemplateOptimiser templateOptimiser = configuration.getTemplateOptimiser();
+
+			if (templateOptimiser != null) {
+				logger.debug("optimising template with ", key);
+
+				template = templateOptimiser.optimise(template);
+			}
+		}
+
+		return template;
+	}
+
+	private String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private void writeTemplate(File file, Key key, long version, Template template) {
+		logger.debug("writing template with ", key, " to ", file);
+
+		String temporaryFileName = String.format("%s.%d.tmp", file.getName(), Thread.currentThread().getId());
+		File temporaryFile = new File(directory, temporaryFileName);
+
+		boolean written = false;
+
+		try {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)));
+
+			try {
+				out.writeInt(BinaryTemplateUtilities.FORMAT_VERSION);
+				writeString(key.getName(), out);
+				writeString(key.getParser(), out);
+				out.writeLong(version);
+
+				BinaryTemplateUtilities.writeTemplate(template, out);
+			} finally {
+				out.close();
+			}
+
+			if (!(temporaryFile.renameTo(file) || (file.delete() && temporaryFile.renameTo(file)))) {
+				throw new IOException("can't rename " + temporaryFile + " to " + file);
+			}
+
+			written = true;
+		} catch (IOException exception) {
+			logger.warn(exception, "can't write template with ", key, " to ", file);
+		} catch (AluminumException exception) {
+			logger.warn(exception, "can't write template with ", key, " to ", file);
+		} finally {
+			if (!written && temporaryFile.exists() && !temporaryFile.delete()) {
+				logger.warn("can't delete temporary file ", temporaryFile);
+			}
+		}
+	}
+
+	private void writeString(String value, DataOutputStream out) throws IOException {
+		out.writeBoolean(value != null);
+
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	/** The name of the configuration parameter that contains the directory in which templates are stored. */
+	public final static String DIRECTORY = "cache.file_system.directory";
+}
\ No newline at end of file
@@ -15,33 +15,34 @@
  */
 package com.googlecode.aluminumproject.cache;
 
-import com.googlecode.aluminumproject.configuration.Configuration;
 import com.googlecode.aluminumproject.templates.Template;
-import com.googlecode.aluminumproject.utilities.Logger;
 
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * An in-memory {@link Cache cache} implementation. It does not have any configuration parameters.
+ * An in-memory {@link Cache cache} implementation. It has no configuration parameters of its own, but it supports the
+ * parameters {@value AbstractCache#SINGLE_FLIGHT_LOADING} and {@value AbstractCache#REVALIDATION_INTERVAL} of its
+ * superclass.
+ * <p>
+ * A memory cache is not thread-safe and never evicts templates; a {@link ConcurrentCache concurrent cache} is more
+ * suitable for multithreaded environments. Single-flight loading doesn't change this: it keeps concurrent loads of the
+ * same template apart, but the templates themselves are still stored in an unsynchronised map.
  */
-public class MemoryCache implements Cache {
+public class MemoryCache extends AbstractCache {
 	private Map<Key, Template> templates;
 
-	private final Logger logger;
-
 	/**
 	 * Creates a memory cache.
 	 */
 	public MemoryCache() {
 		templates = new HashMap<Key, Template>();
-
-		logger = Logger.get(getClass());
 	}
 
-	public void initialise(Configuration configuration) {}
-
+	@Override
 	public void disable() {
+		super.disable();
+
 		templates.clear();
 	}
 
@@ -51,11 +52,8 @@ public class MemoryCache implements Cache {
 		templates.put(key, template);
 	}
 
-	public Template findTemplate(Key key) {
-		Template template = templates.get(key);
-
-		logger.debug("template with ", key, ": ", template);
-
-		return template;
+	@Override
+	protected Template getTemplate(Key key) {
+		return templates.get(key);
 	}
 }
\ No newline at end of file
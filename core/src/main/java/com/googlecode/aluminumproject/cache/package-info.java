@@ -15,7 +15,10 @@
  */
 
 /**
- * The interface of a {@link com.googlecode.aluminumproject.cache.Cache template cache} and a single implementation: an
- * {@link com.googlecode.aluminumproject.cache.MemoryCache in-memory one}.
+ * The interface of a {@link com.googlecode.aluminumproject.cache.Cache template cache} and three implementations: a
+ * simple {@link com.googlecode.aluminumproject.cache.MemoryCache in-memory one}, a thread-safe, bounded
+ * {@link com.googlecode.aluminumproject.cache.ConcurrentCache concurrent one}, and a
+ * {@link com.googlecode.aluminumproject.cache.FileSystemCache file system one} that keeps parsed templates across
+ * restarts.
  */
 package com.googlecode.aluminumproject.cache;
\ No newline at end of file
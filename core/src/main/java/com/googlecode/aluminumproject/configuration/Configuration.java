@@ -25,6 +25,7 @@ import com.googlecode.aluminumproject.finders.TemplateFinder;
 import com.googlecode.aluminumproject.finders.TemplateStoreFinder;
 import com.googlecode.aluminumproject.finders.TypeFinder;
 import com.googlecode.aluminumproject.libraries.Library;
+import com.googlecode.aluminumproject.optimisers.TemplateOptimiser;
 import com.googlecode.aluminumproject.parsers.Parser;
 import com.googlecode.aluminumproject.serialisers.Serialiser;
 import com.googlecode.aluminumproject.templates.TemplateElementFactory;
@@ -148,6 +149,14 @@ public interface Configuration {
 	 */
 	Cache getCache() throws AluminumException;
 
+	/**
+	 * Returns the template optimiser. A template optimiser is optional.
+	 *
+	 * @return the template optimiser to use
+	 * @throws AluminumException when this configuration has been closed
+	 */
+	TemplateOptimiser getTemplateOptimiser() throws AluminumException;
+
 	/**
 	 * Closes this configuration.
 	 *
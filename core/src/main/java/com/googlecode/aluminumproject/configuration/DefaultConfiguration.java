@@ -23,6 +23,7 @@ import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.annotations.Ignored;
 import com.googlecode.aluminumproject.annotations.Named;
 import com.googlecode.aluminumproject.cache.Cache;
+import com.googlecode.aluminumproject.cache.ConcurrentCache;
 import com.googlecode.aluminumproject.context.ContextEnricher;
 import com.googlecode.aluminumproject.converters.ConverterRegistry;
 import com.googlecode.aluminumproject.converters.DefaultConverterRegistry;
@@ -30,11 +31,14 @@ import com.googlecode.aluminumproject.expressions.ExpressionFactory;
 import com.googlecode.aluminumproject.finders.ClassPathTemplateFinder;
 import com.googlecode.aluminumproject.finders.DefaultTypeFinder;
 import com.googlecode.aluminumproject.finders.InMemoryTemplateStoreFinder;
+import com.googlecode.aluminumproject.finders.IndexedTypeFinder;
 import com.googlecode.aluminumproject.finders.TemplateFinder;
 import com.googlecode.aluminumproject.finders.TemplateStoreFinder;
 import com.googlecode.aluminumproject.finders.TypeFinder;
 import com.googlecode.aluminumproject.finders.TypeFinder.TypeFilter;
 import com.googlecode.aluminumproject.libraries.Library;
+import com.googlecode.aluminumproject.optimisers.DefaultTemplateOptimiser;
+import com.googlecode.aluminumproject.optimisers.TemplateOptimiser;
 import com.googlecode.aluminumproject.parsers.Parser;
 import com.googlecode.aluminumproject.serialisers.Serialiser;
 import com.googlecode.aluminumproject.templates.DefaultTemplateElementFactory;
@@ -55,7 +59,8 @@ import java.util.Set;
  * <p>
  * The type finder can be configured through the configuration parameter named {@value #TYPE_FINDER_CLASS}, which is
  * expected to hold the fully qualified name of the type finder class. If the parameter is not supplied, a {@link
- * DefaultTypeFinder default type finder} will be used instead.
+ * DefaultTypeFinder default type finder} will be used instead. An {@link IndexedTypeFinder indexed type finder} can be
+ * used to find types without scanning the class path.
  * <p>
  * The other configuration elements will be created using the {@link DefaultConfigurationElementFactory default
  * configuration element factory}, although a different implementation can be used by either providing a value for the
@@ -77,9 +82,15 @@ import java.util.Set;
  * #TEMPLATE_STORE_FINDER_CLASS} parameters.
  * <p>
  * For the cache, the configuration will look for a parameter with the name {@value #CACHE_CLASS}. If the parameter
- * exists, its value will be interpreted as the class name of the cache. If the parameter does not exist, no cache will
+ * exists, its value will be interpreted as the class name of the cache (e.g. the name of the {@link ConcurrentCache
+ * concurrent cache}, which is suitable for multithreaded environments). If the parameter does not exist, no cache will
  * be used.
  * <p>
+ * Parsed templates can be optimised by a template optimiser. The configuration will look for a parameter with the name
+ * {@value #TEMPLATE_OPTIMISER_CLASS}; if it exists, its value will be interpreted as the class name of the template
+ * optimiser (e.g. the name of the {@link DefaultTemplateOptimiser default template optimiser}). If the parameter does
+ * not exist, templates will not be optimised.
+ * <p>
  * All other configuration elements are found by scanning one ore more packages. For each configuration element type,
  * there is a default package in which configuration elements will be looked for. These locations can be changed by
  * supplying configuration parameters that contain comma-separated lists of package names, both individually (the exact
@@ -133,6 +144,7 @@ public class DefaultConfiguration implements Configuration {
 	private TemplateFinder templateFinder;
 	private TemplateStoreFinder templateStoreFinder;
 	private Cache cache;
+	private TemplateOptimiser templateOptimiser;
 	private List<Library> libraries;
 	private Map<String, Parser> parsers;
 	private Map<String, Serialiser> serialisers;
@@ -176,6 +188,7 @@ public class DefaultConfiguration implements Configuration {
 		createTemplateFinder();
 		createTemplateStoreFinder();
 		createCache();
+		createTemplateOptimiser();
 		createLibraries();
 		createParsers();
 		createSerialisers();
@@ -263,6 +276,19 @@ public class DefaultConfiguration implements Configuration {
 		}
 	}
 
+	private void createTemplateOptimiser() throws AluminumException {
+		String templateOptimiserClassName = parameters.getValue(TEMPLATE_OPTIMISER_CLASS, null);
+
+		if (templateOptimiserClassName == null) {
+			logger.debug("not using a template optimiser");
+		} else {
+			logger.debug("creating template optimiser of type ", templateOptimiserClassName);
+
+			templateOptimiser =
+				configurationElementFactory.instantiate(templateOptimiserClassName, TemplateOptimiser.class);
+		}
+	}
+
 	private void createLibraries() throws AluminumException {
 		String[] libraryPackages = getConfiguredPackages(LIBRARY_PACKAGES, getPackageName(Library.class));
 
@@ -416,6 +442,10 @@ public class DefaultConfiguration implements Configuration {
 			cache.initialise(this);
 		}
 
+		if (templateOptimiser != null) {
+			templateOptimiser.initialise(this);
+		}
+
 		for (Library library: libraries) {
 			library.initialise(this);
 		}
@@ -485,6 +515,12 @@ public class DefaultConfiguration implements Configuration {
 		return cache;
 	}
 
+	public TemplateOptimiser getTemplateOptimiser() throws AluminumException {
+		checkOpen();
+
+		return templateOptimiser;
+	}
+
 	public List<Library> getLibraries() throws AluminumException {
 		checkOpen();
 
@@ -529,6 +565,10 @@ public class DefaultConfiguration implements Configuration {
 			cache.disable();
 		}
 
+		if (templateOptimiser != null) {
+			templateOptimiser.disable();
+		}
+
 		for (Library library: libraries) {
 			library.disable();
 		}
@@ -584,6 +624,9 @@ public class DefaultConfiguration implements Configuration {
 	/** The name of the configuration parameter that contains the class name of the cache to use. */
 	public final static String CACHE_CLASS = "configuration.default.cache.class";
 
+	/** The name of the configuration parameter that contains the class name of the template optimiser to use. */
+	public final static String TEMPLATE_OPTIMISER_CLASS = "configuration.default.template_optimiser.class";
+
 	/**
 	 * The name of the configuration parameter that holds the comma-separated list of packages that the configuration
 	 * will scan for libraries.
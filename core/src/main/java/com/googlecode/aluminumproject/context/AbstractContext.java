@@ -16,14 +16,14 @@
 package com.googlecode.aluminumproject.context;
 
 import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.templates.TemplateInformation;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -47,9 +47,12 @@ public abstract class AbstractContext implements Context {
 	private AbstractContext parent;
 
 	private List<Scope> scopes;
+	private Map<String, Scope> scopesByName;
 
 	private Map<String, Object> implicitObjects;
 
+	private TemplateInformation templateInformation;
+
 	/**
 	 * Creates an abstract context.
 	 *
@@ -79,7 +82,8 @@ public abstract class AbstractContext implements Context {
 	}
 
 	private void initialise(Scope... scopes) throws AluminumException {
-		this.scopes = new LinkedList<Scope>();
+		this.scopes = new ArrayList<Scope>();
+		scopesByName = new HashMap<String, Scope>();
 
 		implicitObjects = new LinkedHashMap<String, Object>();
 
@@ -120,19 +124,13 @@ public abstract class AbstractContext implements Context {
 
 	public void removeScope(String name) throws AluminumException {
 		if (isScopeRemovable(name)) {
-			ListIterator<Scope> scopesIterator = scopes.listIterator();
-
-			boolean scopeRemoved = false;
-
-			while (scopesIterator.hasNext() && !scopeRemoved) {
-				if (scopeRemoved = scopesIterator.next().getName().equals(name)) {
-					scopesIterator.remove();
-				}
-			}
+			Scope scope = scopesByName.remove(name);
 
-			if (!scopeRemoved) {
+			if (scope == null) {
 				throw new AluminumException("can't find scope with name '", name, "' to remove");
 			}
+
+			scopes.remove(scope);
 		} else {
 			throw new AluminumException("scope '", name, "' can't be removed");
 		}
@@ -173,26 +171,32 @@ public abstract class AbstractContext implements Context {
 	}
 
 	public Object findVariable(String name) throws AluminumException {
-		Iterator<Scope> scopesIterator = scopes.iterator();
-		Scope scope = null;
-
-		while (scopesIterator.hasNext() && (scope == null)) {
-			scope = scopesIterator.next();
+		Object value = findVariable(name, Scope.UNDEFINED);
 
-			if (!scope.getVariableNames().contains(name)) {
-				scope = null;
-			}
+		if (value == Scope.UNDEFINED) {
+			throw new AluminumException("variable '", name, "' can't be found in any scope");
 		}
 
-		if (scope == null) {
-			if (parent == null) {
-				throw new AluminumException("variable '", name, "' can't be found in any scope");
-			} else {
-				return parent.findVariable(name);
+		return value;
+	}
+
+	public Object findVariable(String name, Object defaultValue) {
+		Object value = Scope.UNDEFINED;
+
+		AbstractContext context = this;
+
+		while ((value == Scope.UNDEFINED) && (context != null)) {
+			List<Scope> contextScopes = context.scopes;
+			int scopeCount = contextScopes.size();
+
+			for (int i = 0; (i < scopeCount) && (value == Scope.UNDEFINED); i++) {
+				value = contextScopes.get(i).findVariable(name);
 			}
-		} else {
-			return scope.getVariable(name);
+
+			context = context.parent;
 		}
+
+		return (value == Scope.UNDEFINED) ? defaultValue : value;
 	}
 
 	private Scope getScope(String name) throws AluminumException {
@@ -200,16 +204,7 @@ public abstract class AbstractContext implements Context {
 	}
 
 	private Scope getScope(String name, boolean allowNull) throws AluminumException {
-		ListIterator<Scope> scopesIterator = scopes.listIterator();
-		Scope scope = null;
-
-		while (scopesIterator.hasNext() && (scope == null)) {
-			scope = scopesIterator.next();
-
-			if (!scope.getName().equals(name)) {
-				scope = null;
-			}
-		}
+		Scope scope = scopesByName.get(name);
 
 		if ((scope == null) && !allowNull) {
 			throw new AluminumException("no scope with name '", name, "' can be found");
@@ -223,6 +218,7 @@ public abstract class AbstractContext implements Context {
 
 		if (getScope(name, true) == null) {
 			scopes.add(0, scope);
+			scopesByName.put(name, scope);
 
 			implicitObjects.put(name + IMPLICIT_OBJECT_SCOPE_NAME_SUFFIX, new ScopeMap(scope));
 		} else {
@@ -261,6 +257,28 @@ public abstract class AbstractContext implements Context {
 		}
 	}
 
+	/**
+	 * Returns the template information that is kept in this context. Template information is not stored as an implicit
+	 * object in abstract contexts, since it's consulted for every template element that is processed.
+	 *
+	 * @return this context's template information or {@code null} if it hasn't been {@link
+	 *         #setTemplateInformation(TemplateInformation) set} yet
+	 * @see TemplateInformation#from(Context)
+	 */
+	public TemplateInformation getTemplateInformation() {
+		return templateInformation;
+	}
+
+	/**
+	 * Sets the template information of this context.
+	 *
+	 * @param templateInformation the template information to keep in this context
+	 * @see TemplateInformation#from(Context)
+	 */
+	public void setTemplateInformation(TemplateInformation templateInformation) {
+		this.templateInformation = templateInformation;
+	}
+
 	public AbstractContext getParent() {
 		return parent;
 	}
@@ -136,6 +136,17 @@ public interface Context {
 	 */
 	Object findVariable(String name) throws AluminumException;
 
+	/**
+	 * Finds a variable across all scopes, like {@link #findVariable(String)} does, but returns a default value instead
+	 * of throwing an exception when the variable can't be found.
+	 *
+	 * @param name the name of the variable to find
+	 * @param defaultValue the value to return when the variable can't be found
+	 * @return the value of the variable with the given name or the default value if neither this context nor one of its
+	 *         ancestor contexts contains a variable with the given name
+	 */
+	Object findVariable(String name, Object defaultValue);
+
 	/**
 	 * Returns all implicit object names.
 	 *
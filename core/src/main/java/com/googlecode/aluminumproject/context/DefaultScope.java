@@ -49,6 +49,20 @@ public class DefaultScope implements Scope {
 		return Collections.unmodifiableSet(variables.keySet());
 	}
 
+	public int getVariableCount() {
+		return variables.size();
+	}
+
+	public boolean containsVariable(String name) {
+		return variables.containsKey(name);
+	}
+
+	public Object findVariable(String name) {
+		Object value = variables.get(name);
+
+		return ((value == null) && !variables.containsKey(name)) ? UNDEFINED : value;
+	}
+
 	public Object getVariable(String name) throws AluminumException {
 		if (variables.containsKey(name)) {
 			return variables.get(name);
@@ -37,6 +37,31 @@ public interface Scope {
 	 */
 	Set<String> getVariableNames();
 
+	/**
+	 * Returns the number of variables in this scope.
+	 *
+	 * @return the number of variables in this scope
+	 */
+	int getVariableCount();
+
+	/**
+	 * Determines whether this scope contains a variable with a certain name.
+	 *
+	 * @param name the name of the variable to look for
+	 * @return {@code true} if this scope contains a variable with the given name, {@code false} otherwise
+	 */
+	boolean containsVariable(String name);
+
+	/**
+	 * Finds a variable by name. Unlike {@link #getVariable(String)}, this method does not throw an exception when the
+	 * variable does not exist.
+	 *
+	 * @param name the name of the variable to find
+	 * @return the value of the variable with the given name or {@link #UNDEFINED} if this scope doesn't contain a
+	 *         variable with the given name
+	 */
+	Object findVariable(String name);
+
 	/**
 	 * Retrieves a variable by name.
 	 *
@@ -63,4 +88,12 @@ public interface Scope {
 	 * @throws AluminumException when there's no variable with the given name within this scope
 	 */
 	Object removeVariable(String name) throws AluminumException;
+
+	/** The value that is returned when {@link #findVariable(String) finding} a variable that does not exist. */
+	Object UNDEFINED = new Object() {
+		@Override
+		public String toString() {
+			return "undefined";
+		}
+	};
 }
\ No newline at end of file
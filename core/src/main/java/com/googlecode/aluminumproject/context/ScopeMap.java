@@ -16,16 +16,25 @@
 package com.googlecode.aluminumproject.context;
 
 import java.util.AbstractMap;
-import java.util.LinkedHashSet;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * A {@link Map map} that contains variables in a certain {@link Scope scope}.
+ * <p>
+ * Looking up, adding and removing variables is delegated directly to the scope. The {@link #entrySet() entry set} is a
+ * view of the scope's variables that reflects later changes to the scope. The {@link #size() size} of a scope map is
+ * the {@link Scope#getVariableCount() variable count} of its scope, which is only determined in constant time when the
+ * scope supports it (the variables of servlet scopes, for example, have to be counted).
  */
 public class ScopeMap extends AbstractMap<String, Object> {
 	private Scope scope;
 
+	private Set<Map.Entry<String, Object>> entrySet;
+
 	/**
 	 * Creates a scope map.
 	 *
@@ -36,14 +45,20 @@ public class ScopeMap extends AbstractMap<String, Object> {
 	}
 
 	@Override
-	public Set<Map.Entry<String, Object>> entrySet() {
-		Set<Map.Entry<String, Object>> variables = new LinkedHashSet<Map.Entry<String, Object>>();
+	public int size() {
+		return scope.getVariableCount();
+	}
 
-		for (String name: scope.getVariableNames()) {
-			variables.add(new Variable(scope, name));
-		}
+	@Override
+	public boolean containsKey(Object name) {
+		return (name instanceof String) && scope.containsVariable((String) name);
+	}
+
+	@Override
+	public Object get(Object name) {
+		Object value = (name instanceof String) ? scope.findVariable((String) name) : null;
 
-		return variables;
+		return (value == Scope.UNDEFINED) ? null : value;
 	}
 
 	@Override
@@ -53,7 +68,71 @@ public class ScopeMap extends AbstractMap<String, Object> {
 
 	@Override
 	public Object remove(Object name) {
-		return (name instanceof String) ? scope.removeVariable((String) name) : null;
+		return containsKey(name) ? scope.removeVariable((String) name) : null;
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		if (entrySet == null) {
+			entrySet = new VariableSet();
+		}
+
+		return entrySet;
+	}
+
+	private class VariableSet extends AbstractSet<Map.Entry<String, Object>> {
+		@Override
+		public int size() {
+			return ScopeMap.this.size();
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			boolean contained;
+
+			if (object instanceof Map.Entry) {
+				Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+
+				Object key = entry.getKey();
+				Object value = entry.getValue();
+
+				contained = containsKey(key) &&
+					((value == null) ? (get(key) == null) : value.equals(get(key)));
+			} else {
+				contained = false;
+			}
+
+			return contained;
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, Object>> iterator() {
+			final Iterator<String> names = new ArrayList<String>(scope.getVariableNames()).iterator();
+
+			return new Iterator<Map.Entry<String, Object>>() {
+				private String name;
+
+				public boolean hasNext() {
+					return names.hasNext();
+				}
+
+				public Map.Entry<String, Object> next() {
+					name = names.next();
+
+					return new Variable(scope, name);
+				}
+
+				public void remove() {
+					if (name == null) {
+						throw new IllegalStateException("there is no variable to remove");
+					}
+
+					scope.removeVariable(name);
+
+					name = null;
+				}
+			};
+		}
 	}
 
 	private static class Variable implements Map.Entry<String, Object> {
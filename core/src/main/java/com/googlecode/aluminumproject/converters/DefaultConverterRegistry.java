@@ -20,6 +20,7 @@ import static com.googlecode.aluminumproject.utilities.ReflectionUtilities.getPa
 
 import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.annotations.Ignored;
+import com.googlecode.aluminumproject.cache.Cache;
 import com.googlecode.aluminumproject.configuration.Configuration;
 import com.googlecode.aluminumproject.configuration.ConfigurationElementFactory;
 import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
@@ -32,12 +33,14 @@ import com.googlecode.aluminumproject.utilities.Utilities;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A default {@link ConverterRegistry converter registry} implementation.
@@ -53,13 +56,26 @@ import java.util.Set;
  * find the most specific one. This means that when a converter for a string is requested and the registry contains
  * converters for both strings and objects, the converter that converts strings will be returned, even though both would
  * be able to convert values of the requested type.
+ * <p>
+ * The outcome of each lookup is remembered per combination of source and target type, including the fact that no
+ * converter exists for a combination. This means that converters are only searched for the first time a combination is
+ * requested. Registering a converter forgets all remembered lookups. How effective this is can be checked by looking at
+ * the registry's {@link #getStatistics() statistics}, which are expressed in {@link Cache.Statistics cache terms}: each
+ * searched lookup counts as a load and each lookup that is forgotten counts as an eviction.
  */
 public class DefaultConverterRegistry implements ConverterRegistry {
 	private Configuration configuration;
 
 	private Injector injector;
 
-	private Set<Converter<?>> converters;
+	private List<RegisteredConverter> converters;
+
+	private volatile ConcurrentMap<Conversion, Object> lookups;
+
+	private AtomicLong hitCount;
+	private AtomicLong missCount;
+	private AtomicLong loadTime;
+	private AtomicLong evictionCount;
 
 	/** The logger to use. */
 	protected final Logger logger;
@@ -68,7 +84,14 @@ public class DefaultConverterRegistry implements ConverterRegistry {
 	 * Creates a default converter registry.
 	 */
 	public DefaultConverterRegistry() {
-		converters = new HashSet<Converter<?>>();
+		converters = new CopyOnWriteArrayList<RegisteredConverter>();
+
+		lookups = new ConcurrentHashMap<Conversion, Object>();
+
+		hitCount = new AtomicLong();
+		missCount = new AtomicLong();
+		loadTime = new AtomicLong();
+		evictionCount = new AtomicLong();
 
 		logger = Logger.get(getClass());
 	}
@@ -117,6 +140,8 @@ public class DefaultConverterRegistry implements ConverterRegistry {
 
 	public void disable() {
 		converters.clear();
+
+		lookups = new ConcurrentHashMap<Conversion, Object>();
 	}
 
 	public void registerConverter(Converter<?> converter) throws AluminumException {
@@ -124,7 +149,10 @@ public class DefaultConverterRegistry implements ConverterRegistry {
 
 		logger.debug("injected fields of converter");
 
-		converters.add(converter);
+		converters.add(new RegisteredConverter(converter));
+
+		evictionCount.addAndGet(lookups.size());
+		lookups = new ConcurrentHashMap<Conversion, Object>();
 
 		logger.debug("registered converter ", converter);
 	}
@@ -134,61 +162,85 @@ public class DefaultConverterRegistry implements ConverterRegistry {
 			targetType = ReflectionUtilities.wrapPrimitiveType((Class<?>) targetType);
 		}
 
-		List<Converter<? super S>> convertersForSourceType = new ArrayList<Converter<? super S>>();
+		ConcurrentMap<Conversion, Object> lookups = this.lookups;
 
-		for (Converter<?> converter: converters) {
-			Class<?> typeArgument = GenericsUtilities.getTypeArgument(converter.getClass(), Converter.class, 0);
+		Conversion conversion = new Conversion(sourceType, targetType);
+		Object converter = lookups.get(conversion);
 
-			if (typeArgument.isAssignableFrom(sourceType)) {
-				Converter<? super S> typedConverter = Utilities.<Converter<? super S>>typed(converter);
+		if (converter == null) {
+			missCount.incrementAndGet();
 
-				if (typedConverter.supportsSourceType(sourceType) && converter.supportsTargetType(targetType)) {
-					convertersForSourceType.add(typedConverter);
-				}
-			}
+			long startTime = System.nanoTime();
+
+			converter = findConverter(sourceType, targetType);
+			lookups.putIfAbsent(conversion, converter);
+
+			loadTime.addAndGet(System.nanoTime() - startTime);
+		} else {
+			hitCount.incrementAndGet();
 		}
 
-		if (convertersForSourceType.isEmpty()) {
+		if (converter == NO_CONVERTER) {
 			throw new AluminumException("no converter found that can convert values ",
 				"from type ", sourceType.getName(), " to ", targetType);
 		} else {
-			return Collections.min(convertersForSourceType, new ConverterComparator(sourceType));
+			return Utilities.<Converter<? super S>>typed(converter);
 		}
 	}
 
-	/**
-	 * Compares two converters by their source types' distances to a requested source type, where <i>distance<i> is
-	 * defined as the number of steps it takes in the type hierarchy to get from a type to the requested source type.
-	 */
-	private static class ConverterComparator implements Comparator<Converter<?>> {
-		private Class<?> sourceType;
+	private Object findConverter(Class<?> sourceType, Type targetType) {
+		Object foundConverter = NO_CONVERTER;
+		int foundDistance = Integer.MAX_VALUE;
 
-		public ConverterComparator(Class<?> sourceType) {
-			this.sourceType = sourceType;
-		}
+		for (RegisteredConverter registeredConverter: converters) {
+			if (registeredConverter.sourceType.isAssignableFrom(sourceType)) {
+				Converter<Object> converter = Utilities.typed(registeredConverter.converter);
+
+				if (converter.supportsSourceType(sourceType) && converter.supportsTargetType(targetType)) {
+					int distance = getDistance(sourceType, registeredConverter.sourceType);
 
-		public int compare(Converter<?> a, Converter<?> b) {
-			return getDistance(sourceType, GenericsUtilities.getTypeArgument(a.getClass(), Converter.class, 0)) -
-				getDistance(sourceType, GenericsUtilities.getTypeArgument(b.getClass(), Converter.class, 0));
+					if (distance < foundDistance) {
+						foundConverter = converter;
+						foundDistance = distance;
+					}
+				}
+			}
 		}
 
-		private int getDistance(Class<?> from, Class<?> to) {
-			int distance;
+		return foundConverter;
+	}
+
+	/**
+	 * Determines the distance between two types, which is defined as the number of steps it takes in the type hierarchy
+	 * to get from one type to the other.
+	 */
+	private static int getDistance(Class<?> from, Class<?> to) {
+		int distance;
 
-			if (from == to) {
-				distance = 0;
-			} else {
-				Class<?> supertype = from.getSuperclass();
+		if (from == to) {
+			distance = 0;
+		} else {
+			Class<?> supertype = from.getSuperclass();
 
-				distance = (supertype == null) ? Short.MAX_VALUE : getDistance(supertype, to) + 1;
+			distance = (supertype == null) ? Short.MAX_VALUE : getDistance(supertype, to) + 1;
 
-				for (Class<?> implementedType: from.getInterfaces()) {
-					distance = Math.min(distance, getDistance(implementedType, to) + 1);
-				}
+			for (Class<?> implementedType: from.getInterfaces()) {
+				distance = Math.min(distance, getDistance(implementedType, to) + 1);
 			}
-
-			return distance;
 		}
+
+		return distance;
+	}
+
+	/**
+	 * Returns statistics about the converter lookups of this converter registry.
+	 *
+	 * @return the current lookup statistics
+	 */
+	public Cache.Statistics getStatistics() {
+		long missCount = this.missCount.get();
+
+		return new Cache.Statistics(hitCount.get(), missCount, missCount, loadTime.get(), evictionCount.get());
 	}
 
 	public <S> Object convert(S value, Type targetType) throws AluminumException {
@@ -219,6 +271,47 @@ public class DefaultConverterRegistry implements ConverterRegistry {
 		return convertedValue;
 	}
 
+	/**
+	 * A converter, together with the source type it was declared with.
+	 */
+	private static class RegisteredConverter {
+		private Converter<?> converter;
+		private Class<?> sourceType;
+
+		public RegisteredConverter(Converter<?> converter) {
+			this.converter = converter;
+
+			sourceType = GenericsUtilities.getTypeArgument(converter.getClass(), Converter.class, 0);
+		}
+	}
+
+	/**
+	 * A combination of a source type and a target type that can be used to look up converters.
+	 */
+	private static class Conversion {
+		private Class<?> sourceType;
+		private Type targetType;
+
+		public Conversion(Class<?> sourceType, Type targetType) {
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return (object instanceof Conversion) && (((Conversion) object).sourceType == sourceType)
+				&& ((Conversion) object).targetType.equals(targetType);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * sourceType.hashCode() + targetType.hashCode();
+		}
+	}
+
+	/** The lookup outcome that is remembered when no converter can be found. */
+	private final static Object NO_CONVERTER = new Object();
+
 	/**
 	 * The name of the configuration parameter that contains the comma-separated list of packages that will be included
 	 * when searching for converters.
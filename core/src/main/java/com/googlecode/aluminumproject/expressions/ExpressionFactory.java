@@ -21,6 +21,7 @@ import com.googlecode.aluminumproject.configuration.ConfigurationElement;
 import com.googlecode.aluminumproject.context.Context;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * A factory for {@link Expression expressions}. A {@link Configuration configuration} can contain more than one
@@ -43,6 +44,19 @@ public interface ExpressionFactory extends ConfigurationElement {
 	 * @param context the context in which the expression will be evaluated
 	 * @return the new expression
 	 * @throws AluminumException when the expression can't be created
+	 * @see #compile(String, Map)
 	 */
 	Expression create(String value, Context context) throws AluminumException;
+
+	/**
+	 * Compiles an expression from a textual value without depending on a context. The compiled expression can be
+	 * evaluated any number of times, in different contexts, and by multiple threads at the same time, so template
+	 * elements can compile their expressions once, when they are parsed.
+	 *
+	 * @param value the expression value to parse
+	 * @param libraryUrlAbbreviations the library URL abbreviations that are in effect where the expression occurs
+	 * @return the compiled expression
+	 * @throws AluminumException when the expression can't be compiled
+	 */
+	Expression compile(String value, Map<String, String> libraryUrlAbbreviations) throws AluminumException;
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.expressions;
+
+/**
+ * An {@link Expression expression} that knows whether it consists of literals only. Such an expression always evaluates
+ * to the same value, so it can be evaluated once, when the template that contains it is optimised.
+ */
+public interface FoldableExpression extends Expression {
+	/**
+	 * Returns whether this expression is constant, i.e. whether it consists of literals only.
+	 *
+	 * @return {@code true} if this expression does not depend on the context it is evaluated in, {@code false}
+	 *         otherwise
+	 */
+	boolean isConstant();
+}
\ No newline at end of file
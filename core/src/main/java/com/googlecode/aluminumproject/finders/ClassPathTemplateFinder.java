@@ -18,7 +18,10 @@ package com.googlecode.aluminumproject.finders;
 import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.configuration.Configuration;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
 
 /**
  * Looks for templates in the class path.
@@ -26,6 +29,8 @@ import java.io.InputStream;
  * By default, templates will be looked for in the root of the class path, but this template path can be configured
  * using the {@value #TEMPLATE_PATH} parameter. A template path is separated by slashes, but does not start with a
  * slash.
+ * <p>
+ * The version of a template is the last modification time of the resource that contains it, if it is known.
  */
 public class ClassPathTemplateFinder extends AbstractTemplateFinder {
 	private String templatePath;
@@ -47,7 +52,7 @@ public class ClassPathTemplateFinder extends AbstractTemplateFinder {
 	}
 
 	public InputStream find(String name) throws AluminumException {
-		String fullName = (templatePath == null) ? name : String.format("%s/%s", templatePath, name);
+		String fullName = getFullName(name);
 
 		logger.debug("trying to find template '", fullName, "'");
 
@@ -62,6 +67,32 @@ public class ClassPathTemplateFinder extends AbstractTemplateFinder {
 		return stream;
 	}
 
+	public long getVersion(String name) throws AluminumException {
+		String fullName = getFullName(name);
+
+		URL url = Thread.currentThread().getContextClassLoader().getResource(fullName);
+
+		if (url == null) {
+			throw new AluminumException("can't find template '", fullName, "'");
+		}
+
+		try {
+			URLConnection connection = url.openConnection();
+
+			try {
+				return connection.getLastModified();
+			} finally {
+				connection.getInputStream().close();
+			}
+		} catch (IOException exception) {
+			throw new AluminumException(exception, "can't determine version of template '", fullName, "'");
+		}
+	}
+
+	private String getFullName(String name) {
+		return (templatePath == null) ? name : String.format("%s/%s", templatePath, name);
+	}
+
 	/** The name of the configuration parameter that contains the path in which templates will be looked for. */
 	public final static String TEMPLATE_PATH = "template_finder.class_path.template_path";
 }
\ No newline at end of file
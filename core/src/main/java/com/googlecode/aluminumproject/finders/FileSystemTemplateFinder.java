@@ -28,6 +28,8 @@ import java.io.InputStream;
  * <p>
  * The directories that are expected to contain templates can be configured using the {@value #TEMPLATE_DIRECTORIES}
  * parameter. At least one directory should be provided.
+ * <p>
+ * The version of a template is its last modification time.
  */
 public class FileSystemTemplateFinder extends AbstractTemplateFinder {
 	private String[] templateDirectories;
@@ -49,7 +51,21 @@ public class FileSystemTemplateFinder extends AbstractTemplateFinder {
 	}
 
 	public InputStream find(String name) throws AluminumException {
-		InputStream stream = null;
+		File file = findFile(name);
+
+		try {
+			return new FileInputStream(file);
+		} catch (FileNotFoundException exception) {
+			throw new AluminumException("can't create file input stream for template '", name, "'");
+		}
+	}
+
+	public long getVersion(String name) throws AluminumException {
+		return findFile(name).lastModified();
+	}
+
+	private File findFile(String name) throws AluminumException {
+		File templateFile = null;
 
 		for (String directory: templateDirectories) {
 			logger.debug("trying to find template '", name, "' in directory '", directory, "'");
@@ -59,18 +75,14 @@ public class FileSystemTemplateFinder extends AbstractTemplateFinder {
 			if (file.exists()) {
 				logger.debug("found template '", name, "': ", file.getAbsolutePath());
 
-				try {
-					stream = new FileInputStream(file);
-				} catch (FileNotFoundException exception) {
-					throw new AluminumException("can't create file input stream for template '", name, "'");
-				}
+				templateFile = file;
 			}
 		}
 
-		if (stream == null) {
+		if (templateFile == null) {
 			throw new AluminumException("can't find template '", name, "' in ", templateDirectories);
 		} else {
-			return stream;
+			return templateFile;
 		}
 	}
 
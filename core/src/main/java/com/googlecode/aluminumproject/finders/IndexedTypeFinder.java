@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.finders;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.utilities.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Type finder that finds types in type indices instead of scanning the class path.
+ * <p>
+ * A type index is a resource named {@value #INDEX} that contains the binary names of types, one per line. Type indices
+ * are written at build time by the type index processor (which can be found in its own module and has to be enabled
+ * explicitly); they are read from the context class loader when the type finder is initialised. Finding types only
+ * loads the indexed types in the given packages, so finding types does not depend on the size of the class path. Types
+ * in class path entries without a type index can't be found, however.
+ */
+public class IndexedTypeFinder implements TypeFinder {
+	private ClassLoader classLoader;
+	private Set<String> typeNames;
+
+	private final Logger logger;
+
+	/**
+	 * Creates an indexed type finder.
+	 */
+	public IndexedTypeFinder() {
+		typeNames = Collections.emptySet();
+
+		logger = Logger.get(getClass());
+	}
+
+	public void initialise(Configuration configuration) throws AluminumException {
+		classLoader = Thread.currentThread().getContextClassLoader();
+
+		typeNames = new LinkedHashSet<String>();
+
+		try {
+			for (URL index: Collections.list(classLoader.getResources(INDEX))) {
+				logger.debug("reading type index ", index);
+
+				readIndex(index);
+			}
+		} catch (IOException exception) {
+			throw new AluminumException(exception, "can't read type indices");
+		}
+	}
+
+	private void readIndex(URL index) throws IOException {
+		BufferedReader in = new BufferedReader(new InputStreamReader(index.openStream(), "UTF-8"));
+
+		try {
+			String line;
+
+			while ((line = in.readLine()) != null) {
+				String typeName = line.trim();
+
+				if (typeName.length() > 0) {
+					typeNames.add(typeName);
+				}
+			}
+		} finally {
+			in.close();
+		}
+	}
+
+	public void disable() {
+		typeNames = Collections.emptySet();
+	}
+
+	public List<Class<?>> find(TypeFilter filter, String... packageNames) throws AluminumException {
+		if ((packageNames == null) || (packageNames.length == 0)) {
+			throw new IllegalArgumentException("please provide at least one package name");
+		}
+
+		List<Class<?>> types = new LinkedList<Class<?>>();
+
+		for (String packageName: packageNames) {
+			String packagePrefix = packageName + ".";
+
+			for (String typeName: typeNames) {
+				if (typeName.startsWith(packagePrefix)) {
+					Class<?> type;
+
+					try {
+						type = classLoader.loadClass(typeName);
+					} catch (ClassNotFoundException exception) {
+						throw new AluminumException(exception, "can't find indexed type ", typeName);
+					}
+
+					if (filter.accepts(type)) {
+						types.add(type);
+					}
+				}
+			}
+		}
+
+		logger.debug("matching types found in ", packageNames, ": ", types);
+
+		return types;
+	}
+
+	/** The name of the resources that contain type indices. */
+	public final static String INDEX = "META-INF/aluminum/types";
+}
\ No newline at end of file
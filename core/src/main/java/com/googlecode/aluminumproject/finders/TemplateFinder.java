@@ -33,4 +33,17 @@ public interface TemplateFinder extends ConfigurationElement {
 	 * @throws AluminumException when no input stream can be found for the template
 	 */
 	InputStream find(String name) throws AluminumException;
+
+	/**
+	 * Determines the version of a template with a certain name. The version of a template changes whenever the template
+	 * itself changes; it could for example be the template's last modification time.
+	 *
+	 * @param name the name of the template to determine the version of
+	 * @return the version of the template or {@value #UNKNOWN_VERSION} if the version can't be determined
+	 * @throws AluminumException when the template can't be found
+	 */
+	long getVersion(String name) throws AluminumException;
+
+	/** The version of templates whose version can't be determined. */
+	long UNKNOWN_VERSION = 0L;
 }
\ No newline at end of file
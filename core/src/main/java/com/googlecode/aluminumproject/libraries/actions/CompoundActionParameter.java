@@ -50,6 +50,15 @@ public class CompoundActionParameter implements ActionParameter {
 		this.converterRegistry = converterRegistry;
 	}
 
+	/**
+	 * Returns the parameters that this compound parameter consists of.
+	 *
+	 * @return the parts of this parameter
+	 */
+	public List<ActionParameter> getParameters() {
+		return parameters;
+	}
+
 	public String getText() {
 		StringBuilder textBuilder = new StringBuilder();
 
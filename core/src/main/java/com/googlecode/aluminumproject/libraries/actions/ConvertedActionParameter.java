@@ -0,0 +1,52 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.libraries.actions;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.converters.ConverterRegistry;
+
+import java.lang.reflect.Type;
+
+/**
+ * A {@link ConstantActionParameter constant action parameter} whose value has already been converted into the type
+ * that it will most likely be requested in. Requesting the value in that type does not involve any conversion; values
+ * of other types are converted as usual.
+ */
+public class ConvertedActionParameter extends ConstantActionParameter {
+	private Type type;
+	private Object value;
+
+	/**
+	 * Creates a converted action parameter.
+	 *
+	 * @param text the text of the parameter
+	 * @param converterRegistry the converter registry to use to convert the text to other types
+	 * @param type the type that the text was converted into
+	 * @param value the converted value (should be immutable, since it will be shared)
+	 */
+	public ConvertedActionParameter(String text, ConverterRegistry converterRegistry, Type type, Object value) {
+		super(text, converterRegistry);
+
+		this.type = type;
+		this.value = value;
+	}
+
+	@Override
+	public Object getValue(Type type, Context context) throws AluminumException {
+		return this.type.equals(type) ? value : super.getValue(type, context);
+	}
+}
\ No newline at end of file
@@ -20,12 +20,14 @@ import com.googlecode.aluminumproject.annotations.Ignored;
 import com.googlecode.aluminumproject.annotations.Injected;
 import com.googlecode.aluminumproject.annotations.Named;
 import com.googlecode.aluminumproject.annotations.Required;
+import com.googlecode.aluminumproject.annotations.Reusable;
 import com.googlecode.aluminumproject.annotations.Typed;
 import com.googlecode.aluminumproject.annotations.UsableAsFunction;
 import com.googlecode.aluminumproject.annotations.ValidInside;
 import com.googlecode.aluminumproject.configuration.Configuration;
 import com.googlecode.aluminumproject.configuration.ConfigurationElementFactory;
 import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.converters.ConverterRegistry;
 import com.googlecode.aluminumproject.libraries.AbstractLibraryElement;
 import com.googlecode.aluminumproject.templates.TemplateInformation;
 import com.googlecode.aluminumproject.utilities.GenericsUtilities;
@@ -36,12 +38,16 @@ import com.googlecode.aluminumproject.utilities.finders.FieldFinder.FieldFilter;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -65,6 +71,11 @@ import java.util.Set;
  * <li>Whether it is <i>required</i> or not: all parameters that are not marked {@link Required &#64;Required} are
  *     considered optional.
  * </ul>
+ * Parameter fields of type {@link ActionParameter} receive the action parameter itself. Fields of type {@link
+ * LazyParameter} receive a handle that evaluates the action parameter when the action asks for its value; the type of
+ * such a parameter is the type argument of the field (unless the field is annotated with {@link Typed &#64;Typed}). All
+ * other parameters are evaluated before the action executes.
+ * <p>
  * Actions may support dynamic parameters by implementing {@link DynamicallyParameterisable the dynamically
  * parameterisable interface}. Any parameters that are supplied to the action factory but whose names don't match any of
  * the found parameter names will be set as dynamic parameters.
@@ -76,11 +87,26 @@ import java.util.Set;
  * Actions will be created using the configured {@link ConfigurationElementFactory configuration element factory}. After
  * an action has been created, all of its fields that are annotated with {@link Injected &#64;Injected} will be fed with
  * an appropriate value.
+ * <p>
+ * The fields of the action class are examined once, when the action factory is initialised. Creating an action does not
+ * involve looking up any fields.
+ * <p>
+ * Constant parameters can be {@link #prepareParameters(Map) prepared} before they are used: when they will be converted
+ * into an immutable type (such as a number, an enum constant, or a class), the conversion is done once and its result
+ * is reused by all actions that are created with the prepared parameters.
+ * <p>
+ * Action classes that are annotated with {@link Reusable &#64;Reusable} or that implement {@link Resettable the
+ * resettable interface} result in actions that can be {@link #reuse(Action, Map, Context) reused}: resettable actions
+ * are reset and the parameter fields are set again (except for fields that take action parameters themselves), but
+ * actions are neither instantiated nor injected again.
  */
-public class DefaultActionFactory extends AbstractLibraryElement implements ClassBasedActionFactory {
+public class DefaultActionFactory extends AbstractLibraryElement
+		implements ClassBasedActionFactory, ReusableActionFactory {
 	private Class<? extends Action> actionClass;
+	private boolean reusable;
 
-	private Map<String, Field> parameterFields;
+	private ParameterField[] parameterFields;
+	private Set<String> parameterNames;
 
 	private ActionInformation information;
 
@@ -91,14 +117,14 @@ public class DefaultActionFactory extends AbstractLibraryElement implements Clas
 	 */
 	public DefaultActionFactory(Class<? extends Action> actionClass) {
 		this.actionClass = actionClass;
+
+		reusable = actionClass.isAnnotationPresent(Reusable.class) || Resettable.class.isAssignableFrom(actionClass);
 	}
 
 	@Override
 	public void initialise(Configuration configuration) throws AluminumException {
 		super.initialise(configuration);
 
-		parameterFields = new HashMap<String, Field>();
-
 		boolean dynamicallyParameterisable = DynamicallyParameterisable.class.isAssignableFrom(actionClass);
 
 		UsableAsFunction usableAsFunction = actionClass.getAnnotation(UsableAsFunction.class);
@@ -151,6 +177,9 @@ public class DefaultActionFactory extends AbstractLibraryElement implements Clas
 			}
 		}, actionClass);
 
+		this.parameterFields = new ParameterField[parameterFields.size()];
+		parameterNames = new HashSet<String>();
+
 		for (Field parameterField: parameterFields) {
 			String parameterName;
 
@@ -166,6 +195,8 @@ public class DefaultActionFactory extends AbstractLibraryElement implements Clas
 				String parameterTypeName = parameterField.getAnnotation(Typed.class).value();
 
 				parameterType = GenericsUtilities.getType(parameterTypeName, "java.lang", "java.util");
+			} else if (parameterField.getType() == LazyParameter.class) {
+				parameterType = getLazyParameterType(parameterField.getGenericType());
 			} else {
 				parameterType = parameterField.getGenericType();
 			}
@@ -175,8 +206,6 @@ public class DefaultActionFactory extends AbstractLibraryElement implements Clas
 			logger.debug("found ", required ? "required" : "optional", " parameter;",
 				" name: '", parameterName, "', type: ", parameterType);
 
-			this.parameterFields.put(parameterName, parameterField);
-
 			Integer argumentIndex = null;
 
 			if (functionArguments != null) {
@@ -189,8 +218,14 @@ public class DefaultActionFactory extends AbstractLibraryElement implements Clas
 				}
 			}
 
-			parameterInformation.add(
-				new ActionParameterInformation(parameterName, parameterType, required, argumentIndex));
+			ActionParameterInformation actionParameterInformation =
+				new ActionParameterInformation(parameterName, parameterType, required, argumentIndex);
+
+			parameterInformation.add(actionParameterInformation);
+
+			this.parameterFields[parameterInformation.size() - 1] =
+				new ParameterField(actionParameterInformation, parameterField);
+			parameterNames.add(parameterName);
 		}
 
 		if (!unknownFunctionArguments.isEmpty()) {
@@ -200,6 +235,20 @@ public class DefaultActionFactory extends AbstractLibraryElement implements Clas
 		return parameterInformation;
 	}
 
+	private static Type getLazyParameterType(Type fieldType) {
+		Type lazyParameterType = Object.class;
+
+		if (fieldType instanceof ParameterizedType) {
+			Type typeArgument = ((ParameterizedType) fieldType).getActualTypeArguments()[0];
+
+			if ((typeArgument instanceof Class) || (typeArgument instanceof ParameterizedType)) {
+				lazyParameterType = typeArgument;
+			}
+		}
+
+		return lazyParameterType;
+	}
+
 	public ActionInformation getInformation() {
 		return information;
 	}
@@ -208,6 +257,86 @@ public class DefaultActionFactory extends AbstractLibraryElement implements Clas
 		return actionClass;
 	}
 
+	/**
+	 * Prepares the parameters of an action that will be created by this action factory. Parameters with a constant
+	 * value that will be converted into an immutable type are replaced by {@link ConvertedActionParameter converted
+	 * action parameters}. All other parameters are kept as they are.
+	 *
+	 * @param parameters the parameters to prepare
+	 * @return the prepared parameters
+	 * @throws AluminumException when one of the constant parameters can't be converted
+	 */
+	public Map<String, ActionParameter> prepareParameters(
+			Map<String, ActionParameter> parameters) throws AluminumException {
+		Map<String, ActionParameter> preparedParameters = new LinkedHashMap<String, ActionParameter>(parameters);
+
+		ConverterRegistry converterRegistry = getConfiguration().getConverterRegistry();
+
+		for (int i = 0; (converterRegistry != null) && (i < parameterFields.length); i++) {
+			ActionParameterInformation parameterInformation = parameterFields[i].information;
+
+			String parameterName = parameterInformation.getName();
+			Type parameterType = parameterInformation.getType();
+
+			String text = getConstantText(parameters.get(parameterName));
+
+			if ((text != null) && !parameterFields[i].actionParameter && isImmutable(parameterType)) {
+				Object value;
+
+				try {
+					value = converterRegistry.convert(text, parameterType);
+				} catch (AluminumException exception) {
+					throw new AluminumException(exception, "can't convert value of parameter '", parameterName, "'");
+				}
+
+				if (logger.isDebugEnabled()) {
+					logger.debug("converted constant parameter '", parameterName, "' (value: ", value, ")");
+				}
+
+				preparedParameters.put(parameterName,
+					new ConvertedActionParameter(text, converterRegistry, parameterType, value));
+			}
+		}
+
+		return preparedParameters;
+	}
+
+	private static String getConstantText(ActionParameter parameter) {
+		String text;
+
+		if (parameter instanceof ConvertedActionParameter) {
+			text = null;
+		} else if (parameter instanceof ConstantActionParameter) {
+			text = parameter.getText();
+		} else if (parameter instanceof CompoundActionParameter) {
+			boolean constant = true;
+
+			for (ActionParameter part: ((CompoundActionParameter) parameter).getParameters()) {
+				constant &= getConstantText(part) != null;
+			}
+
+			text = constant ? parameter.getText() : null;
+		} else {
+			text = null;
+		}
+
+		return text;
+	}
+
+	private static boolean isImmutable(Type type) {
+		Class<?> typeClass;
+
+		if (type instanceof Class) {
+			typeClass = ReflectionUtilities.wrapPrimitiveType((Class<?>) type);
+		} else if (type instanceof ParameterizedType) {
+			typeClass = (Class<?>) ((ParameterizedType) type).getRawType();
+		} else {
+			typeClass = null;
+		}
+
+		return (typeClass != null) && (typeClass.isEnum() || IMMUTABLE_TYPES.contains(typeClass));
+	}
+
 	public Action create(Map<String, ActionParameter> parameters, Context context) throws AluminumException {
 		validateNesting(context);
 
@@ -216,7 +345,7 @@ public class DefaultActionFactory extends AbstractLibraryElement implements Clas
 
 		logger.debug("created action ", action);
 
-		setParameters(action, new HashMap<String, ActionParameter>(parameters), context);
+		setParameters(action, parameters, context, false);
 		logger.debug("set all parameters");
 
 		injectFields(action);
@@ -226,6 +355,27 @@ public class DefaultActionFactory extends AbstractLibraryElement implements Clas
 		return action;
 	}
 
+	public boolean createsReusableActions() {
+		return reusable;
+	}
+
+	public void reuse(Action action,
+			Map<String, ActionParameter> parameters, Context context) throws AluminumException {
+		if (!reusable) {
+			throw new AluminumException("actions of type ", actionClass.getName(), " can't be reused");
+		}
+
+		validateNesting(context);
+
+		if (action instanceof Resettable) {
+			logger.debug("resetting action ", action);
+
+			((Resettable) action).reset();
+		}
+
+		setParameters(action, parameters, context, true);
+	}
+
 	private void validateNesting(Context context) throws AluminumException {
 		if (actionClass.isAnnotationPresent(ValidInside.class)) {
 			Action action = TemplateInformation.from(context).getCurrentAction();
@@ -242,26 +392,38 @@ public class DefaultActionFactory extends AbstractLibraryElement implements Clas
 		}
 	}
 
-	private void setParameters(
-			Action action, Map<String, ActionParameter> parameters, Context context) throws AluminumException {
-		for (ActionParameterInformation parameterInformation: information.getParameterInformation()) {
+	private void setParameters(Action action,
+			Map<String, ActionParameter> parameters, Context context, boolean reused) throws AluminumException {
+		int parametersSet = 0;
+
+		for (ParameterField parameterField: parameterFields) {
+			ActionParameterInformation parameterInformation = parameterField.information;
 			String parameterName = parameterInformation.getName();
 
-			if (parameters.containsKey(parameterName)) {
-				ActionParameter parameter = parameters.remove(parameterName);
-				Object parameterValue;
+			ActionParameter parameter = parameters.get(parameterName);
 
-				Field parameterField = parameterFields.get(parameterName);
+			if ((parameter != null) && reused && parameterField.actionParameter) {
+				logger.debug("keeping action parameter '", parameterName, "' of reused action");
 
-				if (parameterField.getType() == ActionParameter.class) {
+				parametersSet++;
+			} else if (parameter != null) {
+				Object parameterValue;
+
+				if (parameterField.actionParameter) {
 					parameterValue = parameter;
+				} else if (parameterField.lazyParameter) {
+					parameterValue = new LazyParameter<Object>(parameter, parameterInformation.getType(), context);
 				} else {
 					parameterValue = parameter.getValue(parameterInformation.getType(), context);
 				}
 
-				logger.debug("setting parameter '", parameterName, "' (value: ", parameterValue, ")");
+				if (logger.isDebugEnabled()) {
+					logger.debug("setting parameter '", parameterName, "' (value: ", parameterValue, ")");
+				}
 
-				ReflectionUtilities.setFieldValue(action, parameterField.getName(), parameterValue);
+				ReflectionUtilities.setFieldValue(action, parameterField.field, parameterValue);
+
+				parametersSet++;
 			} else if (parameterInformation.isRequired()) {
 				throw new AluminumException("missing required parameter '", parameterName, "'");
 			} else {
@@ -269,18 +431,46 @@ public class DefaultActionFactory extends AbstractLibraryElement implements Clas
 			}
 		}
 
-		if (!parameters.isEmpty()) {
+		if (parametersSet < parameters.size()) {
 			if (getInformation().isDynamicallyParameterisable()) {
 				for (Map.Entry<String, ActionParameter> parameter: parameters.entrySet()) {
 					String parameterName = parameter.getKey();
 
-					logger.debug("adding dynamic parameter '", parameterName, "'");
+					if (!parameterNames.contains(parameterName)) {
+						logger.debug("adding dynamic parameter '", parameterName, "'");
 
-					((DynamicallyParameterisable) action).setParameter(parameterName, parameter.getValue());
+						((DynamicallyParameterisable) action).setParameter(parameterName, parameter.getValue());
+					}
 				}
 			} else {
-				throw new AluminumException("unknown parameters: ", parameters.keySet());
+				Set<String> unknownParameterNames = new HashSet<String>(parameters.keySet());
+				unknownParameterNames.removeAll(parameterNames);
+
+				throw new AluminumException("unknown parameters: ", unknownParameterNames);
 			}
 		}
 	}
+
+	private final static Set<Class<?>> IMMUTABLE_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+		String.class, Character.class, Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+		Double.class, BigInteger.class, BigDecimal.class, Class.class, Locale.class));
+
+	/**
+	 * The field that an action parameter is stored in.
+	 */
+	private static class ParameterField {
+		private ActionParameterInformation information;
+
+		private Field field;
+		private boolean actionParameter;
+		private boolean lazyParameter;
+
+		public ParameterField(ActionParameterInformation information, Field field) throws AluminumException {
+			this.information = information;
+
+			this.field = ReflectionUtilities.makeAccessible(field);
+			actionParameter = field.getType() == ActionParameter.class;
+			lazyParameter = field.getType() == LazyParameter.class;
+		}
+	}
 }
\ No newline at end of file
@@ -18,41 +18,59 @@ package com.googlecode.aluminumproject.libraries.actions;
 import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.converters.ConverterRegistry;
+import com.googlecode.aluminumproject.expressions.Expression;
 import com.googlecode.aluminumproject.expressions.ExpressionFactory;
 
 import java.lang.reflect.Type;
+import java.util.Map;
 
 /**
- * An action parameter with a value that is based on the evaluation of an expression.
+ * An action parameter with a value that is based on the evaluation of an expression. The expression is compiled when the
+ * parameter is created.
  * <p>
  * Conversion of the value will be delegated to a {@link ConverterRegistry converter registry}.
  */
 public class ExpressionActionParameter implements ActionParameter {
 	private ExpressionFactory expressionFactory;
+
 	private String text;
+	private Expression expression;
 
 	private ConverterRegistry converterRegistry;
 
 	/**
 	 * Creates an expression action parameter.
 	 *
-	 * @param expressionFactory the factory of the expression that will be evaluated
+	 * @param expressionFactory the factory that will compile the expression
 	 * @param text the text of the expression
+	 * @param libraryUrlAbbreviations the library URL abbreviations that are in effect for the parameter's action
 	 * @param converterRegistry the converter registry to use
+	 * @throws AluminumException when the expression can't be compiled
 	 */
-	public ExpressionActionParameter(
-			ExpressionFactory expressionFactory, String text, ConverterRegistry converterRegistry) {
+	public ExpressionActionParameter(ExpressionFactory expressionFactory, String text,
+			Map<String, String> libraryUrlAbbreviations, ConverterRegistry converterRegistry) throws AluminumException {
 		this.expressionFactory = expressionFactory;
+
 		this.text = text;
+		expression = expressionFactory.compile(text, libraryUrlAbbreviations);
 
 		this.converterRegistry = converterRegistry;
 	}
 
+	/**
+	 * Returns the expression factory that compiled the expression of this parameter.
+	 *
+	 * @return this parameter's expression factory
+	 */
+	public ExpressionFactory getExpressionFactory() {
+		return expressionFactory;
+	}
+
 	public String getText() {
 		return text;
 	}
 
 	public Object getValue(Type type, Context context) throws AluminumException {
-		return converterRegistry.convert(expressionFactory.create(text, context).evaluate(context), type);
+		return converterRegistry.convert(expression.evaluate(context), type);
 	}
 }
\ No newline at end of file
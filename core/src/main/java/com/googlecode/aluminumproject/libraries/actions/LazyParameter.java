@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.libraries.actions;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.utilities.Utilities;
+
+import java.lang.reflect.Type;
+
+/**
+ * A handle to the value of an {@link ActionParameter action parameter} that is only evaluated when it is requested for
+ * the first time. Actions can use lazy parameters for parameters that they don't always need (so that an expensive
+ * expression or conversion is skipped when its value would be thrown away) by declaring a parameter field of this
+ * type.
+ *
+ * @param <T> the type of the parameter value
+ */
+public class LazyParameter<T> {
+	private ActionParameter parameter;
+	private Type type;
+	private Context context;
+
+	private boolean evaluated;
+	private T value;
+
+	/**
+	 * Creates a lazy parameter.
+	 *
+	 * @param parameter the action parameter to evaluate
+	 * @param type the type to convert the parameter value into
+	 * @param context the context to evaluate the parameter in
+	 */
+	public LazyParameter(ActionParameter parameter, Type type, Context context) {
+		this.parameter = parameter;
+		this.type = type;
+		this.context = context;
+	}
+
+	/**
+	 * Returns the action parameter that this lazy parameter evaluates.
+	 *
+	 * @return the underlying action parameter
+	 */
+	public ActionParameter getParameter() {
+		return parameter;
+	}
+
+	/**
+	 * Returns whether the value of this lazy parameter has been evaluated.
+	 *
+	 * @return {@code true} if the action parameter has been evaluated, {@code false} otherwise
+	 */
+	public boolean isEvaluated() {
+		return evaluated;
+	}
+
+	/**
+	 * Returns the value of this lazy parameter. The action parameter is evaluated the first time this method is
+	 * called; subsequent calls return the same value.
+	 *
+	 * @return the value of the action parameter, converted into the parameter type
+	 * @throws AluminumException when the action parameter can't be evaluated or converted
+	 */
+	public T getValue() throws AluminumException {
+		if (!evaluated) {
+			value = Utilities.<T>typed(parameter.getValue(type, context));
+
+			evaluated = true;
+		}
+
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return evaluated ? String.valueOf(value) : String.format("lazy parameter '%s'", parameter.getText());
+	}
+}
\ No newline at end of file
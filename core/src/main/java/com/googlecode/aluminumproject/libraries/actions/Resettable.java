@@ -0,0 +1,35 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.libraries.actions;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.annotations.Reusable;
+
+/**
+ * Implemented by {@link Action actions} that are created by {@link DefaultActionFactory the default action factory} and
+ * that can be reused even though they change their own state while they execute. Like {@link Reusable &#64;Reusable}
+ * actions, resettable actions are kept in a pool while a template is processed; before a resettable action is taken
+ * from the pool, it is {@link #reset() reset}.
+ */
+public interface Resettable {
+	/**
+	 * Resets this action, so that it is in the same state as it was right after it was created. Parameters and injected
+	 * fields don't have to be reset.
+	 *
+	 * @throws AluminumException when this action can't be reset
+	 */
+	void reset() throws AluminumException;
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.libraries.actions;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.annotations.Reusable;
+import com.googlecode.aluminumproject.context.Context;
+
+import java.util.Map;
+
+/**
+ * An {@link ActionFactory action factory} that may be able to reuse the {@link Action actions} it creates.
+ *
+ * @see Reusable
+ */
+public interface ReusableActionFactory extends ActionFactory {
+	/**
+	 * Returns whether the actions that are created by this action factory can be reused.
+	 *
+	 * @return {@code true} if the created actions may be {@link #reuse(Action, Map, Context) reused}, {@code false}
+	 *         otherwise
+	 */
+	boolean createsReusableActions();
+
+	/**
+	 * Prepares an action that was created by this action factory for another execution.
+	 *
+	 * @param action the action to reuse
+	 * @param parameters the parameters for the action (the same ones that the action was created with)
+	 * @param context the context in which the action will execute
+	 * @throws AluminumException when the action can't be reused
+	 */
+	void reuse(Action action, Map<String, ActionParameter> parameters, Context context) throws AluminumException;
+}
\ No newline at end of file
@@ -64,7 +64,9 @@ public class FragmentAction extends AbstractDynamicallyParameterisableAction {
 			subcontext.setVariable(variableName, variableValue);
 		}
 
-		logger.debug("including template '", name, "' using parser '", parser, "'");
+		if (logger.isDebugEnabled()) {
+			logger.debug("including template '", name, "' using parser '", parser, "'");
+		}
 
 		new TemplateProcessor(configuration).processTemplate(name, parser, subcontext, writer);
 	}
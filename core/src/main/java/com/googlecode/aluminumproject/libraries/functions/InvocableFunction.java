@@ -0,0 +1,35 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.libraries.functions;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.context.Context;
+
+/**
+ * A function that is not bound to its arguments: it is created once and can then be invoked any number of times, each
+ * time with other argument values.
+ */
+public interface InvocableFunction {
+	/**
+	 * Invokes this function.
+	 *
+	 * @param arguments the argument values (they will be converted to the argument types when necessary)
+	 * @param context the context to run in
+	 * @return the result of this function
+	 * @throws AluminumException when the function can't be invoked
+	 */
+	Object invoke(Object[] arguments, Context context) throws AluminumException;
+}
\ No newline at end of file
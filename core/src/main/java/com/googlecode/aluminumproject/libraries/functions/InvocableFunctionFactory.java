@@ -0,0 +1,33 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.libraries.functions;
+
+import com.googlecode.aluminumproject.AluminumException;
+
+/**
+ * A {@link FunctionFactory function factory} that can also create an {@link InvocableFunction invocable function}.
+ * Callers that call the same function many times can use it instead of creating a {@link Function function} for each
+ * call.
+ */
+public interface InvocableFunctionFactory extends FunctionFactory {
+	/**
+	 * Creates an invocable function.
+	 *
+	 * @return the new invocable function
+	 * @throws AluminumException when the invocable function can't be created
+	 */
+	InvocableFunction createInvocableFunction() throws AluminumException;
+}
\ No newline at end of file
@@ -40,6 +40,18 @@ public class StaticMethodInvokingFunction implements Function {
 	}
 
 	public Object call(Context context) throws AluminumException {
+		return invoke(method, parameters);
+	}
+
+	/**
+	 * Invokes a static method.
+	 *
+	 * @param method the method to invoke
+	 * @param parameters the parameters to invoke the method with
+	 * @return the value that was returned by the method
+	 * @throws AluminumException when the method can't be invoked
+	 */
+	static Object invoke(Method method, Object[] parameters) throws AluminumException {
 		try {
 			return method.invoke(null, parameters);
 		} catch (IllegalArgumentException exception) {
@@ -19,22 +19,30 @@ import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.annotations.Named;
 import com.googlecode.aluminumproject.configuration.Configuration;
 import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.converters.ConverterRegistry;
 import com.googlecode.aluminumproject.libraries.AbstractLibraryElement;
+import com.googlecode.aluminumproject.utilities.ReflectionUtilities;
 import com.googlecode.aluminumproject.utilities.StringUtilities;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * A function factory that creates a {@link StaticMethodInvokingFunction function that invokes a static method}.
+ * A function factory that creates a {@link StaticMethodInvokingFunction function that invokes a static method}. It can
+ * also create an {@link InvocableFunction invocable function} that invokes the method.
+ * <p>
+ * The method is bound when the factory is initialised: access checks are suppressed for public methods of public
+ * classes and the parameter types that the arguments are converted to are determined once.
  */
-public class StaticMethodInvokingFunctionFactory extends AbstractLibraryElement implements FunctionFactory {
+public class StaticMethodInvokingFunctionFactory extends AbstractLibraryElement implements InvocableFunctionFactory {
 	private Method method;
 
 	private FunctionInformation information;
+	private Type[] parameterTypes;
 
 	/**
 	 * Creates a static method invoking function factory.
@@ -51,6 +59,9 @@ public class StaticMethodInvokingFunctionFactory extends AbstractLibraryElement
 
 		information =
 			new FunctionInformation(getFunctionName(), method.getGenericReturnType(), getArgumentInformation());
+
+		bindMethod();
+		parameterTypes = getParameterTypes();
 	}
 
 	private String getFunctionName() {
@@ -103,6 +114,39 @@ public class StaticMethodInvokingFunctionFactory extends AbstractLibraryElement
 		return argumentInformation;
 	}
 
+	private void bindMethod() {
+		if (Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+			try {
+				method.setAccessible(true);
+			} catch (SecurityException exception) {
+				logger.debug("can't suppress access checks for method ", method);
+			}
+		}
+	}
+
+	private Type[] getParameterTypes() {
+		List<FunctionArgumentInformation> argumentInformation = information.getArgumentInformation();
+
+		Type[] types = new Type[argumentInformation.size()];
+
+		for (int i = 0; i < types.length; i++) {
+			Type type = argumentInformation.get(i).getType();
+
+			types[i] = (type instanceof Class) ? ReflectionUtilities.wrapPrimitiveType((Class<?>) type) : type;
+		}
+
+		return types;
+	}
+
+	/**
+	 * Returns the static method that is invoked by the functions that this factory creates.
+	 *
+	 * @return this factory's static method
+	 */
+	public Method getMethod() {
+		return method;
+	}
+
 	public FunctionInformation getInformation() {
 		return information;
 	}
@@ -111,17 +155,40 @@ public class StaticMethodInvokingFunctionFactory extends AbstractLibraryElement
 		return new StaticMethodInvokingFunction(method, createParameters(arguments, context));
 	}
 
-	private Object[] createParameters(List<FunctionArgument> arguments, Context context) throws AluminumException {
-		List<FunctionArgumentInformation> argumentInformation = information.getArgumentInformation();
+	public InvocableFunction createInvocableFunction() {
+		final ConverterRegistry converterRegistry = getConfiguration().getConverterRegistry();
+
+		return new InvocableFunction() {
+			public Object invoke(Object[] arguments, Context context) throws AluminumException {
+				return StaticMethodInvokingFunction.invoke(method, convertArguments(arguments, converterRegistry));
+			}
+		};
+	}
+
+	private Object[] convertArguments(
+			Object[] arguments, ConverterRegistry converterRegistry) throws AluminumException {
+		if (arguments.length != parameterTypes.length) {
+			throw new AluminumException("expected ", parameterTypes.length, " arguments, got ", arguments.length);
+		}
 
-		if (arguments.size() != argumentInformation.size()) {
-			throw new AluminumException("expected ", argumentInformation.size(), " arguments, got ", arguments.size());
+		Object[] parameters = new Object[parameterTypes.length];
+
+		for (int i = 0; i < parameters.length; i++) {
+			parameters[i] = converterRegistry.convert(arguments[i], parameterTypes[i]);
+		}
+
+		return parameters;
+	}
+
+	private Object[] createParameters(List<FunctionArgument> arguments, Context context) throws AluminumException {
+		if (arguments.size() != parameterTypes.length) {
+			throw new AluminumException("expected ", parameterTypes.length, " arguments, got ", arguments.size());
 		}
 
-		Object[] parameters = new Object[argumentInformation.size()];
+		Object[] parameters = new Object[parameterTypes.length];
 
 		for (int i = 0; i < parameters.length; i++) {
-			parameters[i] = arguments.get(i).getValue(argumentInformation.get(i).getType(), context);
+			parameters[i] = arguments.get(i).getValue(parameterTypes[i], context);
 		}
 
 		return parameters;
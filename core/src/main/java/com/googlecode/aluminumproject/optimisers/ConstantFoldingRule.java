@@ -0,0 +1,170 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.optimisers;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.context.DefaultContext;
+import com.googlecode.aluminumproject.expressions.Expression;
+import com.googlecode.aluminumproject.expressions.ExpressionFactory;
+import com.googlecode.aluminumproject.expressions.FoldableExpression;
+import com.googlecode.aluminumproject.templates.AbstractTemplateElement;
+import com.googlecode.aluminumproject.templates.DefaultExpressionElement;
+import com.googlecode.aluminumproject.templates.ExpressionElement;
+import com.googlecode.aluminumproject.templates.TemplateElement;
+import com.googlecode.aluminumproject.utilities.Logger;
+import com.googlecode.aluminumproject.writers.Writer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Evaluates {@link ExpressionElement expression elements} that consist of literals only (i.e. whose expressions are
+ * {@link FoldableExpression#isConstant() constant}) while a template is optimised.
+ * <p>
+ * Expressions that evaluate to a string are replaced by a text element, which may be merged with the text around it.
+ * Expressions that evaluate to another immutable value (a number, a boolean, or a character) are replaced by an
+ * expression element that writes the value that was computed. Expressions that can't be evaluated or that evaluate to
+ * other values are left alone.
+ */
+public class ConstantFoldingRule implements OptimisationRule {
+	private final Logger logger;
+
+	/**
+	 * Creates a constant folding rule.
+	 */
+	public ConstantFoldingRule() {
+		logger = Logger.get(getClass());
+	}
+
+	public boolean apply(TemplateNode node, Configuration configuration) throws AluminumException {
+		List<TemplateNode> children = node.getChildren();
+
+		boolean changed = false;
+
+		for (int i = 0; i < children.size(); i++) {
+			TemplateNode child = children.get(i);
+			TemplateElement templateElement = child.getTemplateElement();
+
+			if ((templateElement instanceof ExpressionElement) && !(templateElement instanceof FoldedExpressionElement)
+					&& child.getChildren().isEmpty()) {
+				TemplateElement foldedElement = fold((ExpressionElement) templateElement, configuration);
+
+				if (foldedElement != null) {
+					children.set(i, new TemplateNode(foldedElement));
+
+					changed = true;
+				}
+			}
+		}
+
+		return changed;
+	}
+
+	private TemplateElement fold(ExpressionElement expressionElement, Configuration configuration) {
+		TemplateElement foldedElement = null;
+
+		Expression expression = getExpression(expressionElement);
+
+		if ((expression instanceof FoldableExpression) && ((FoldableExpression) expression).isConstant()) {
+			String text = expressionElement.getText();
+			Map<String, String> libraryUrlAbbreviations = expressionElement.getLibraryUrlAbbreviations();
+			int lineNumber = expressionElement.getLineNumber();
+
+			try {
+				Object value = expression.evaluate(new DefaultContext());
+
+				if (value instanceof String) {
+					foldedElement = configuration.getTemplateElementFactory().createTextElement(
+						(String) value, libraryUrlAbbreviations, lineNumber);
+				} else if ((value != null) && IMMUTABLE_TYPES.contains(value.getClass())) {
+					foldedElement = new FoldedExpressionElement(expressionElement.getExpressionFactory(),
+						text, value, libraryUrlAbbreviations, lineNumber);
+				}
+			} catch (AluminumException exception) {
+				logger.debug("can't fold expression '", text, "', it will be evaluated when it is processed");
+			}
+		}
+
+		if (foldedElement != null) {
+			logger.debug("folded expression '", expressionElement.getText(), "' into ", foldedElement);
+		}
+
+		return foldedElement;
+	}
+
+	private Expression getExpression(ExpressionElement expressionElement) {
+		Expression expression;
+
+		if (expressionElement instanceof DefaultExpressionElement) {
+			expression = ((DefaultExpressionElement) expressionElement).getExpression();
+		} else {
+			ExpressionFactory expressionFactory = expressionElement.getExpressionFactory();
+
+			try {
+				expression = (expressionFactory == null) ? null : expressionFactory.compile(
+					expressionElement.getText(), expressionElement.getLibraryUrlAbbreviations());
+			} catch (AluminumException exception) {
+				expression = null;
+			}
+		}
+
+		return expression;
+	}
+
+	/** The types of the values that expression elements are folded into, apart from strings. */
+	private final static Set<Class<?>> IMMUTABLE_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+		Character.class, Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+		BigInteger.class, BigDecimal.class));
+
+	/**
+	 * An expression element that writes the value that its expression evaluated to when it was folded.
+	 */
+	private static class FoldedExpressionElement extends AbstractTemplateElement implements ExpressionElement {
+		private ExpressionFactory expressionFactory;
+
+		private String text;
+		private Object value;
+
+		public FoldedExpressionElement(ExpressionFactory expressionFactory, String text, Object value,
+				Map<String, String> libraryUrlAbbreviations, int lineNumber) {
+			super(libraryUrlAbbreviations, lineNumber);
+
+			this.expressionFactory = expressionFactory;
+
+			this.text = text;
+			this.value = value;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public ExpressionFactory getExpressionFactory() {
+			return expressionFactory;
+		}
+
+		protected void processAsCurrent(Context context, Writer writer) throws AluminumException {
+			writer.write(value);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.optimisers;
+
+import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.CONFIGURATION_ELEMENT_PACKAGES;
+import static com.googlecode.aluminumproject.utilities.ReflectionUtilities.getPackageName;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.annotations.Ignored;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationElementFactory;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.finders.TypeFinder.TypeFilter;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.templates.TemplateBuilder;
+import com.googlecode.aluminumproject.templates.TemplateElement;
+import com.googlecode.aluminumproject.utilities.Logger;
+import com.googlecode.aluminumproject.utilities.ReflectionUtilities;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link TemplateOptimiser template optimiser} that applies a number of {@link OptimisationRule optimisation rules}.
+ * <p>
+ * Upon initialisation, the optimiser looks for rules in the packages that are listed (separated by commas) in the
+ * configuration parameter {@value #RULE_PACKAGES} or, when no such parameter is added, in the {@code
+ * com.googlecode.aluminumproject.optimisers} package (and subpackages), which is where libraries can put rules for
+ * their own actions. The rule package list is extended by the packages that are contained in the configuration
+ * parameter named {@value
+ * com.googlecode.aluminumproject.configuration.DefaultConfiguration#CONFIGURATION_ELEMENT_PACKAGES}. All non-abstract
+ * rules in these packages that are not annotated with {@link Ignored &#64;Ignored} will be created and used.
+ * <p>
+ * A template is optimised bottom-up: the rules are applied to a template node after its children have been optimised,
+ * until none of them changes the node anymore. When no rule changed anything, the original template is returned;
+ * otherwise a replacement is built.
+ */
+public class DefaultTemplateOptimiser implements TemplateOptimiser {
+	private Configuration configuration;
+
+	private List<OptimisationRule> rules;
+
+	private final Logger logger;
+
+	/**
+	 * Creates a default template optimiser.
+	 */
+	public DefaultTemplateOptimiser() {
+		rules = new LinkedList<OptimisationRule>();
+
+		logger = Logger.get(getClass());
+	}
+
+	public void initialise(Configuration configuration) throws AluminumException {
+		this.configuration = configuration;
+
+		Set<String> rulePackages = new LinkedHashSet<String>();
+
+		ConfigurationParameters parameters = configuration.getParameters();
+		Collections.addAll(rulePackages, parameters.getValues(RULE_PACKAGES, getPackageName(OptimisationRule.class)));
+		Collections.addAll(rulePackages, parameters.getValues(CONFIGURATION_ELEMENT_PACKAGES));
+
+		logger.debug("optimisation rules will be looked for in ", rulePackages);
+
+		Set<Class<?>> ruleClasses = new LinkedHashSet<Class<?>>(configuration.getTypeFinder().find(new TypeFilter() {
+			public boolean accepts(Class<?> type) {
+				return OptimisationRule.class.isAssignableFrom(type) && !ReflectionUtilities.isAbstract(type)
+					&& !type.isAnnotationPresent(Ignored.class);
+			}
+		}, rulePackages.toArray(new String[rulePackages.size()])));
+
+		ConfigurationElementFactory configurationElementFactory = configuration.getConfigurationElementFactory();
+
+		for (Class<?> ruleClass: ruleClasses) {
+			logger.debug("adding optimisation rule of type ", ruleClass.getName());
+
+			addRule(configurationElementFactory.instantiate(ruleClass.getName(), OptimisationRule.class));
+		}
+	}
+
+	/**
+	 * Adds a rule to this optimiser.
+	 *
+	 * @param rule the rule to add
+	 */
+	protected void addRule(OptimisationRule rule) {
+		rules.add(rule);
+	}
+
+	/**
+	 * Returns all rules that this optimiser applies.
+	 *
+	 * @return a list with all of the optimisation rules of this optimiser
+	 */
+	protected List<OptimisationRule> getRules() {
+		return Collections.unmodifiableList(rules);
+	}
+
+	public void disable() {
+		rules.clear();
+	}
+
+	public Template optimise(Template template) throws AluminumException {
+		TemplateNode root = createNode(template, null);
+
+		Template optimisedTemplate;
+
+		if (optimise(root)) {
+			logger.debug("optimised template '", template.getName(), "'");
+
+			TemplateBuilder templateBuilder = new TemplateBuilder(template);
+			addTemplateElements(templateBuilder, root.getChildren());
+
+			optimisedTemplate = templateBuilder.build();
+		} else {
+			logger.debug("template '", template.getName(), "' could not be optimised");
+
+			optimisedTemplate = template;
+		}
+
+		return optimisedTemplate;
+	}
+
+	private TemplateNode createNode(Template template, TemplateElement templateElement) throws AluminumException {
+		TemplateNode node = new TemplateNode(templateElement);
+
+		for (TemplateElement child: template.getChildren(templateElement)) {
+			node.getChildren().add(createNode(template, child));
+		}
+
+		return node;
+	}
+
+	private boolean optimise(TemplateNode node) throws AluminumException {
+		boolean optimised = false;
+
+		for (TemplateNode child: node.getChildren()) {
+			optimised = optimise(child) || optimised;
+		}
+
+		boolean changed;
+		int passes = 0;
+
+		do {
+			changed = false;
+
+			for (OptimisationRule rule: rules) {
+				if (rule.apply(node, configuration)) {
+					logger.debug("applied optimisation rule ", rule, " to ", node.getTemplateElement());
+
+					changed = true;
+				}
+			}
+
+			optimised = optimised || changed;
+		} while (changed && (++passes < MAXIMUM_PASSES));
+
+		return optimised;
+	}
+
+	private void addTemplateElements(TemplateBuilder templateBuilder, List<TemplateNode> nodes) {
+		for (TemplateNode node: nodes) {
+			templateBuilder.addTemplateElement(node.getTemplateElement());
+			addTemplateElements(templateBuilder, node.getChildren());
+			templateBuilder.restoreCurrentTemplateElement();
+		}
+	}
+
+	/** The maximum number of times that the rules are applied to a single template node. */
+	private final static int MAXIMUM_PASSES = 8;
+
+	/**
+	 * The name of the configuration parameter that holds a comma-separated list of packages in which will be looked for
+	 * optimisation rules.
+	 */
+	public final static String RULE_PACKAGES = "template_optimiser.default.rule.packages";
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.optimisers;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+
+/**
+ * Rewrites a part of a template. Optimisation rules are used by the {@link DefaultTemplateOptimiser default template
+ * optimiser}, which turns a template into a tree of {@link TemplateNode template nodes} and applies all of its rules to
+ * each node, after the children of that node have been optimised.
+ */
+public interface OptimisationRule {
+	/**
+	 * Applies this rule to the children of a template node. Rules may add, remove, replace, and reorder children, as
+	 * long as the template produces the same output afterwards.
+	 *
+	 * @param node the node whose children may be rewritten
+	 * @param configuration the configuration to use
+	 * @return whether the children of the node were changed
+	 * @throws AluminumException when the rule can't be applied
+	 */
+	boolean apply(TemplateNode node, Configuration configuration) throws AluminumException;
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.optimisers;
+
+import com.googlecode.aluminumproject.templates.TemplateElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template element and its children, as seen by {@link OptimisationRule optimisation rules}. Unlike templates, nodes
+ * can be changed: the list of children can be modified freely.
+ */
+public class TemplateNode {
+	private TemplateElement templateElement;
+
+	private List<TemplateNode> children;
+
+	/**
+	 * Creates a template node without children.
+	 *
+	 * @param templateElement the template element of the node (or {@code null} for the root node)
+	 */
+	public TemplateNode(TemplateElement templateElement) {
+		this.templateElement = templateElement;
+
+		children = new ArrayList<TemplateNode>();
+	}
+
+	/**
+	 * Returns the template element of this node.
+	 *
+	 * @return this node's template element or {@code null} if this is the root node
+	 */
+	public TemplateElement getTemplateElement() {
+		return templateElement;
+	}
+
+	/**
+	 * Returns the children of this node.
+	 *
+	 * @return a modifiable list with the child nodes of this node
+	 */
+	public List<TemplateNode> getChildren() {
+		return children;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.optimisers;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.ConfigurationElement;
+import com.googlecode.aluminumproject.templates.Template;
+
+/**
+ * Rewrites {@link Template templates} after they have been parsed, so that they can be processed more efficiently. An
+ * optimised template should produce the same output as the template it was created from.
+ */
+public interface TemplateOptimiser extends ConfigurationElement {
+	/**
+	 * Optimises a template.
+	 *
+	 * @param template the template to optimise
+	 * @return the optimised template (this may be the given template when it can't be optimised)
+	 * @throws AluminumException when the template can't be optimised
+	 */
+	Template optimise(Template template) throws AluminumException;
+}
\ No newline at end of file
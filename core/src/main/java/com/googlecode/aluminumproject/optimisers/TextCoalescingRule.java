@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.optimisers;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.templates.TemplateElement;
+import com.googlecode.aluminumproject.templates.TextElement;
+
+import java.util.List;
+
+/**
+ * Merges adjacent {@link TextElement text elements} into a single text element, so that fewer template elements have to
+ * be processed and the text is written at once. Text elements with children are left alone.
+ */
+public class TextCoalescingRule implements OptimisationRule {
+	public boolean apply(TemplateNode node, Configuration configuration) throws AluminumException {
+		List<TemplateNode> children = node.getChildren();
+
+		boolean changed = false;
+
+		for (int i = 0; i < children.size(); i++) {
+			int end = i;
+
+			while ((end < children.size()) && isText(children.get(end))) {
+				end++;
+			}
+
+			if (end - i > 1) {
+				List<TemplateNode> textNodes = children.subList(i, end);
+
+				StringBuilder textBuilder = new StringBuilder();
+
+				for (TemplateNode textNode: textNodes) {
+					textBuilder.append(((TextElement) textNode.getTemplateElement()).getText());
+				}
+
+				TemplateElement firstTextElement = textNodes.get(0).getTemplateElement();
+
+				TemplateElement textElement = configuration.getTemplateElementFactory().createTextElement(
+					textBuilder.toString(), firstTextElement.getLibraryUrlAbbreviations(),
+					firstTextElement.getLineNumber());
+
+				textNodes.clear();
+				children.add(i, new TemplateNode(textElement));
+
+				changed = true;
+			}
+		}
+
+		return changed;
+	}
+
+	private static boolean isText(TemplateNode node) {
+		return (node.getTemplateElement() instanceof TextElement) && node.getChildren().isEmpty();
+	}
+}
\ No newline at end of file
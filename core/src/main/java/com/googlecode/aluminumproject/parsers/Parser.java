@@ -16,7 +16,9 @@
 package com.googlecode.aluminumproject.parsers;
 
 import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.cache.Cache;
 import com.googlecode.aluminumproject.configuration.ConfigurationElement;
+import com.googlecode.aluminumproject.finders.TemplateFinder;
 import com.googlecode.aluminumproject.templates.Template;
 
 /**
@@ -32,4 +34,14 @@ public interface Parser extends ConfigurationElement {
 	 * @throws AluminumException when no template with the given name can be found or when the template can't be parsed
 	 */
 	Template parseTemplate(String name) throws AluminumException;
+
+	/**
+	 * Determines the version of the source of a template. When the source of a template changes, so does its version;
+	 * this allows {@link Cache caches} to detect templates that should be parsed again.
+	 *
+	 * @param name the name of the template
+	 * @return the version of the source of the template or {@value TemplateFinder#UNKNOWN_VERSION} if it is not known
+	 * @throws AluminumException when no template with the given name can be found
+	 */
+	long getTemplateVersion(String name) throws AluminumException;
 }
\ No newline at end of file
@@ -31,6 +31,9 @@ public abstract class AbstractTemplateElement implements TemplateElement {
 
 	private int lineNumber;
 
+	private Template template;
+	private int templateIndex;
+
 	/**
 	 * Creates an abstract template element.
 	 *
@@ -51,6 +54,31 @@ public abstract class AbstractTemplateElement implements TemplateElement {
 		return lineNumber;
 	}
 
+	/**
+	 * Returns the template that contains this template element. It is known as soon as a template that contains this
+	 * template element has been {@link TemplateBuilder#build() built}.
+	 *
+	 * @return the template that this template element is part of (or {@code null} if it isn't known yet)
+	 */
+	public Template getTemplate() {
+		return template;
+	}
+
+	int getTemplateIndex() {
+		return templateIndex;
+	}
+
+	boolean setTemplate(Template template, int templateIndex, Template replacedTemplate) {
+		boolean templateSet = (this.template == null) || (this.template == replacedTemplate);
+
+		if (templateSet) {
+			this.template = template;
+			this.templateIndex = templateIndex;
+		}
+
+		return templateSet;
+	}
+
 	public void process(Context context, Writer writer) throws AluminumException {
 		TemplateInformation templateInformation = TemplateInformation.from(context);
 		templateInformation.addTemplateElement(this);
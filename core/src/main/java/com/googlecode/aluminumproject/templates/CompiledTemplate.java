@@ -0,0 +1,188 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.templates;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.expressions.Expression;
+import com.googlecode.aluminumproject.writers.Writer;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template that has been compiled into a class of its own. Compiled templates are created by template compilers,
+ * which generate a subclass for each template that {@link #processChildren(int, Context, Writer) processes the
+ * children} of each of its template elements in straight-line code, so that processing a template no longer requires
+ * its children to be looked up and iterated over.
+ * <p>
+ * A compiled template contains the same template elements as the template it was compiled from. They are indexed in
+ * document order (i.e. the order in which {@link #getTemplateElements(Template)} returns them); the index of the
+ * virtual parent of the root template elements is {@code -1}. Generated code is expected to bind the template elements
+ * (and the compiled expressions of default expression elements) to fields when the compiled template is created, so
+ * that they don't have to be looked up while the template is processed. It can then process a template element using
+ * the following methods:
+ * <ul>
+ * <li>{@link #processText(DefaultTextElement, Context, Writer)} writes the (possibly pre-encoded) text of a {@link
+ *     DefaultTextElement default text element} without making it the current template element;
+ * <li>{@link #processExpression(DefaultExpressionElement, Expression, Context, Writer)} evaluates the compiled
+ *     expression of a {@link DefaultExpressionElement default expression element} and writes its result;
+ * <li>any other template element can be asked to {@link TemplateElement#process(Context, Writer) process} itself.
+ * </ul>
+ * The template elements of the compiled template will belong to the compiled template, so the template it was
+ * compiled from should no longer be used.
+ */
+public abstract class CompiledTemplate extends TemplateBuilder.BuiltTemplate {
+	/**
+	 * Creates a compiled template.
+	 *
+	 * @param template the template that was compiled
+	 * @param templateElements the template elements of the compiled template, in document order
+	 * @throws AluminumException when the structure of the template can't be determined
+	 */
+	protected CompiledTemplate(Template template, TemplateElement[] templateElements) throws AluminumException {
+		super(template.getName(), templateElements, getParentIndices(template, templateElements), template);
+	}
+
+	private static int[] getParentIndices(
+			Template template, TemplateElement[] templateElements) throws AluminumException {
+		Map<TemplateElement, Integer> indices = new IdentityHashMap<TemplateElement, Integer>();
+
+		for (int i = 0; i < templateElements.length; i++) {
+			indices.put(templateElements[i], i);
+		}
+
+		int[] parentIndices = new int[templateElements.length];
+
+		for (int i = 0; i < templateElements.length; i++) {
+			TemplateElement parent = template.getParent(templateElements[i]);
+
+			parentIndices[i] = (parent == null) ? TemplateBuilder.ROOT_INDEX : indices.get(parent);
+		}
+
+		return parentIndices;
+	}
+
+	/**
+	 * Processes the children of one of the template elements of this compiled template.
+	 *
+	 * @param templateElement the template element to process the children of (or {@code null} to process the root
+	 *                        template elements)
+	 * @param context the context to use
+	 * @param writer the writer to use
+	 * @throws AluminumException when this template does not contain the given template element or when something goes
+	 *                           wrong while processing its children
+	 */
+	public void processChildren(
+			TemplateElement templateElement, Context context, Writer writer) throws AluminumException {
+		int index = getIndex(templateElement);
+
+		if (index == TemplateBuilder.UNKNOWN_INDEX) {
+			throw new AluminumException("element ", templateElement, " could not be found");
+		}
+
+		processChildren(index, context, writer);
+	}
+
+	/**
+	 * Processes the children of the template element with a certain index.
+	 *
+	 * @param index the index of the template element to process the children of ({@code -1} for the root template
+	 *              elements)
+	 * @param context the context to use
+	 * @param writer the writer to use
+	 * @throws AluminumException when something goes wrong while processing the children
+	 */
+	protected abstract void processChildren(int index, Context context, Writer writer) throws AluminumException;
+
+	/**
+	 * Writes the text of a default text element.
+	 *
+	 * @param textElement the default text element to write the text of
+	 * @param context the context to use
+	 * @param writer the writer to use
+	 * @throws AluminumException when the text can't be written
+	 */
+	protected final void processText(
+			DefaultTextElement textElement, Context context, Writer writer) throws AluminumException {
+		try {
+			textElement.processAsCurrent(context, writer);
+		} catch (AluminumException exception) {
+			addOrigin(exception, textElement);
+
+			throw exception;
+		}
+	}
+
+	/**
+	 * Evaluates the expression of a default expression element and writes the result. While the expression is
+	 * evaluated, the expression element is the current template element.
+	 *
+	 * @param expressionElement the default expression element to process
+	 * @param expression the compiled expression of the expression element
+	 * @param context the context to use
+	 * @param writer the writer to use
+	 * @throws AluminumException when the expression can't be evaluated or when its result can't be written
+	 */
+	protected final void processExpression(DefaultExpressionElement expressionElement,
+			Expression expression, Context context, Writer writer) throws AluminumException {
+		TemplateInformation templateInformation = TemplateInformation.from(context);
+		templateInformation.addTemplateElement(expressionElement);
+
+		try {
+			writer.write(expression.evaluate(context));
+		} catch (AluminumException exception) {
+			addOrigin(exception, expressionElement);
+
+			throw exception;
+		}
+
+		templateInformation.removeCurrentTemplateElement();
+	}
+
+	private void addOrigin(AluminumException exception, TemplateElement templateElement) {
+		if (exception.getOrigin() == null) {
+			exception.setOrigin(String.format("%s, line %d", getName(), templateElement.getLineNumber()));
+		}
+	}
+
+	/**
+	 * Returns all template elements of a template in document order, which is the order in which compiled templates
+	 * index them.
+	 *
+	 * @param template the template to return the template elements of
+	 * @return a list with all template elements of the given template
+	 * @throws AluminumException when the template elements can't be found
+	 */
+	public static List<TemplateElement> getTemplateElements(Template template) throws AluminumException {
+		List<TemplateElement> templateElements = new ArrayList<TemplateElement>();
+
+		addTemplateElements(template, null, templateElements);
+
+		return templateElements;
+	}
+
+	private static void addTemplateElements(Template template,
+			TemplateElement parent, List<TemplateElement> templateElements) throws AluminumException {
+		for (TemplateElement templateElement: template.getChildren(parent)) {
+			templateElements.add(templateElement);
+
+			addTemplateElements(template, templateElement, templateElements);
+		}
+	}
+}
\ No newline at end of file
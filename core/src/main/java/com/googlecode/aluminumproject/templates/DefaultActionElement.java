@@ -16,6 +16,7 @@
 package com.googlecode.aluminumproject.templates;
 
 import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.annotations.Reusable;
 import com.googlecode.aluminumproject.configuration.Configuration;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.interceptors.AbstractActionInterceptor;
@@ -27,18 +28,28 @@ import com.googlecode.aluminumproject.libraries.actions.ActionContributionFactor
 import com.googlecode.aluminumproject.libraries.actions.ActionFactory;
 import com.googlecode.aluminumproject.libraries.actions.ActionParameter;
 import com.googlecode.aluminumproject.libraries.actions.DefaultActionContributionOptions;
+import com.googlecode.aluminumproject.libraries.actions.Resettable;
+import com.googlecode.aluminumproject.libraries.actions.ReusableActionFactory;
 import com.googlecode.aluminumproject.utilities.Injector;
 import com.googlecode.aluminumproject.utilities.Injector.ClassBasedValueProvider;
 import com.googlecode.aluminumproject.utilities.TemplateUtilities;
 import com.googlecode.aluminumproject.writers.Writer;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 /**
  * The default {@link ActionElement action element} implementation.
+ * <p>
+ * Action elements without action contributions for which no action interceptors are configured don't need the
+ * interceptor pipeline of a {@link DefaultActionContext default action context}: they create, inject, and execute their
+ * action directly. When their action factory creates {@link Reusable reusable} (or {@link Resettable resettable})
+ * actions, the action is returned to a pool in the {@link TemplateInformation template information} after it has been
+ * executed and reused (after being reset, if necessary) the next time the action element is processed in the same
+ * render.
  */
 public class DefaultActionElement extends AbstractTemplateElement implements ActionElement {
 	private Configuration configuration;
@@ -51,6 +62,13 @@ public class DefaultActionElement extends AbstractTemplateElement implements Act
 
 	private List<ActionInterceptor> actionInterceptors;
 
+	private Injector actionInjector;
+	private Map<ActionContributionDescriptor, Injector> actionContributionInjectors;
+
+	private boolean intercepted;
+	private boolean reusingActions;
+	private Map<String, ActionParameter> unmodifiableParameters;
+
 	/**
 	 * Creates a default action element.
 	 *
@@ -78,6 +96,25 @@ public class DefaultActionElement extends AbstractTemplateElement implements Act
 		this.actionContributionFactories = actionContributionFactories;
 
 		this.actionInterceptors = actionInterceptors;
+
+		actionInjector = createInjector(actionDescriptor);
+		actionContributionInjectors = new HashMap<ActionContributionDescriptor, Injector>();
+
+		for (ActionContributionDescriptor descriptor: actionContributionFactories.keySet()) {
+			actionContributionInjectors.put(descriptor, createInjector(descriptor));
+		}
+
+		intercepted = !(actionContributionFactories.isEmpty() && actionInterceptors.isEmpty());
+		reusingActions = !intercepted && (actionFactory instanceof ReusableActionFactory)
+			&& ((ReusableActionFactory) actionFactory).createsReusableActions();
+		unmodifiableParameters = Collections.unmodifiableMap(parameters);
+	}
+
+	private static Injector createInjector(Object value) {
+		Injector injector = new Injector();
+		injector.addValueProvider(new ClassBasedValueProvider(value));
+
+		return injector;
 	}
 
 	public ActionDescriptor getDescriptor() {
@@ -85,7 +122,7 @@ public class DefaultActionElement extends AbstractTemplateElement implements Act
 	}
 
 	public Map<String, ActionParameter> getParameters() {
-		return Collections.unmodifiableMap(parameters);
+		return unmodifiableParameters;
 	}
 
 	public List<ActionContributionDescriptor> getContributionDescriptors() {
@@ -93,6 +130,36 @@ public class DefaultActionElement extends AbstractTemplateElement implements Act
 	}
 
 	protected void processAsCurrent(Context context, Writer writer) throws AluminumException {
+		if (intercepted) {
+			processWithInterceptors(context, writer);
+		} else if (reusingActions) {
+			processReusingAction(context, writer);
+		} else {
+			Action action = createAction(actionFactory, unmodifiableParameters, actionInjector, context);
+
+			executeAction(action, context, writer);
+		}
+	}
+
+	private void processReusingAction(Context context, Writer writer) throws AluminumException {
+		TemplateInformation templateInformation = TemplateInformation.from(context);
+
+		Action action = templateInformation.removeReusableAction(this);
+
+		if (action == null) {
+			action = createAction(actionFactory, unmodifiableParameters, actionInjector, context);
+		} else {
+			((ReusableActionFactory) actionFactory).reuse(action, unmodifiableParameters, context);
+
+			action.setParent(templateInformation.getCurrentAction());
+		}
+
+		executeAction(action, context, writer);
+
+		templateInformation.addReusableAction(this, action);
+	}
+
+	private void processWithInterceptors(Context context, Writer writer) throws AluminumException {
 		DefaultActionContext actionContext =
 			new DefaultActionContext(configuration, actionDescriptor, actionFactory, context, writer);
 
@@ -104,8 +171,8 @@ public class DefaultActionElement extends AbstractTemplateElement implements Act
 			actionContext.addActionContribution(descriptor, actionContributionFactories.get(descriptor));
 		}
 
-		actionContext.addInterceptor(new ContributionInterceptor());
-		actionContext.addInterceptor(new CreationInterceptor());
+		actionContext.addInterceptor(new ContributionInterceptor(actionContributionInjectors));
+		actionContext.addInterceptor(new CreationInterceptor(actionInjector));
 		actionContext.addInterceptor(new ExecutionInterceptor());
 
 		for (ActionInterceptor actionInterceptor: actionInterceptors) {
@@ -119,9 +186,36 @@ public class DefaultActionElement extends AbstractTemplateElement implements Act
 		}
 	}
 
+	private static Action createAction(ActionFactory actionFactory,
+			Map<String, ActionParameter> parameters, Injector injector, Context context) throws AluminumException {
+		Action action = actionFactory.create(parameters, context);
+
+		injector.inject(action);
+
+		TemplateInformation templateInformation = TemplateInformation.from(context);
+
+		action.setParent(templateInformation.getCurrentAction());
+		action.setBody(new TemplateBody(templateInformation.getCurrentTemplateElement()));
+
+		return action;
+	}
+
+	private static void executeAction(Action action, Context context, Writer writer) throws AluminumException {
+		TemplateInformation templateInformation = TemplateInformation.from(context);
+		templateInformation.addAction(action);
+
+		action.execute(context, writer);
+
+		templateInformation.removeCurrentAction();
+	}
+
 	private static class ContributionInterceptor extends AbstractActionInterceptor {
-		public ContributionInterceptor() {
+		private Map<ActionContributionDescriptor, Injector> injectors;
+
+		public ContributionInterceptor(Map<ActionContributionDescriptor, Injector> injectors) {
 			super(ActionPhase.CONTRIBUTION);
+
+			this.injectors = injectors;
 		}
 
 		public void intercept(ActionContext actionContext) throws AluminumException {
@@ -136,8 +230,12 @@ public class DefaultActionElement extends AbstractTemplateElement implements Act
 				ActionFactory actionFactory = actionContext.getActionFactory();
 
 				if (actionContribution.canBeMadeTo(actionFactory)) {
-					Injector injector = new Injector();
-					injector.addValueProvider(new ClassBasedValueProvider(descriptor));
+					Injector injector = injectors.get(descriptor);
+
+					if (injector == null) {
+						injector = createInjector(descriptor);
+					}
+
 					injector.inject(actionContribution);
 
 					ActionParameter parameter = descriptor.getParameter();
@@ -158,51 +256,24 @@ public class DefaultActionElement extends AbstractTemplateElement implements Act
 	}
 
 	private static class CreationInterceptor extends AbstractActionInterceptor {
-		public CreationInterceptor() {
+		private Injector injector;
+
+		public CreationInterceptor(Injector injector) {
 			super(ActionPhase.CREATION);
+
+			this.injector = injector;
 		}
 
 		public void intercept(ActionContext actionContext) throws AluminumException {
 			if (actionContext.getAction() == null) {
-				Action action =
-					actionContext.getActionFactory().create(actionContext.getParameters(), actionContext.getContext());
-
-				Injector injector = new Injector();
-				injector.addValueProvider(new ClassBasedValueProvider(actionContext.getActionDescriptor()));
-				injector.inject(action);
-
-				TemplateInformation templateInformation = TemplateInformation.from(actionContext.getContext());
-
-				action.setParent(templateInformation.getCurrentAction());
-				action.setBody(new TemplateBody(templateInformation.getCurrentTemplateElement()));
-
-				actionContext.setAction(action);
+				actionContext.setAction(createAction(actionContext.getActionFactory(),
+					actionContext.getParameters(), injector, actionContext.getContext()));
 
 				actionContext.proceed();
 			} else {
 				logger.debug("not creating action, since it is already available in the action context");
 			}
 		}
-
-		private static class TemplateBody implements ActionBody {
-			private TemplateElement currentTemplateElement;
-
-			public TemplateBody(TemplateElement currentTemplateElement) {
-				this.currentTemplateElement = currentTemplateElement;
-			}
-
-			public ActionBody copy() {
-				return new TemplateBody(currentTemplateElement);
-			}
-
-			public void invoke(Context context, Writer writer) throws AluminumException {
-				Template template = TemplateUtilities.findTemplate(currentTemplateElement, context);
-
-				for (TemplateElement templateElement: template.getChildren(currentTemplateElement)) {
-					templateElement.process(context, writer);
-				}
-			}
-		}
 	}
 
 	private static class ExecutionInterceptor extends AbstractActionInterceptor {
@@ -215,14 +286,27 @@ public class DefaultActionElement extends AbstractTemplateElement implements Act
 
 			logger.debug("executing action ", action);
 
-			TemplateInformation templateInformation = TemplateInformation.from(actionContext.getContext());
-			templateInformation.addAction(action);
+			executeAction(action, actionContext.getContext(), actionContext.getWriter());
 
-			action.execute(actionContext.getContext(), actionContext.getWriter());
+			actionContext.proceed();
+		}
+	}
 
-			templateInformation.removeCurrentAction();
+	private static class TemplateBody implements ActionBody {
+		private TemplateElement currentTemplateElement;
 
-			actionContext.proceed();
+		public TemplateBody(TemplateElement currentTemplateElement) {
+			this.currentTemplateElement = currentTemplateElement;
+		}
+
+		public ActionBody copy() {
+			return new TemplateBody(currentTemplateElement);
+		}
+
+		public void invoke(Context context, Writer writer) throws AluminumException {
+			Template template = TemplateUtilities.findTemplate(currentTemplateElement, context);
+
+			TemplateUtilities.processChildren(template, currentTemplateElement, context, writer);
 		}
 	}
 }
\ No newline at end of file
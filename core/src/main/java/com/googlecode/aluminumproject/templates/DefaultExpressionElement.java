@@ -17,6 +17,7 @@ package com.googlecode.aluminumproject.templates;
 
 import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.expressions.Expression;
 import com.googlecode.aluminumproject.expressions.ExpressionFactory;
 import com.googlecode.aluminumproject.utilities.Logger;
 import com.googlecode.aluminumproject.writers.Writer;
@@ -25,39 +26,60 @@ import java.util.Map;
 
 /**
  * The default {@link ExpressionElement expression element} implementation.
+ * <p>
+ * The expression is {@link ExpressionFactory#compile(String, Map) compiled} when the element is created; each time the
+ * element is processed, the compiled expression is evaluated.
  */
 public class DefaultExpressionElement extends AbstractTemplateElement implements ExpressionElement {
 	private ExpressionFactory expressionFactory;
+
 	private String text;
+	private Expression expression;
 
 	private final Logger logger;
 
 	/**
 	 * Creates a default expression element.
 	 *
-	 * @param expressionFactory the expression factory that will create the expression that gets evaluated
+	 * @param expressionFactory the expression factory that will compile the expression that gets evaluated
 	 * @param text the expression text
 	 * @param libraryUrlAbbreviations the expression element's library URL abbreviations
 	 * @param lineNumber the line number of the expression element
+	 * @throws AluminumException when the expression can't be compiled
 	 */
 	public DefaultExpressionElement(ExpressionFactory expressionFactory, String text,
-			Map<String, String> libraryUrlAbbreviations, int lineNumber) {
+			Map<String, String> libraryUrlAbbreviations, int lineNumber) throws AluminumException {
 		super(libraryUrlAbbreviations, lineNumber);
 
+		logger = Logger.get(getClass());
+
+		logger.debug("compiling expression '", text, "' using ", expressionFactory);
+
 		this.expressionFactory = expressionFactory;
-		this.text = text;
 
-		logger = Logger.get(getClass());
+		this.text = text;
+		expression = expressionFactory.compile(text, libraryUrlAbbreviations);
 	}
 
 	public String getText() {
 		return text;
 	}
 
-	public void processAsCurrent(Context context, Writer writer) throws AluminumException {
-		logger.debug("creating expression '", text, "' using ", expressionFactory);
+	public ExpressionFactory getExpressionFactory() {
+		return expressionFactory;
+	}
 
-		Object result = expressionFactory.create(text, context).evaluate(context);
+	/**
+	 * Returns the compiled expression of this expression element.
+	 *
+	 * @return the expression that is evaluated when this expression element is processed
+	 */
+	public Expression getExpression() {
+		return expression;
+	}
+
+	public void processAsCurrent(Context context, Writer writer) throws AluminumException {
+		Object result = expression.evaluate(context);
 
 		logger.debug("writing ", result);
 
@@ -31,6 +31,7 @@ import com.googlecode.aluminumproject.libraries.actions.ActionContribution;
 import com.googlecode.aluminumproject.libraries.actions.ActionContributionFactory;
 import com.googlecode.aluminumproject.libraries.actions.ActionFactory;
 import com.googlecode.aluminumproject.libraries.actions.ActionParameter;
+import com.googlecode.aluminumproject.libraries.actions.DefaultActionFactory;
 import com.googlecode.aluminumproject.utilities.ConfigurationUtilities;
 import com.googlecode.aluminumproject.utilities.Logger;
 import com.googlecode.aluminumproject.utilities.ReflectionUtilities;
@@ -55,6 +56,10 @@ import java.util.Set;
  * com.googlecode.aluminumproject.configuration.DefaultConfiguration#CONFIGURATION_ELEMENT_PACKAGES} that contains one
  * or more package names. All non-abstract action interceptors in these packages that are not annotated with {@link
  * Ignored &#64;Ignored} will be created and used.
+ * <p>
+ * The parameters of actions that are created by {@link DefaultActionFactory default action factories} are {@link
+ * DefaultActionFactory#prepareParameters(Map) prepared} when their action elements are created. This means that invalid
+ * constant parameters are reported while parsing a template, not while processing it.
  */
 public class DefaultTemplateElementFactory implements TemplateElementFactory {
 	private Configuration configuration;
@@ -151,6 +156,10 @@ public class DefaultTemplateElementFactory implements TemplateElementFactory {
 		ActionFactory actionFactory = findActionFactory(library, name);
 		logger.debug("found action factory for action with name '", name, "': ", actionFactory);
 
+		if (actionFactory instanceof DefaultActionFactory) {
+			parameters = ((DefaultActionFactory) actionFactory).prepareParameters(parameters);
+		}
+
 		Map<ActionContributionDescriptor, ActionContributionFactory> actionContributionFactories =
 			createActionContributionFactories(contributionDescriptors, libraryUrlAbbreviations);
 		logger.debug("created action contributions factories ",
@@ -298,7 +307,7 @@ public class DefaultTemplateElementFactory implements TemplateElementFactory {
 	}
 
 	public ExpressionElement createExpressionElement(ExpressionFactory expressionFactory, String text,
-			Map<String, String> libraryUrlAbbreviations, int lineNumber) {
+			Map<String, String> libraryUrlAbbreviations, int lineNumber) throws AluminumException {
 		logger.debug("creating expression element for text '", text, "'");
 
 		return new DefaultExpressionElement(expressionFactory, text, libraryUrlAbbreviations, lineNumber);
@@ -17,16 +17,25 @@ package com.googlecode.aluminumproject.templates;
 
 import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.writers.ByteWriter;
 import com.googlecode.aluminumproject.writers.Writer;
 
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
 import java.util.Map;
 
 /**
  * The default {@link TextElement text element} implementation.
+ * <p>
+ * When a default text element is processed with a {@link ByteWriter byte writer}, it writes its text as bytes. The text
+ * is encoded the first time it is needed in a certain charset; the encoded text is remembered, so that the same text
+ * isn't encoded each time the element is processed.
  */
 public class DefaultTextElement extends AbstractTemplateElement implements TextElement {
 	private String text;
 
+	private volatile EncodedText[] encodedTexts;
+
 	/**
 	 * Creates a default text element.
 	 *
@@ -38,13 +47,67 @@ public class DefaultTextElement extends AbstractTemplateElement implements TextE
 		super(libraryUrlAbbreviations, lineNumber);
 
 		this.text = text;
+
+		encodedTexts = new EncodedText[0];
 	}
 
 	public String getText() {
 		return text;
 	}
 
+	/**
+	 * Returns the text of this text element, encoded with a certain charset. The returned bytes are shared and should
+	 * therefore not be modified.
+	 *
+	 * @param charset the charset to encode the text with
+	 * @return the encoded text
+	 * @throws AluminumException when the text can't be encoded
+	 */
+	public byte[] getBytes(Charset charset) throws AluminumException {
+		EncodedText[] encodedTexts = this.encodedTexts;
+
+		byte[] bytes = null;
+
+		for (int i = 0; (bytes == null) && (i < encodedTexts.length); i++) {
+			if (encodedTexts[i].charset.equals(charset)) {
+				bytes = encodedTexts[i].bytes;
+			}
+		}
+
+		if (bytes == null) {
+			try {
+				bytes = text.getBytes(charset.name());
+			} catch (UnsupportedEncodingException exception) {
+				throw new AluminumException(exception, "can't encode text with charset ", charset);
+			}
+
+			EncodedText[] extendedEncodedTexts = new EncodedText[encodedTexts.length + 1];
+			System.arraycopy(encodedTexts, 0, extendedEncodedTexts, 0, encodedTexts.length);
+			extendedEncodedTexts[encodedTexts.length] = new EncodedText(charset, bytes);
+
+			this.encodedTexts = extendedEncodedTexts;
+		}
+
+		return bytes;
+	}
+
 	protected void processAsCurrent(Context context, Writer writer) throws AluminumException {
-		writer.write(text);
+		if (writer instanceof ByteWriter) {
+			ByteWriter byteWriter = (ByteWriter) writer;
+
+			byteWriter.writeBytes(getBytes(byteWriter.getCharset()));
+		} else {
+			writer.write(text);
+		}
+	}
+
+	private static class EncodedText {
+		private Charset charset;
+		private byte[] bytes;
+
+		public EncodedText(Charset charset, byte[] bytes) {
+			this.charset = charset;
+			this.bytes = bytes;
+		}
 	}
 }
\ No newline at end of file
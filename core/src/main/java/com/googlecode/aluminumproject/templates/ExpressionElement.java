@@ -15,6 +15,8 @@
  */
 package com.googlecode.aluminumproject.templates;
 
+import com.googlecode.aluminumproject.expressions.ExpressionFactory;
+
 /**
  * A template element that evaluates an expression and writes the result to the writer.
  */
@@ -25,4 +27,11 @@ public interface ExpressionElement extends TemplateElement {
 	 * @return the text of this expression element
 	 */
 	String getText();
+
+	/**
+	 * Returns the expression factory that compiled the expression of this template element.
+	 *
+	 * @return the expression factory of this expression element or {@code null} if it is unknown
+	 */
+	ExpressionFactory getExpressionFactory();
 }
\ No newline at end of file
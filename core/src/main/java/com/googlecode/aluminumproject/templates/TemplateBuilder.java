@@ -17,11 +17,13 @@ package com.googlecode.aluminumproject.templates;
 
 import com.googlecode.aluminumproject.AluminumException;
 
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * Builds a {@link Template template}.
@@ -33,12 +35,19 @@ import java.util.Map;
  * <p>
  * When all template elements have been added to the template builder, a template can be {@link #build() built}. After
  * that, the template builder should no longer be used.
+ * <p>
+ * Built templates are immutable: their template elements are stored in arrays, together with the index of each
+ * element's parent and the range of its children. Finding the parent or the children of a template element and
+ * checking whether a template contains a template element therefore take constant time.
  */
 public class TemplateBuilder {
 	private String name;
+	private Template replacedTemplate;
+
+	private List<TemplateElement> templateElements;
+	private int[] parentIndices;
 
-	private TemplateElements templateElements;
-	private TemplateElement currentTemplateElement;
+	private int currentIndex;
 
 	private boolean built;
 
@@ -48,9 +57,28 @@ public class TemplateBuilder {
 	 * @param name the name of the template to build
 	 */
 	public TemplateBuilder(String name) {
+		this(name, null);
+	}
+
+	/**
+	 * Creates a template builder that builds a replacement for an existing template (e.g. an optimised version of it).
+	 * The template elements of the replaced template that are added to this builder will belong to the built template,
+	 * so the replaced template should no longer be used once the new template has been built.
+	 *
+	 * @param replacedTemplate the template that the built template will replace
+	 */
+	public TemplateBuilder(Template replacedTemplate) {
+		this(replacedTemplate.getName(), replacedTemplate);
+	}
+
+	private TemplateBuilder(String name, Template replacedTemplate) {
 		this.name = name;
+		this.replacedTemplate = replacedTemplate;
+
+		templateElements = new ArrayList<TemplateElement>();
+		parentIndices = new int[16];
 
-		templateElements = new TemplateElements();
+		currentIndex = ROOT_INDEX;
 	}
 
 	/**
@@ -62,9 +90,19 @@ public class TemplateBuilder {
 	public void addTemplateElement(TemplateElement templateElement) throws AluminumException {
 		ensureNotBuilt();
 
-		templateElements.addTemplateElement(currentTemplateElement, templateElement);
+		int index = templateElements.size();
 
-		currentTemplateElement = templateElement;
+		if (index == parentIndices.length) {
+			int[] extendedParentIndices = new int[2 * index];
+			System.arraycopy(parentIndices, 0, extendedParentIndices, 0, index);
+
+			parentIndices = extendedParentIndices;
+		}
+
+		templateElements.add(templateElement);
+		parentIndices[index] = currentIndex;
+
+		currentIndex = index;
 	}
 
 	/**
@@ -76,7 +114,11 @@ public class TemplateBuilder {
 	public void restoreCurrentTemplateElement() throws AluminumException {
 		ensureNotBuilt();
 
-		currentTemplateElement = templateElements.getParent(currentTemplateElement);
+		if (currentIndex == ROOT_INDEX) {
+			throw new AluminumException("can't restore template element - no template element has been added");
+		}
+
+		currentIndex = parentIndices[currentIndex];
 	}
 
 	/**
@@ -89,7 +131,8 @@ public class TemplateBuilder {
 
 		built = true;
 
-		return new BuiltTemplate(name, templateElements);
+		return new BuiltTemplate(name,
+			templateElements.toArray(new TemplateElement[templateElements.size()]), parentIndices, replacedTemplate);
 	}
 
 	private void ensureNotBuilt() throws AluminumException {
@@ -98,77 +141,83 @@ public class TemplateBuilder {
 		}
 	}
 
+	/** The index that is used for the (virtual) parent of the root template elements. */
+	final static int ROOT_INDEX = -1;
+
+	/** The index that is used for template elements that are not part of a template. */
+	final static int UNKNOWN_INDEX = -2;
+
 	/**
-	 * Contains the template elements that were added to the {@link TemplateBuilder template builder}.
+	 * The template that is built by the {@link TemplateBuilder template builder}.
+	 * <p>
+	 * The template elements are kept in the order in which they were added. The children of all template elements are
+	 * kept in a second array, grouped by parent; the children of a template element are found using the offsets of its
+	 * group. Template elements that extend {@link AbstractTemplateElement} are told the template and index they belong
+	 * to, so that their index can be found without any lookups. The indices of other template elements are kept in an
+	 * identity map.
+	 * <p>
+	 * Built templates can be extended by {@link CompiledTemplate compiled templates}, which process the children of
+	 * their template elements themselves.
 	 */
-	private static class TemplateElements {
-		private Map<TemplateElement, List<TemplateElement>> templateElements;
+	static class BuiltTemplate implements Template {
+		private String name;
 
-		/**
-		 * Creates template elements.
-		 */
-		public TemplateElements() {
-			templateElements = new LinkedHashMap<TemplateElement, List<TemplateElement>>();
+		TemplateElement[] templateElements;
+		private int[] parentIndices;
 
-			addTemplateElements(null);
-		}
+		private TemplateElement[] children;
+		private int[] childOffsets;
 
-		private void addTemplateElement(TemplateElement parentTemplateElement, TemplateElement templateElement) {
-			templateElements.get(parentTemplateElement).add(templateElement);
+		private Map<TemplateElement, Integer> indices;
 
-			addTemplateElements(templateElement);
-		}
+		public BuiltTemplate(String name,
+				TemplateElement[] templateElements, int[] parentIndices, Template replacedTemplate) {
+			this.name = name;
 
-		private void addTemplateElements(TemplateElement parentTemplateElement) {
-			templateElements.put(parentTemplateElement, new LinkedList<TemplateElement>());
-		}
+			this.templateElements = templateElements;
+			this.parentIndices = new int[templateElements.length];
+			System.arraycopy(parentIndices, 0, this.parentIndices, 0, templateElements.length);
 
-		private boolean contains(TemplateElement templateElement) {
-			return templateElements.containsKey(templateElement);
+			groupChildren();
+			assignIndices(replacedTemplate);
 		}
 
-		private TemplateElement getParent(TemplateElement templateElement) throws AluminumException {
-			Iterator<Map.Entry<TemplateElement, List<TemplateElement>>> it = templateElements.entrySet().iterator();
-
-			TemplateElement parentTemplateElement = null;
-			boolean parentTemplateElementFound = false;
+		private void groupChildren() {
+			childOffsets = new int[templateElements.length + 2];
 
-			while (it.hasNext() && !parentTemplateElementFound) {
-				Map.Entry<TemplateElement, List<TemplateElement>> templateElementWithChildren = it.next();
-
-				if (parentTemplateElementFound = templateElementWithChildren.getValue().contains(templateElement)) {
-					parentTemplateElement = templateElementWithChildren.getKey();
-				}
+			for (int parentIndex: parentIndices) {
+				childOffsets[parentIndex + 2]++;
 			}
 
-			if (parentTemplateElementFound) {
-				return parentTemplateElement;
-			} else {
-				throw new AluminumException("element ", templateElement, " could not be found");
+			for (int i = 2; i < childOffsets.length; i++) {
+				childOffsets[i] += childOffsets[i - 1];
 			}
-		}
 
-		private List<TemplateElement> getChildren(TemplateElement templateElement) throws AluminumException {
-			if (templateElements.containsKey(templateElement)) {
-				return templateElements.get(templateElement);
-			} else {
-				throw new AluminumException("element ", templateElement, " could not be found");
+			children = new TemplateElement[templateElements.length];
+
+			for (int i = 0; i < templateElements.length; i++) {
+				children[childOffsets[parentIndices[i] + 1]++] = templateElements[i];
 			}
+
+			System.arraycopy(childOffsets, 0, childOffsets, 1, childOffsets.length - 1);
+			childOffsets[0] = 0;
 		}
-	}
 
-	/**
-	 * The template that is built by the {@link TemplateBuilder template builder}.
-	 */
-	private static class BuiltTemplate implements Template {
-		private String name;
+		private void assignIndices(Template replacedTemplate) {
+			indices = Collections.emptyMap();
 
-		private TemplateElements templateElements;
+			for (int i = 0; i < templateElements.length; i++) {
+				TemplateElement templateElement = templateElements[i];
 
-		public BuiltTemplate(String name, TemplateElements templateElements) {
-			this.name = name;
+				if (!((templateElement instanceof AbstractTemplateElement)
+						&& ((AbstractTemplateElement) templateElement).setTemplate(this, i, replacedTemplate))) {
+					if (indices.isEmpty()) {
+						indices = new IdentityHashMap<TemplateElement, Integer>();
+					}
 
-			this.templateElements = templateElements;
+					indices.put(templateElement, i);
+				}
+			}
 		}
 
 		public String getName() {
@@ -176,15 +225,80 @@ public class TemplateBuilder {
 		}
 
 		public boolean contains(TemplateElement templateElement) {
-			return templateElements.contains(templateElement);
+			return getIndex(templateElement) != UNKNOWN_INDEX;
 		}
 
 		public TemplateElement getParent(TemplateElement templateElement) throws AluminumException {
-			return templateElements.getParent(templateElement);
+			int index = getIndex(templateElement);
+
+			if (index < 0) {
+				throw new AluminumException("element ", templateElement, " could not be found");
+			}
+
+			int parentIndex = parentIndices[index];
+
+			return (parentIndex == ROOT_INDEX) ? null : templateElements[parentIndex];
 		}
 
 		public List<TemplateElement> getChildren(TemplateElement templateElement) throws AluminumException {
-			return templateElements.getChildren(templateElement);
+			int index = getIndex(templateElement);
+
+			if (index == UNKNOWN_INDEX) {
+				throw new AluminumException("element ", templateElement, " could not be found");
+			}
+
+			int fromIndex = childOffsets[index + 1];
+			int toIndex = childOffsets[index + 2];
+
+			if (fromIndex == toIndex) {
+				return Collections.emptyList();
+			} else {
+				return new Children(fromIndex, toIndex);
+			}
+		}
+
+		int getIndex(TemplateElement templateElement) {
+			int index;
+
+			if (templateElement == null) {
+				index = ROOT_INDEX;
+			} else if ((templateElement instanceof AbstractTemplateElement)
+					&& (((AbstractTemplateElement) templateElement).getTemplate() == this)) {
+				index = ((AbstractTemplateElement) templateElement).getTemplateIndex();
+			} else {
+				Integer storedIndex = indices.get(templateElement);
+
+				index = (storedIndex == null) ? UNKNOWN_INDEX : storedIndex;
+			}
+
+			return index;
+		}
+
+		/**
+		 * An unmodifiable view of the children of a template element.
+		 */
+		private class Children extends AbstractList<TemplateElement> implements RandomAccess {
+			private int fromIndex;
+			private int toIndex;
+
+			public Children(int fromIndex, int toIndex) {
+				this.fromIndex = fromIndex;
+				this.toIndex = toIndex;
+			}
+
+			@Override
+			public TemplateElement get(int index) {
+				if ((index < 0) || (index >= size())) {
+					throw new IndexOutOfBoundsException(String.valueOf(index));
+				}
+
+				return children[fromIndex + index];
+			}
+
+			@Override
+			public int size() {
+				return toIndex - fromIndex;
+			}
 		}
 	}
 }
\ No newline at end of file
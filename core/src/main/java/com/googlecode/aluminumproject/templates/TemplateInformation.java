@@ -16,31 +16,39 @@
 package com.googlecode.aluminumproject.templates;
 
 import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.context.AbstractContext;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.libraries.actions.Action;
-import com.googlecode.aluminumproject.utilities.Logger;
 
-import java.util.Stack;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Information about a template that is being processed. It is available as an implicit object in a {@link Context
- * context} and can be obtained using a {@link #from(Context) convenience method}.
+ * Information about a template that is being processed. It is kept in a {@link Context context} and can be obtained
+ * using a {@link #from(Context) convenience method}.
+ * <p>
+ * Template information also contains the pools of reusable actions, which therefore live as long as the context of a
+ * single render. Template information is meant to be used by a single thread: the stacks of template elements and
+ * actions and the pools of reusable actions are not synchronised.
  */
 public class TemplateInformation {
 	private Template template;
 
 	private String parser;
 
-	private Stack<TemplateElement> templateElements;
-	private Stack<Action> actions;
+	private TemplateElement[] templateElements;
+	private int templateElementCount;
 
-	private final Logger logger;
+	private Action[] actions;
+	private int actionCount;
 
-	private TemplateInformation() {
-		templateElements = new Stack<TemplateElement>();
-		actions = new Stack<Action>();
+	private Map<TemplateElement, List<Action>> reusableActions;
 
-		logger = Logger.get(getClass());
+	private TemplateInformation() {
+		templateElements = new TemplateElement[INITIAL_STACK_SIZE];
+		actions = new Action[INITIAL_STACK_SIZE];
 	}
 
 	/**
@@ -79,9 +87,14 @@ public class TemplateInformation {
 	 * @param templateElement the template element to add
 	 */
 	public void addTemplateElement(TemplateElement templateElement) {
-		logger.debug("adding template element ", templateElement, " to template information");
+		if (templateElementCount == templateElements.length) {
+			TemplateElement[] extendedTemplateElements = new TemplateElement[templateElementCount * 2];
+			System.arraycopy(templateElements, 0, extendedTemplateElements, 0, templateElementCount);
+
+			templateElements = extendedTemplateElements;
+		}
 
-		templateElements.push(templateElement);
+		templateElements[templateElementCount++] = templateElement;
 	}
 
 	/**
@@ -90,7 +103,7 @@ public class TemplateInformation {
 	 * @return the current template element or {@code null} if there is no template element being processed
 	 */
 	public TemplateElement getCurrentTemplateElement() {
-		return templateElements.isEmpty() ? null : templateElements.peek();
+		return (templateElementCount == 0) ? null : templateElements[templateElementCount - 1];
 	}
 
 	/**
@@ -99,12 +112,10 @@ public class TemplateInformation {
 	 * @throws AluminumException when there is no template element to remove
 	 */
 	public void removeCurrentTemplateElement() throws AluminumException {
-		if (templateElements.isEmpty()) {
+		if (templateElementCount == 0) {
 			throw new AluminumException("there is no current template element");
 		} else {
-			TemplateElement templateElement = templateElements.pop();
-
-			logger.debug("removed template element ", templateElement, " from template information");
+			templateElements[--templateElementCount] = null;
 		}
 	}
 
@@ -114,9 +125,14 @@ public class TemplateInformation {
 	 * @param action the action to add
 	 */
 	public void addAction(Action action) {
-		logger.debug("adding action ", action, " to template information");
+		if (actionCount == actions.length) {
+			Action[] extendedActions = new Action[actionCount * 2];
+			System.arraycopy(actions, 0, extendedActions, 0, actionCount);
+
+			actions = extendedActions;
+		}
 
-		actions.push(action);
+		actions[actionCount++] = action;
 	}
 
 	/**
@@ -125,7 +141,7 @@ public class TemplateInformation {
 	 * @return the current action or {@code null} if there is no action executing
 	 */
 	public Action getCurrentAction() {
-		return actions.isEmpty() ? null : actions.peek();
+		return (actionCount == 0) ? null : actions[actionCount - 1];
 	}
 
 	/**
@@ -134,30 +150,86 @@ public class TemplateInformation {
 	 * @throws AluminumException when there is no action to remove
 	 */
 	public void removeCurrentAction() throws AluminumException {
-		if (actions.isEmpty()) {
+		if (actionCount == 0) {
 			throw new AluminumException("there is no current action");
 		} else {
-			Action action = actions.pop();
+			actions[--actionCount] = null;
+		}
+	}
+
+	/**
+	 * Returns an action to the pool of reusable actions of a certain template element, so that it may be reused the
+	 * next time the template element is processed. A template element can have more than one reusable action (when it
+	 * is processed recursively, for example); they are reused in reverse order.
+	 *
+	 * @param templateElement the template element that created the action
+	 * @param action the reusable action
+	 */
+	public void addReusableAction(TemplateElement templateElement, Action action) {
+		if (reusableActions == null) {
+			reusableActions = new IdentityHashMap<TemplateElement, List<Action>>();
+		}
+
+		List<Action> pool = reusableActions.get(templateElement);
 
-			logger.debug("removed action ", action, " from template information");
+		if (pool == null) {
+			pool = new ArrayList<Action>(1);
+
+			reusableActions.put(templateElement, pool);
 		}
+
+		pool.add(action);
+	}
+
+	/**
+	 * Takes a reusable action of a template element from its pool, so that it won't be reused by someone else while it
+	 * is in use.
+	 *
+	 * @param templateElement the template element to remove a reusable action of
+	 * @return a reusable action of the given template element or {@code null} if its pool is empty
+	 */
+	public Action removeReusableAction(TemplateElement templateElement) {
+		List<Action> pool = (reusableActions == null) ? null : reusableActions.get(templateElement);
+
+		return ((pool == null) || pool.isEmpty()) ? null : pool.remove(pool.size() - 1);
 	}
 
 	/**
-	 * Finds a template information implicit object in a certain context and creates it if it does not yet exist.
+	 * Finds the template information in a certain context and creates it if it does not yet exist.
+	 * <p>
+	 * When the context is an {@link AbstractContext abstract context}, the template information is kept in a field of
+	 * the context; other contexts store it as an implicit object.
 	 *
 	 * @param context the context to search in
 	 * @return the (possibly new) template information in the given context
 	 * @throws AluminumException when the template information can't be obtained
 	 */
 	public static TemplateInformation from(Context context) throws AluminumException {
-		if (!context.getImplicitObjectNames().contains(TEMPLATE_INFORMATION)) {
-			context.addImplicitObject(TEMPLATE_INFORMATION, new TemplateInformation());
+		TemplateInformation templateInformation;
+
+		if (context instanceof AbstractContext) {
+			AbstractContext abstractContext = (AbstractContext) context;
+
+			templateInformation = abstractContext.getTemplateInformation();
+
+			if (templateInformation == null) {
+				templateInformation = new TemplateInformation();
+
+				abstractContext.setTemplateInformation(templateInformation);
+			}
+		} else {
+			if (!context.getImplicitObjectNames().contains(TEMPLATE_INFORMATION)) {
+				context.addImplicitObject(TEMPLATE_INFORMATION, new TemplateInformation());
+			}
+
+			templateInformation = (TemplateInformation) context.getImplicitObject(TEMPLATE_INFORMATION);
 		}
 
-		return (TemplateInformation) context.getImplicitObject(TEMPLATE_INFORMATION);
+		return templateInformation;
 	}
 
+	private final static int INITIAL_STACK_SIZE = 16;
+
 	private final static String TEMPLATE_INFORMATION =
 		Context.RESERVED_IMPLICIT_OBJECT_NAME_PREFIX + ".template_information";
 }
\ No newline at end of file
@@ -20,8 +20,10 @@ import com.googlecode.aluminumproject.cache.Cache;
 import com.googlecode.aluminumproject.configuration.Configuration;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.context.ContextEnricher;
+import com.googlecode.aluminumproject.optimisers.TemplateOptimiser;
 import com.googlecode.aluminumproject.parsers.Parser;
 import com.googlecode.aluminumproject.utilities.Logger;
+import com.googlecode.aluminumproject.utilities.TemplateUtilities;
 import com.googlecode.aluminumproject.writers.Writer;
 
 import java.util.Map;
@@ -31,6 +33,12 @@ import java.util.Map;
  * <p>
  * All configured {@link ContextEnricher context enrichers} are given the opportunity to change the context before and
  * after the template is processed.
+ * <p>
+ * When a {@link Cache cache} is configured, templates are {@link Cache#findTemplate(Cache.Key, Cache.Loader) loaded
+ * through it}, so that a template that is requested by several threads at the same time is parsed only once. Parsed
+ * templates are {@link TemplateOptimiser#optimise(Template) optimised} (when a template optimiser is configured) before
+ * they are cached. An optimiser may replace a template by a {@link CompiledTemplate compiled template}, which
+ * processes its template elements itself.
  */
 public class TemplateProcessor {
 	private Configuration configuration;
@@ -60,13 +68,7 @@ public class TemplateProcessor {
 	public void processTemplate(String name, String parser, Context context, Writer writer) throws AluminumException {
 		logger.debug("processing template '", name, "'");
 
-		Template template = findTemplateInCache(name, parser);
-
-		if (template == null) {
-			template = parseTemplate(name, parser);
-
-			storeTemplateInCache(name, parser, template);
-		}
+		Template template = findTemplate(name, parser);
 
 		TemplateInformation.from(context).setTemplate(template, parser);
 
@@ -74,9 +76,7 @@ public class TemplateProcessor {
 			contextEnricher.beforeTemplate(context);
 		}
 
-		for (TemplateElement templateElement: template.getChildren(null)) {
-			templateElement.process(context, writer);
-		}
+		TemplateUtilities.processChildren(template, null, context, writer);
 
 		for (ContextEnricher contextEnricher: configuration.getContextEnrichers()) {
 			contextEnricher.afterTemplate(context);
@@ -85,45 +85,51 @@ public class TemplateProcessor {
 		logger.debug("finished processing template '", name, "'");
 	}
 
-	private Template findTemplateInCache(String name, String parser) throws AluminumException {
-		Template template;
-
+	private Template findTemplate(String name, String parser) throws AluminumException {
 		Cache cache = configuration.getCache();
 
 		if (cache == null) {
-			logger.debug("no cache configured, can't find template");
+			logger.debug("no cache configured, parsing template");
 
-			template = null;
+			return parseTemplate(name, parser);
 		} else {
 			logger.debug("finding template in cache");
 
-			template = cache.findTemplate(new Cache.Key(name, parser));
-		}
+			return cache.findTemplate(new Cache.Key(name, parser), new Cache.Loader() {
+				public Template loadTemplate(Cache.Key key) throws AluminumException {
+					return parseTemplate(key.getName(), key.getParser());
+				}
 
-		return template;
+				public long getVersion(Cache.Key key) throws AluminumException {
+					return findParser(key.getParser()).getTemplateVersion(key.getName());
+				}
+			});
+		}
 	}
 
-	private void storeTemplateInCache(String name, String parser, Template template) throws AluminumException {
-		Cache cache = configuration.getCache();
+	private Template parseTemplate(String name, String parser) throws AluminumException {
+		logger.debug("parsing template '", name, "' with parser '", parser, "'");
 
-		if (cache == null) {
-			logger.debug("no cache configured, can't store template");
-		} else {
-			logger.debug("storing template in cache");
+		Template template = findParser(parser).parseTemplate(name);
+
+		TemplateOptimiser templateOptimiser = configuration.getTemplateOptimiser();
+
+		if (templateOptimiser != null) {
+			logger.debug("optimising template '", name, "'");
 
-			cache.storeTemplate(new Cache.Key(name, parser), template);
+			template = templateOptimiser.optimise(template);
 		}
-	}
 
-	private Template parseTemplate(String name, String parser) throws AluminumException {
-		logger.debug("parsing template '", name, "' with parser '", parser, "'");
+		return template;
+	}
 
+	private Parser findParser(String name) throws AluminumException {
 		Map<String, Parser> parsers = configuration.getParsers();
 
-		if (parsers.containsKey(parser)) {
-			return parsers.get(parser).parseTemplate(name);
+		if (parsers.containsKey(name)) {
+			return parsers.get(name);
 		} else {
-			throw new AluminumException("unknown parser: ", parser);
+			throw new AluminumException("unknown parser: ", name);
 		}
 	}
 }
\ No newline at end of file
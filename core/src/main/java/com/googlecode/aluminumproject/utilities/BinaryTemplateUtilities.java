@@ -0,0 +1,476 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.utilities;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.converters.ConverterRegistry;
+import com.googlecode.aluminumproject.expressions.ExpressionFactory;
+import com.googlecode.aluminumproject.expressions.ExpressionOccurrence;
+import com.googlecode.aluminumproject.libraries.actions.ActionParameter;
+import com.googlecode.aluminumproject.libraries.actions.CompoundActionParameter;
+import com.googlecode.aluminumproject.libraries.actions.ConstantActionParameter;
+import com.googlecode.aluminumproject.libraries.actions.ExpressionActionParameter;
+import com.googlecode.aluminumproject.templates.ActionContributionDescriptor;
+import com.googlecode.aluminumproject.templates.ActionDescriptor;
+import com.googlecode.aluminumproject.templates.ActionElement;
+import com.googlecode.aluminumproject.templates.ExpressionElement;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.templates.TemplateBuilder;
+import com.googlecode.aluminumproject.templates.TemplateElement;
+import com.googlecode.aluminumproject.templates.TemplateElementFactory;
+import com.googlecode.aluminumproject.templates.TextElement;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Writes {@link Template templates} in a compact binary format and reads them back.
+ * <p>
+ * The binary format starts with a magic number ({@value #MAGIC_NUMBER}) and the format version ({@value
+ * #FORMAT_VERSION}), followed by the template elements of the template, depth first. Strings are prefixed with their
+ * length and are written only once: the reader builds a string table, so that later occurrences can refer to the first
+ * one by index.
+ * <p>
+ * Besides the texts of template elements and action parameters, the format contains their structure: whether an action
+ * parameter is constant, an expression or a compound parameter and which {@link ExpressionFactory expression factory}
+ * compiled each expression. This means that reading a template does not involve looking for expressions in texts; it
+ * does require a {@link Configuration configuration} that contains the same expression factories as the one that was
+ * used when the template was parsed.
+ * <p>
+ * Template elements that are neither {@link ActionElement action elements}, {@link TextElement text elements} nor
+ * {@link ExpressionElement expression elements} can't be written.
+ */
+public class BinaryTemplateUtilities {
+	private BinaryTemplateUtilities() {}
+
+	/**
+	 * Writes a template in the binary format.
+	 *
+	 * @param template the template to write
+	 * @param out the output to write the template to
+	 * @throws AluminumException when the template contains an unsupported template element or can't be written
+	 */
+	public static void writeTemplate(Template template, DataOutput out) throws AluminumException {
+		try {
+			out.writeInt(MAGIC_NUMBER);
+			out.writeInt(FORMAT_VERSION);
+
+			new TemplateWriter(template, out).writeChildren(null);
+		} catch (IOException exception) {
+			throw new AluminumException(exception, "can't write template ", template.getName());
+		}
+	}
+
+	/**
+	 * Reads a template that was {@link #writeTemplate(Template, DataOutput) written} in the binary format.
+	 *
+	 * @param name the name of the template
+	 * @param in the input to read the template from
+	 * @param configuration the configuration to create the template elements with
+	 * @return the template that was read
+	 * @throws AluminumException when the input does not contain a template in the current format or when the template
+	 *                           can't be read
+	 */
+	public static Template readTemplate(
+			String name, DataInput in, Configuration configuration) throws AluminumException {
+		try {
+			if (in.readInt() != MAGIC_NUMBER) {
+				throw new AluminumException("the input does not contain a binary template");
+			}
+
+			int formatVersion = in.readInt();
+
+			if (formatVersion != FORMAT_VERSION) {
+				throw new AluminumException("unsupported format version: ", formatVersion);
+			}
+
+			TemplateBuilder templateBuilder = new TemplateBuilder(name);
+			new TemplateReader(in, configuration).readChildren(templateBuilder);
+
+			return templateBuilder.build();
+		} catch (IOException exception) {
+			throw new AluminumException(exception, "can't read template '", name, "'");
+		}
+	}
+
+	private static class TemplateWriter {
+		private Template template;
+		private DataOutput out;
+
+		private Map<String, Integer> strings;
+
+		public TemplateWriter(Template template, DataOutput out) {
+			this.template = template;
+			this.out = out;
+
+			strings = new HashMap<String, Integer>();
+		}
+
+		public void writeChildren(TemplateElement parent) throws AluminumException, IOException {
+			List<TemplateElement> children = template.getChildren(parent);
+
+			out.writeInt(children.size());
+
+			for (TemplateElement child: children) {
+				writeTemplateElement(child);
+			}
+		}
+
+		private void writeTemplateElement(TemplateElement templateElement) throws AluminumException, IOException {
+			if (templateElement instanceof ActionElement) {
+				out.writeByte(ACTION_ELEMENT);
+
+				writeActionElement((ActionElement) templateElement);
+			} else if (templateElement instanceof TextElement) {
+				out.writeByte(TEXT_ELEMENT);
+
+				writeString(((TextElement) templateElement).getText());
+			} else if (templateElement instanceof ExpressionElement) {
+				ExpressionElement expressionElement = (ExpressionElement) templateElement;
+
+				out.writeByte(EXPRESSION_ELEMENT);
+
+				writeExpressionFactory(expressionElement.getExpressionFactory());
+				writeString(expressionElement.getText());
+			} else {
+				throw new AluminumException("can't write template element ", templateElement);
+			}
+
+			out.writeInt(templateElement.getLineNumber());
+
+			Map<String, String> libraryUrlAbbreviations = templateElement.getLibraryUrlAbbreviations();
+
+			out.writeInt(libraryUrlAbbreviations.size());
+
+			for (Map.Entry<String, String> libraryUrlAbbreviation: libraryUrlAbbreviations.entrySet()) {
+				writeString(libraryUrlAbbreviation.getKey());
+				writeString(libraryUrlAbbreviation.getValue());
+			}
+
+			writeChildren(templateElement);
+		}
+
+		private void writeActionElement(ActionElement actionElement) throws IOException {
+			ActionDescriptor descriptor = actionElement.getDescriptor();
+
+			writeString(descriptor.getLibraryUrlAbbreviation());
+			writeString(descriptor.getName());
+
+			Map<String, ActionParameter> parameters = actionElement.getParameters();
+
+			out.writeInt(parameters.size());
+
+			for (Map.Entry<String, ActionParameter> parameter: parameters.entrySet()) {
+				writeString(parameter.getKey());
+				writeParameter(parameter.getValue());
+			}
+
+			List<ActionContributionDescriptor> contributionDescriptors = actionElement.getContributionDescriptors();
+
+			out.writeInt(contributionDescriptors.size());
+
+			for (ActionContributionDescriptor contributionDescriptor: contributionDescriptors) {
+				writeString(contributionDescriptor.getLibraryUrlAbbreviation());
+				writeString(contributionDescriptor.getName());
+				writeParameter(contributionDescriptor.getParameter());
+			}
+		}
+
+		private void writeParameter(ActionParameter parameter) throws IOException {
+			if (parameter instanceof ConstantActionParameter) {
+				out.writeByte(CONSTANT_PARAMETER);
+
+				writeString(parameter.getText());
+			} else if (parameter instanceof ExpressionActionParameter) {
+				out.writeByte(EXPRESSION_PARAMETER);
+
+				writeExpressionFactory(((ExpressionActionParameter) parameter).getExpressionFactory());
+				writeString(parameter.getText());
+			} else if (parameter instanceof CompoundActionParameter) {
+				List<ActionParameter> parameters = ((CompoundActionParameter) parameter).getParameters();
+
+				out.writeByte(COMPOUND_PARAMETER);
+				out.writeInt(parameters.size());
+
+				for (ActionParameter compoundParameter: parameters) {
+					writeParameter(compoundParameter);
+				}
+			} else {
+				out.writeByte(SOURCE_PARAMETER);
+
+				writeString(parameter.getText());
+			}
+		}
+
+		private void writeExpressionFactory(ExpressionFactory expressionFactory) throws IOException {
+			writeString((expressionFactory == null) ? null : expressionFactory.getClass().getName());
+		}
+
+		private void writeString(String value) throws IOException {
+			if (value == null) {
+				out.writeInt(NULL_STRING);
+			} else if (strings.containsKey(value)) {
+				out.writeInt(strings.get(value));
+			} else {
+				strings.put(value, strings.size());
+
+				out.writeInt(NEW_STRING);
+
+				byte[] bytes = value.getBytes("UTF-8");
+
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+		}
+	}
+
+	private static class TemplateReader {
+		private DataInput in;
+
+		private Configuration configuration;
+		private ConverterRegistry converterRegistry;
+		private TemplateElementFactory templateElementFactory;
+
+		private List<String> strings;
+		private Map<String, ExpressionFactory> expressionFactories;
+
+		public TemplateReader(DataInput in, Configuration configuration) throws AluminumException {
+			this.in = in;
+
+			this.configuration = configuration;
+			converterRegistry = configuration.getConverterRegistry();
+			templateElementFactory = configuration.getTemplateElementFactory();
+
+			strings = new ArrayList<String>();
+			expressionFactories = new HashMap<String, ExpressionFactory>();
+
+			for (ExpressionFactory expressionFactory: configuration.getExpressionFactories()) {
+				expressionFactories.put(expressionFactory.getClass().getName(), expressionFactory);
+			}
+		}
+
+		public void readChildren(TemplateBuilder templateBuilder) throws AluminumException, IOException {
+			int childCount = in.readInt();
+
+			for (int i = 0; i < childCount; i++) {
+				readTemplateElement(templateBuilder);
+			}
+		}
+
+		private void readTemplateElement(TemplateBuilder templateBuilder) throws AluminumException, IOException {
+			byte type = in.readByte();
+
+			ActionDescriptor actionDescriptor = null;
+			Map<String, ParameterReader> parameters = new LinkedHashMap<String, ParameterReader>();
+			List<String[]> contributionNames = new ArrayList<String[]>();
+			List<ParameterReader> contributionParameters = new ArrayList<ParameterReader>();
+
+			String expressionFactoryName = null;
+			String text = null;
+
+			if (type == ACTION_ELEMENT) {
+				actionDescriptor = new ActionDescriptor(readString(), readString());
+
+				int parameterCount = in.readInt();
+
+				for (int i = 0; i < parameterCount; i++) {
+					parameters.put(readString(), readParameter());
+				}
+
+				int contributionCount = in.readInt();
+
+				for (int i = 0; i < contributionCount; i++) {
+					contributionNames.add(new String[] {readString(), readString()});
+					contributionParameters.add(readParameter());
+				}
+			} else if (type == TEXT_ELEMENT) {
+				text = readString();
+			} else if (type == EXPRESSION_ELEMENT) {
+				expressionFactoryName = readString();
+				text = readString();
+			} else {
+				throw new AluminumException("unknown template element type: ", type);
+			}
+
+			int lineNumber = in.readInt();
+
+			Map<String, String> libraryUrlAbbreviations = new HashMap<String, String>();
+
+			int libraryUrlAbbreviationCount = in.readInt();
+
+			for (int i = 0; i < libraryUrlAbbreviationCount; i++) {
+				libraryUrlAbbreviations.put(readString(), readString());
+			}
+
+			TemplateElement templateElement;
+
+			if (type == ACTION_ELEMENT) {
+				Map<String, ActionParameter> actionParameters = new LinkedHashMap<String, ActionParameter>();
+
+				for (Map.Entry<String, ParameterReader> parameter: parameters.entrySet()) {
+					actionParameters.put(parameter.getKey(), parameter.getValue().create(libraryUrlAbbreviations));
+				}
+
+				List<ActionContributionDescriptor> contributionDescriptors =
+					new LinkedList<ActionContributionDescriptor>();
+
+				for (int i = 0; i < contributionNames.size(); i++) {
+					String[] contributionName = contributionNames.get(i);
+
+					contributionDescriptors.add(new ActionContributionDescriptor(contributionName[0],
+						contributionName[1], contributionParameters.get(i).create(libraryUrlAbbreviations)));
+				}
+
+				templateElement = templateElementFactory.createActionElement(
+					actionDescriptor, actionParameters, contributionDescriptors, libraryUrlAbbreviations, lineNumber);
+			} else if (type == TEXT_ELEMENT) {
+				templateElement = templateElementFactory.createTextElement(text, libraryUrlAbbreviations, lineNumber);
+			} else {
+				ExpressionFactory expressionFactory = (expressionFactoryName == null)
+					? findExpressionFactory(text) : getExpressionFactory(expressionFactoryName);
+
+				templateElement = templateElementFactory.createExpressionElement(
+					expressionFactory, text, libraryUrlAbbreviations, lineNumber);
+			}
+
+			templateBuilder.addTemplateElement(templateElement);
+
+			readChildren(templateBuilder);
+
+			templateBuilder.restoreCurrentTemplateElement();
+		}
+
+		private ParameterReader readParameter() throws AluminumException, IOException {
+			final byte kind = in.readByte();
+
+			if (kind == COMPOUND_PARAMETER) {
+				int parameterCount = in.readInt();
+
+				final List<ParameterReader> parameters = new ArrayList<ParameterReader>(parameterCount);
+
+				for (int i = 0; i < parameterCount; i++) {
+					parameters.add(readParameter());
+				}
+
+				return new ParameterReader() {
+					public ActionParameter create(Map<String, String> libraryUrlAbbreviations) {
+						List<ActionParameter> compoundParameters = new ArrayList<ActionParameter>(parameters.size());
+
+						for (ParameterReader parameter: parameters) {
+							compoundParameters.add(parameter.create(libraryUrlAbbreviations));
+						}
+
+						return new CompoundActionParameter(compoundParameters, converterRegistry);
+					}
+				};
+			} else if ((kind == CONSTANT_PARAMETER) || (kind == EXPRESSION_PARAMETER) || (kind == SOURCE_PARAMETER)) {
+				final ExpressionFactory expressionFactory =
+					(kind == EXPRESSION_PARAMETER) ? getExpressionFactory(readString()) : null;
+				final String text = readString();
+
+				return new ParameterReader() {
+					public ActionParameter create(Map<String, String> libraryUrlAbbreviations) {
+						if (kind == CONSTANT_PARAMETER) {
+							return new ConstantActionParameter(text, converterRegistry);
+						} else if (kind == EXPRESSION_PARAMETER) {
+							return new ExpressionActionParameter(
+								expressionFactory, text, libraryUrlAbbreviations, converterRegistry);
+						} else {
+							return ParserUtilities.createParameter(text, libraryUrlAbbreviations, configuration);
+						}
+					}
+				};
+			} else {
+				throw new AluminumException("unknown action parameter type: ", kind);
+			}
+		}
+
+		private ExpressionFactory getExpressionFactory(String name) throws AluminumException {
+			ExpressionFactory expressionFactory = expressionFactories.get(name);
+
+			if (expressionFactory == null) {
+				throw new AluminumException("can't find expression factory of type ", name);
+			} else {
+				return expressionFactory;
+			}
+		}
+
+		private ExpressionFactory findExpressionFactory(String text) throws AluminumException {
+			SortedMap<ExpressionOccurrence, ExpressionFactory> occurrences =
+				ParserUtilities.getExpressionOccurrences(text, configuration);
+
+			ExpressionFactory expressionFactory =
+				(occurrences.size() == 1) ? occurrences.get(occurrences.firstKey()) : null;
+
+			if (expressionFactory == null) {
+				throw new AluminumException("can't find expression factory for expression '", text, "'");
+			} else {
+				return expressionFactory;
+			}
+		}
+
+		private String readString() throws AluminumException, IOException {
+			int index = in.readInt();
+
+			if (index == NULL_STRING) {
+				return null;
+			} else if (index == NEW_STRING) {
+				byte[] bytes = new byte[in.readInt()];
+				in.readFully(bytes);
+
+				String value = new String(bytes, "UTF-8");
+				strings.add(value);
+
+				return value;
+			} else if ((index >= 0) && (index < strings.size())) {
+				return strings.get(index);
+			} else {
+				throw new AluminumException("invalid string reference: ", index);
+			}
+		}
+	}
+
+	private static interface ParameterReader {
+		ActionParameter create(Map<String, String> libraryUrlAbbreviations) throws AluminumException;
+	}
+
+	private final static byte ACTION_ELEMENT = 1;
+	private final static byte TEXT_ELEMENT = 2;
+	private final static byte EXPRESSION_ELEMENT = 3;
+
+	private final static byte CONSTANT_PARAMETER = 1;
+	private final static byte EXPRESSION_PARAMETER = 2;
+	private final static byte COMPOUND_PARAMETER = 3;
+	private final static byte SOURCE_PARAMETER = 4;
+
+	private final static int NULL_STRING = -1;
+	private final static int NEW_STRING = -2;
+
+	/** The number that binary templates start with. */
+	public final static int MAGIC_NUMBER = 0x416C7554;
+
+	/** The version of the binary format; it changes whenever the format changes. */
+	public final static int FORMAT_VERSION = 2;
+}
\ No newline at end of file
@@ -310,6 +310,17 @@ public class GenericsUtilities {
 		public Type getGenericComponentType() {
 			return genericComponentType;
 		}
+
+		@Override
+		public boolean equals(Object object) {
+			return (object instanceof GenericArrayType)
+				&& genericComponentType.equals(((GenericArrayType) object).getGenericComponentType());
+		}
+
+		@Override
+		public int hashCode() {
+			return genericComponentType.hashCode();
+		}
 	}
 
 	private static WildcardType createWildcardType(String name, String... defaultPackages) throws AluminumException {
@@ -365,6 +376,27 @@ public class GenericsUtilities {
 
 			return copiedBounds;
 		}
+
+		@Override
+		public boolean equals(Object object) {
+			boolean equal;
+
+			if (object instanceof WildcardType) {
+				WildcardType wildcardType = (WildcardType) object;
+
+				equal = Arrays.equals(getLowerBounds(), wildcardType.getLowerBounds())
+					&& Arrays.equals(getUpperBounds(), wildcardType.getUpperBounds());
+			} else {
+				equal = false;
+			}
+
+			return equal;
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(getLowerBounds()) ^ Arrays.hashCode(getUpperBounds());
+		}
 	}
 
 	private static ParameterizedType createParameterisedType(
@@ -407,6 +439,27 @@ public class GenericsUtilities {
 		public Type[] getActualTypeArguments() {
 			return arguments.toArray(new Type[arguments.size()]);
 		}
+
+		@Override
+		public boolean equals(Object object) {
+			boolean equal;
+
+			if (object instanceof ParameterizedType) {
+				ParameterizedType parameterizedType = (ParameterizedType) object;
+
+				equal = (parameterizedType.getOwnerType() == null) && rawType.equals(parameterizedType.getRawType())
+					&& Arrays.equals(getActualTypeArguments(), parameterizedType.getActualTypeArguments());
+			} else {
+				equal = false;
+			}
+
+			return equal;
+		}
+
+		@Override
+		public int hashCode() {
+			return arguments.hashCode() ^ rawType.hashCode();
+		}
 	}
 
 	private static Class<?> getClass(String className, String... defaultPackages) throws AluminumException {
@@ -21,9 +21,12 @@ import com.googlecode.aluminumproject.utilities.finders.FieldFinder;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Injects values into fields that are annotated with {@link Injected &#64;Injected}. Which values are injected by an
@@ -32,10 +35,15 @@ import java.util.List;
  * <p>
  * An injector is not required to inject all of an object's annotated fields; this allows multiple injectors to be used
  * for the same injectable object.
+ * <p>
+ * The injectable fields of a type are only looked up the first time an object of that type is injected; injectors are
+ * therefore best reused.
  */
 public class Injector {
 	private List<ValueProvider> valueProviders;
 
+	private ConcurrentMap<Class<?>, List<Field>> injectableFields;
+
 	private final Logger logger;
 
 	/**
@@ -44,6 +52,8 @@ public class Injector {
 	public Injector() {
 		valueProviders = new LinkedList<ValueProvider>();
 
+		injectableFields = new ConcurrentHashMap<Class<?>, List<Field>>();
+
 		logger = Logger.get(getClass());
 	}
 
@@ -64,13 +74,7 @@ public class Injector {
 	 * @throws AluminumException when something goes wrong while injecting the values
 	 */
 	public void inject(Object injectable) throws AluminumException {
-		List<Field> fields = FieldFinder.find(new FieldFinder.FieldFilter() {
-			public boolean accepts(Field field) {
-				return !Modifier.isStatic(field.getModifiers()) && field.isAnnotationPresent(Injected.class);
-			}
-		}, injectable.getClass());
-
-		for (Field field: fields) {
+		for (Field field: getInjectableFields(injectable.getClass())) {
 			ValueProvider valueProvider = findValueProvider(field);
 
 			if (valueProvider == null) {
@@ -78,11 +82,36 @@ public class Injector {
 			} else {
 				Object value = valueProvider.getValue(field);
 
-				logger.debug("injecting ", value, " into ", field, " of ", injectable);
+				if (logger.isDebugEnabled()) {
+					logger.debug("injecting ", value, " into ", field, " of ", injectable);
+				}
+
+				ReflectionUtilities.setFieldValue(injectable, field, value);
+			}
+		}
+	}
+
+	private List<Field> getInjectableFields(Class<?> type) throws AluminumException {
+		List<Field> fields = injectableFields.get(type);
+
+		if (fields == null) {
+			fields = FieldFinder.find(new FieldFinder.FieldFilter() {
+				public boolean accepts(Field field) {
+					return !Modifier.isStatic(field.getModifiers()) && field.isAnnotationPresent(Injected.class);
+				}
+			}, type);
 
-				ReflectionUtilities.setFieldValue(injectable, field.getName(), value);
+			for (Field field: fields) {
+				ReflectionUtilities.makeAccessible(field);
 			}
+
+			fields = new ArrayList<Field>(fields);
+			logger.debug("found injectable fields of ", type, ": ", fields);
+
+			injectableFields.putIfAbsent(type, fields);
 		}
+
+		return fields;
 	}
 
 	private ValueProvider findValueProvider(Field field) {
@@ -15,6 +15,9 @@
  */
 package com.googlecode.aluminumproject.utilities;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.slf4j.LoggerFactory;
 
 /**
@@ -27,8 +30,13 @@ import org.slf4j.LoggerFactory;
  * A consequence of the third advantage is that because varargs are required to be the last arguments of methods, any
  * exceptions must be the first argument of log methods.
  * <p>
+ * Messages that consist of at most four parts (or three parts and an exception) are logged using methods with a fixed
+ * number of parameters, so that no array has to be created when the level is disabled. Callers that log longer messages
+ * on frequently executed paths can use the <code>is<i>Level</i>Enabled</code> methods to avoid the varargs array.
+ * <p>
  * The general usage of this class consists of obtaining a {@code Logger} with the {@link #get(Class) get method} and
- * invoking the logging methods as needed.
+ * invoking the logging methods as needed. Loggers are shared: getting the logger for the same class twice results in
+ * the same instance.
  */
 public class Logger {
 	private org.slf4j.Logger logger;
@@ -46,6 +54,65 @@ public class Logger {
 		return logger;
 	}
 
+	/**
+	 * Determines whether the <i>trace</i> level is enabled.
+	 *
+	 * @return {@code true} if messages at <i>trace</i> level are logged, {@code false} otherwise
+	 */
+	public boolean isTraceEnabled() {
+		return logger.isTraceEnabled();
+	}
+
+	/**
+	 * Logs a message at <i>trace</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the message to log
+	 */
+	public void trace(Object messagePart1) {
+		if (logger.isTraceEnabled()) {
+			logger.trace(StringUtilities.join(messagePart1));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of two parts at <i>trace</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 */
+	public void trace(Object messagePart1, Object messagePart2) {
+		if (logger.isTraceEnabled()) {
+			logger.trace(StringUtilities.join(messagePart1, messagePart2));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of three parts at <i>trace</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 */
+	public void trace(Object messagePart1, Object messagePart2, Object messagePart3) {
+		if (logger.isTraceEnabled()) {
+			logger.trace(StringUtilities.join(messagePart1, messagePart2, messagePart3));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of four parts at <i>trace</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 * @param messagePart4 the fourth part of the message
+	 */
+	public void trace(Object messagePart1, Object messagePart2, Object messagePart3, Object messagePart4) {
+		if (logger.isTraceEnabled()) {
+			logger.trace(StringUtilities.join(messagePart1, messagePart2, messagePart3, messagePart4));
+		}
+	}
+
 	/**
 	 * Logs a message at <i>trace</i> level if that level is enabled.
 	 *
@@ -57,6 +124,45 @@ public class Logger {
 		}
 	}
 
+	/**
+	 * Logs a message at <i>trace</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the message to log
+	 */
+	public void trace(Throwable exception, Object messagePart1) {
+		if (logger.isTraceEnabled()) {
+			logger.trace(StringUtilities.join(messagePart1), exception);
+		}
+	}
+
+	/**
+	 * Logs a message that consists of two parts at <i>trace</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 */
+	public void trace(Throwable exception, Object messagePart1, Object messagePart2) {
+		if (logger.isTraceEnabled()) {
+			logger.trace(StringUtilities.join(messagePart1, messagePart2), exception);
+		}
+	}
+
+	/**
+	 * Logs a message that consists of three parts at <i>trace</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 */
+	public void trace(Throwable exception, Object messagePart1, Object messagePart2, Object messagePart3) {
+		if (logger.isTraceEnabled()) {
+			logger.trace(StringUtilities.join(messagePart1, messagePart2, messagePart3), exception);
+		}
+	}
+
 	/**
 	 * Logs a message at <i>trace</i> level if that level is enabled.
 	 *
@@ -69,6 +175,65 @@ public class Logger {
 		}
 	}
 
+	/**
+	 * Determines whether the <i>debug</i> level is enabled.
+	 *
+	 * @return {@code true} if messages at <i>debug</i> level are logged, {@code false} otherwise
+	 */
+	public boolean isDebugEnabled() {
+		return logger.isDebugEnabled();
+	}
+
+	/**
+	 * Logs a message at <i>debug</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the message to log
+	 */
+	public void debug(Object messagePart1) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(StringUtilities.join(messagePart1));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of two parts at <i>debug</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 */
+	public void debug(Object messagePart1, Object messagePart2) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(StringUtilities.join(messagePart1, messagePart2));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of three parts at <i>debug</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 */
+	public void debug(Object messagePart1, Object messagePart2, Object messagePart3) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(StringUtilities.join(messagePart1, messagePart2, messagePart3));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of four parts at <i>debug</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 * @param messagePart4 the fourth part of the message
+	 */
+	public void debug(Object messagePart1, Object messagePart2, Object messagePart3, Object messagePart4) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(StringUtilities.join(messagePart1, messagePart2, messagePart3, messagePart4));
+		}
+	}
+
 	/**
 	 * Logs a message at <i>debug</i> level if that level is enabled.
 	 *
@@ -80,6 +245,45 @@ public class Logger {
 		}
 	}
 
+	/**
+	 * Logs a message at <i>debug</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the message to log
+	 */
+	public void debug(Throwable exception, Object messagePart1) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(StringUtilities.join(messagePart1), exception);
+		}
+	}
+
+	/**
+	 * Logs a message that consists of two parts at <i>debug</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 */
+	public void debug(Throwable exception, Object messagePart1, Object messagePart2) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(StringUtilities.join(messagePart1, messagePart2), exception);
+		}
+	}
+
+	/**
+	 * Logs a message that consists of three parts at <i>debug</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 */
+	public void debug(Throwable exception, Object messagePart1, Object messagePart2, Object messagePart3) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(StringUtilities.join(messagePart1, messagePart2, messagePart3), exception);
+		}
+	}
+
 	/**
 	 * Logs a message at <i>debug</i> level if that level is enabled.
 	 *
@@ -92,6 +296,65 @@ public class Logger {
 		}
 	}
 
+	/**
+	 * Determines whether the <i>info</i> level is enabled.
+	 *
+	 * @return {@code true} if messages at <i>info</i> level are logged, {@code false} otherwise
+	 */
+	public boolean isInfoEnabled() {
+		return logger.isInfoEnabled();
+	}
+
+	/**
+	 * Logs a message at <i>info</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the message to log
+	 */
+	public void info(Object messagePart1) {
+		if (logger.isInfoEnabled()) {
+			logger.info(StringUtilities.join(messagePart1));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of two parts at <i>info</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 */
+	public void info(Object messagePart1, Object messagePart2) {
+		if (logger.isInfoEnabled()) {
+			logger.info(StringUtilities.join(messagePart1, messagePart2));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of three parts at <i>info</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 */
+	public void info(Object messagePart1, Object messagePart2, Object messagePart3) {
+		if (logger.isInfoEnabled()) {
+			logger.info(StringUtilities.join(messagePart1, messagePart2, messagePart3));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of four parts at <i>info</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 * @param messagePart4 the fourth part of the message
+	 */
+	public void info(Object messagePart1, Object messagePart2, Object messagePart3, Object messagePart4) {
+		if (logger.isInfoEnabled()) {
+			logger.info(StringUtilities.join(messagePart1, messagePart2, messagePart3, messagePart4));
+		}
+	}
+
 	/**
 	 * Logs a message at <i>info</i> level if that level is enabled.
 	 *
@@ -103,6 +366,45 @@ public class Logger {
 		}
 	}
 
+	/**
+	 * Logs a message at <i>info</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the message to log
+	 */
+	public void info(Throwable exception, Object messagePart1) {
+		if (logger.isInfoEnabled()) {
+			logger.info(StringUtilities.join(messagePart1), exception);
+		}
+	}
+
+	/**
+	 * Logs a message that consists of two parts at <i>info</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 */
+	public void info(Throwable exception, Object messagePart1, Object messagePart2) {
+		if (logger.isInfoEnabled()) {
+			logger.info(StringUtilities.join(messagePart1, messagePart2), exception);
+		}
+	}
+
+	/**
+	 * Logs a message that consists of three parts at <i>info</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 */
+	public void info(Throwable exception, Object messagePart1, Object messagePart2, Object messagePart3) {
+		if (logger.isInfoEnabled()) {
+			logger.info(StringUtilities.join(messagePart1, messagePart2, messagePart3), exception);
+		}
+	}
+
 	/**
 	 * Logs a message at <i>info</i> level if that level is enabled.
 	 *
@@ -115,6 +417,65 @@ public class Logger {
 		}
 	}
 
+	/**
+	 * Determines whether the <i>warn</i> level is enabled.
+	 *
+	 * @return {@code true} if messages at <i>warn</i> level are logged, {@code false} otherwise
+	 */
+	public boolean isWarnEnabled() {
+		return logger.isWarnEnabled();
+	}
+
+	/**
+	 * Logs a message at <i>warn</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the message to log
+	 */
+	public void warn(Object messagePart1) {
+		if (logger.isWarnEnabled()) {
+			logger.warn(StringUtilities.join(messagePart1));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of two parts at <i>warn</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 */
+	public void warn(Object messagePart1, Object messagePart2) {
+		if (logger.isWarnEnabled()) {
+			logger.warn(StringUtilities.join(messagePart1, messagePart2));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of three parts at <i>warn</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 */
+	public void warn(Object messagePart1, Object messagePart2, Object messagePart3) {
+		if (logger.isWarnEnabled()) {
+			logger.warn(StringUtilities.join(messagePart1, messagePart2, messagePart3));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of four parts at <i>warn</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 * @param messagePart4 the fourth part of the message
+	 */
+	public void warn(Object messagePart1, Object messagePart2, Object messagePart3, Object messagePart4) {
+		if (logger.isWarnEnabled()) {
+			logger.warn(StringUtilities.join(messagePart1, messagePart2, messagePart3, messagePart4));
+		}
+	}
+
 	/**
 	 * Logs a message at <i>warn</i> level if that level is enabled.
 	 *
@@ -126,6 +487,45 @@ public class Logger {
 		}
 	}
 
+	/**
+	 * Logs a message at <i>warn</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the message to log
+	 */
+	public void warn(Throwable exception, Object messagePart1) {
+		if (logger.isWarnEnabled()) {
+			logger.warn(StringUtilities.join(messagePart1), exception);
+		}
+	}
+
+	/**
+	 * Logs a message that consists of two parts at <i>warn</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 */
+	public void warn(Throwable exception, Object messagePart1, Object messagePart2) {
+		if (logger.isWarnEnabled()) {
+			logger.warn(StringUtilities.join(messagePart1, messagePart2), exception);
+		}
+	}
+
+	/**
+	 * Logs a message that consists of three parts at <i>warn</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 */
+	public void warn(Throwable exception, Object messagePart1, Object messagePart2, Object messagePart3) {
+		if (logger.isWarnEnabled()) {
+			logger.warn(StringUtilities.join(messagePart1, messagePart2, messagePart3), exception);
+		}
+	}
+
 	/**
 	 * Logs a message at <i>warn</i> level if that level is enabled.
 	 *
@@ -138,6 +538,65 @@ public class Logger {
 		}
 	}
 
+	/**
+	 * Determines whether the <i>error</i> level is enabled.
+	 *
+	 * @return {@code true} if messages at <i>error</i> level are logged, {@code false} otherwise
+	 */
+	public boolean isErrorEnabled() {
+		return logger.isErrorEnabled();
+	}
+
+	/**
+	 * Logs a message at <i>error</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the message to log
+	 */
+	public void error(Object messagePart1) {
+		if (logger.isErrorEnabled()) {
+			logger.error(StringUtilities.join(messagePart1));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of two parts at <i>error</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 */
+	public void error(Object messagePart1, Object messagePart2) {
+		if (logger.isErrorEnabled()) {
+			logger.error(StringUtilities.join(messagePart1, messagePart2));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of three parts at <i>error</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 */
+	public void error(Object messagePart1, Object messagePart2, Object messagePart3) {
+		if (logger.isErrorEnabled()) {
+			logger.error(StringUtilities.join(messagePart1, messagePart2, messagePart3));
+		}
+	}
+
+	/**
+	 * Logs a message that consists of four parts at <i>error</i> level if that level is enabled.
+	 *
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 * @param messagePart4 the fourth part of the message
+	 */
+	public void error(Object messagePart1, Object messagePart2, Object messagePart3, Object messagePart4) {
+		if (logger.isErrorEnabled()) {
+			logger.error(StringUtilities.join(messagePart1, messagePart2, messagePart3, messagePart4));
+		}
+	}
+
 	/**
 	 * Logs a message at <i>error</i> level if that level is enabled.
 	 *
@@ -149,6 +608,45 @@ public class Logger {
 		}
 	}
 
+	/**
+	 * Logs a message at <i>error</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the message to log
+	 */
+	public void error(Throwable exception, Object messagePart1) {
+		if (logger.isErrorEnabled()) {
+			logger.error(StringUtilities.join(messagePart1), exception);
+		}
+	}
+
+	/**
+	 * Logs a message that consists of two parts at <i>error</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 */
+	public void error(Throwable exception, Object messagePart1, Object messagePart2) {
+		if (logger.isErrorEnabled()) {
+			logger.error(StringUtilities.join(messagePart1, messagePart2), exception);
+		}
+	}
+
+	/**
+	 * Logs a message that consists of three parts at <i>error</i> level if that level is enabled.
+	 *
+	 * @param exception the exception to log
+	 * @param messagePart1 the first part of the message
+	 * @param messagePart2 the second part of the message
+	 * @param messagePart3 the third part of the message
+	 */
+	public void error(Throwable exception, Object messagePart1, Object messagePart2, Object messagePart3) {
+		if (logger.isErrorEnabled()) {
+			logger.error(StringUtilities.join(messagePart1, messagePart2, messagePart3), exception);
+		}
+	}
+
 	/**
 	 * Logs a message at <i>error</i> level if that level is enabled.
 	 *
@@ -168,6 +666,22 @@ public class Logger {
 	 * @return a logger for the given class
 	 */
 	public static Logger get(Class<?> forClass) {
-		return new Logger(LoggerFactory.getLogger(forClass));
+		String name = forClass.getName();
+
+		Logger logger = loggers.get(name);
+
+		if (logger == null) {
+			Logger newLogger = new Logger(LoggerFactory.getLogger(forClass));
+
+			logger = loggers.putIfAbsent(name, newLogger);
+
+			if (logger == null) {
+				logger = newLogger;
+			}
+		}
+
+		return logger;
 	}
+
+	private final static ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<String, Logger>();
 }
\ No newline at end of file
@@ -44,11 +44,13 @@ public class ParserUtilities {
 	 * contains expressions or not.
 	 *
 	 * @param value the textual parameter value
+	 * @param libraryUrlAbbreviations the library URL abbreviations that are in effect for the parameter's action
 	 * @param configuration the configuration that contains all expression factories
 	 * @return the new action parameter
 	 * @throws AluminumException when the parameter can't be created
 	 */
-	public static ActionParameter createParameter(String value, Configuration configuration) throws AluminumException {
+	public static ActionParameter createParameter(String value,
+			Map<String, String> libraryUrlAbbreviations, Configuration configuration) throws AluminumException {
 		ActionParameter parameter;
 
 		SortedMap<ExpressionOccurrence, ExpressionFactory> expressionOccurrences =
@@ -62,13 +64,15 @@ public class ParserUtilities {
 			if (expressionFactory == null) {
 				parameter = new ConstantActionParameter(value, converterRegistry);
 			} else {
-				parameter = new ExpressionActionParameter(expressionFactory, value, converterRegistry);
+				parameter =
+					new ExpressionActionParameter(expressionFactory, value, libraryUrlAbbreviations, converterRegistry);
 			}
 		} else if ((expressionOccurrences.size() == 1) && (expressionOccurrences.firstKey().getBeginIndex() == 0) &&
 				(expressionOccurrences.firstKey().getEndIndex() == value.length())) {
 			ExpressionFactory expressionFactory = expressionOccurrences.get(expressionOccurrences.firstKey());
 
-			parameter = new ExpressionActionParameter(expressionFactory, value, converterRegistry);
+			parameter =
+				new ExpressionActionParameter(expressionFactory, value, libraryUrlAbbreviations, converterRegistry);
 		} else {
 			List<ActionParameter> parameters = new LinkedList<ActionParameter>();
 
@@ -81,7 +85,8 @@ public class ParserUtilities {
 				if (expressionFactory == null) {
 					parameters.add(new ConstantActionParameter(text, converterRegistry));
 				} else {
-					parameters.add(new ExpressionActionParameter(expressionFactory, text, converterRegistry));
+					parameters.add(new ExpressionActionParameter(
+						expressionFactory, text, libraryUrlAbbreviations, converterRegistry));
 				}
 			}
 
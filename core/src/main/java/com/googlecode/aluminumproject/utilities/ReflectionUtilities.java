@@ -203,6 +203,44 @@ public class ReflectionUtilities {
 		}
 	}
 
+	/**
+	 * Sets the value of a field on a certain bean. This method does not look up the field, which makes it faster than
+	 * {@link #setFieldValue(Object, String, Object) setting a field value by name}.
+	 *
+	 * @param bean the bean whose field value should be set
+	 * @param field the {@link #makeAccessible(Field) accessible} field to set
+	 * @param value the new value for the field
+	 * @throws AluminumException when the field value can't be set
+	 */
+	public static void setFieldValue(Object bean, Field field, Object value) throws AluminumException {
+		try {
+			field.set(bean, value);
+		} catch (IllegalArgumentException exception) {
+			throw new AluminumException(exception, "can't set value of field '", field, "' on ", bean);
+		} catch (IllegalAccessException exception) {
+			throw new AluminumException(exception, "may not set value of field '", field, "' on ", bean);
+		}
+	}
+
+	/**
+	 * Makes a field accessible, so that its value can be set regardless of its access modifier.
+	 *
+	 * @param field the field to make accessible
+	 * @return the given field
+	 * @throws AluminumException when the field may not be made accessible
+	 */
+	public static Field makeAccessible(Field field) throws AluminumException {
+		try {
+			if (!field.isAccessible()) {
+				field.setAccessible(true);
+			}
+		} catch (SecurityException exception) {
+			throw new AluminumException(exception, "may not access field '", field, "'");
+		}
+
+		return field;
+	}
+
 	private static Field getAccessibleField(Object bean, String name) throws AluminumException {
 		Field field;
 
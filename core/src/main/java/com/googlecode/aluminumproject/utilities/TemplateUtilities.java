@@ -17,9 +17,12 @@ package com.googlecode.aluminumproject.utilities;
 
 import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.templates.AbstractTemplateElement;
+import com.googlecode.aluminumproject.templates.CompiledTemplate;
 import com.googlecode.aluminumproject.templates.Template;
 import com.googlecode.aluminumproject.templates.TemplateElement;
 import com.googlecode.aluminumproject.templates.TemplateInformation;
+import com.googlecode.aluminumproject.writers.Writer;
 
 /**
  * Offers utility methods related to templates and their elements.
@@ -28,7 +31,9 @@ public class TemplateUtilities {
 	private TemplateUtilities() {}
 
 	/**
-	 * Finds the template that contains a certain template element.
+	 * Finds the template that contains a certain template element. If the template element knows its template (which is
+	 * the case for {@link AbstractTemplateElement abstract template elements} that are part of a built template), that
+	 * template is returned immediately.
 	 *
 	 * @param templateElement the template element to find the template for
 	 * @param context the context to search in
@@ -37,9 +42,10 @@ public class TemplateUtilities {
 	 *                           context
 	 */
 	public static Template findTemplate(TemplateElement templateElement, Context context) throws AluminumException {
-		Template template = null;
+		Template template = (templateElement instanceof AbstractTemplateElement)
+			? ((AbstractTemplateElement) templateElement).getTemplate() : null;
 
-		do {
+		while ((context != null) && (template == null)) {
 			template = TemplateInformation.from(context).getTemplate();
 
 			if (!template.contains(templateElement)) {
@@ -47,7 +53,7 @@ public class TemplateUtilities {
 			}
 
 			context = context.getParent();
-		} while ((context != null) && (template == null));
+		}
 
 		if (template == null) {
 			throw new AluminumException("can't find template that contains ", templateElement);
@@ -55,4 +61,26 @@ public class TemplateUtilities {
 			return template;
 		}
 	}
+
+	/**
+	 * Processes the children of a template element. A {@link CompiledTemplate compiled template} processes the children
+	 * itself; the children of template elements in other templates are processed one by one.
+	 *
+	 * @param template the template that contains the template element
+	 * @param templateElement the template element to process the children of (or {@code null} to process the root
+	 *                        template elements)
+	 * @param context the context to use
+	 * @param writer the writer to use
+	 * @throws AluminumException when something goes wrong while processing the children
+	 */
+	public static void processChildren(Template template,
+			TemplateElement templateElement, Context context, Writer writer) throws AluminumException {
+		if (template instanceof CompiledTemplate) {
+			((CompiledTemplate) template).processChildren(templateElement, context, writer);
+		} else {
+			for (TemplateElement child: template.getChildren(templateElement)) {
+				child.process(context, writer);
+			}
+		}
+	}
 }
\ No newline at end of file
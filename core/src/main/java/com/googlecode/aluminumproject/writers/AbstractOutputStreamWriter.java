@@ -17,28 +17,48 @@ package com.googlecode.aluminumproject.writers;
 
 import com.googlecode.aluminumproject.AluminumException;
 
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Writes to an {@link OutputStream output stream}. When an object is being written, one of the following things
  * happens:
  * <ul>
  * <li>When the object is a byte array, it is written to the output stream as-is;
- * <li>In any other case, the object is being {@link String#valueOf(Object) converted} to a string and the bytes in that
- *     string are written to the output stream.
+ * <li>In any other case, the object is being {@link String#valueOf(Object) converted} to a string, which is encoded
+ *     with the writer's charset; the encoded bytes are written to the output stream.
  * </ul>
  * Subclasses have to implement a single method: one that {@link #createOutputStream() creates} an output stream.
  * <p>
- * An output stream writer optionally implements buffering; in that case, a {@link BufferedOutputStream buffered output
- * stream} is used to write objects to. Regardless of whether an abstract output stream writer buffers or not, {@link
+ * Output stream writers are {@link ByteWriter byte writers}: text that has already been encoded with their charset can
+ * be written without being converted. Unless a charset is given when an output stream writer is created, the
+ * platform's default charset is used.
+ * <p>
+ * Text is encoded by a single {@link CharsetEncoder charset encoder} into a byte buffer, which is reused (buffers of
+ * the default size are even shared by writers that have been closed). The bytes in the buffer are passed to the output
+ * stream as soon as the buffer contains at least as many bytes as the writer's flush threshold. When an output stream
+ * writer doesn't buffer, its flush threshold is {@code 0}, which means that everything that is written to it is passed
+ * to the output stream immediately. Regardless of whether an abstract output stream writer buffers or not, {@link
  * #clear() clearing} it is not supported.
  */
-public abstract class AbstractOutputStreamWriter extends AbstractWriter {
+public abstract class AbstractOutputStreamWriter extends AbstractWriter implements ByteWriter {
 	private OutputStream outputStream;
 
-	private boolean buffer;
+	private Charset charset;
+	private CharsetEncoder encoder;
+
+	private int bufferSize;
+	private int flushThreshold;
+	private ByteBuffer buffer;
 
 	/**
 	 * Creates an abstract output stream writer that does not buffer.
@@ -48,12 +68,46 @@ public abstract class AbstractOutputStreamWriter extends AbstractWriter {
 	}
 
 	/**
-	 * Creates an abstract output stream writer.
+	 * Creates an abstract output stream writer that uses the platform's default charset.
 	 *
-	 * @param buffer whether a buffered output stream should be used
+	 * @param buffer whether written objects should be buffered
 	 */
 	protected AbstractOutputStreamWriter(boolean buffer) {
-		this.buffer = buffer;
+		this(buffer, Charset.defaultCharset());
+	}
+
+	/**
+	 * Creates an abstract output stream writer that uses a buffer of the default size ({@value #DEFAULT_BUFFER_SIZE}
+	 * bytes).
+	 *
+	 * @param buffer whether written objects should be buffered until the buffer is full
+	 * @param charset the charset to encode text with
+	 */
+	protected AbstractOutputStreamWriter(boolean buffer, Charset charset) {
+		this(charset, DEFAULT_BUFFER_SIZE, buffer ? DEFAULT_BUFFER_SIZE : 0);
+	}
+
+	/**
+	 * Creates an abstract output stream writer.
+	 *
+	 * @param charset the charset to encode text with
+	 * @param bufferSize the size of the buffer that text is encoded into (at least {@value #MINIMUM_BUFFER_SIZE} bytes)
+	 * @param flushThreshold the number of buffered bytes that cause the buffer to be passed to the output stream (at
+	 *                       most the buffer size; {@code 0} means that the buffer is passed to the output stream after
+	 *                       each write)
+	 * @throws AluminumException when the buffer size or the flush threshold is invalid
+	 */
+	protected AbstractOutputStreamWriter(Charset charset, int bufferSize, int flushThreshold) throws AluminumException {
+		if (bufferSize < MINIMUM_BUFFER_SIZE) {
+			throw new AluminumException("the buffer size should be at least ", MINIMUM_BUFFER_SIZE, " bytes");
+		} else if ((flushThreshold < 0) || (flushThreshold > bufferSize)) {
+			throw new AluminumException("the flush threshold should be between 0 and the buffer size");
+		}
+
+		this.charset = charset;
+
+		this.bufferSize = bufferSize;
+		this.flushThreshold = flushThreshold;
 	}
 
 	private OutputStream getOutputStream() throws AluminumException {
@@ -61,10 +115,6 @@ public abstract class AbstractOutputStreamWriter extends AbstractWriter {
 			logger.debug("creating output stream");
 
 			outputStream = createOutputStream();
-
-			if (buffer) {
-				outputStream = new BufferedOutputStream(outputStream);
-			}
 		}
 
 		return outputStream;
@@ -78,21 +128,95 @@ public abstract class AbstractOutputStreamWriter extends AbstractWriter {
 	 */
 	protected abstract OutputStream createOutputStream() throws AluminumException;
 
+	private ByteBuffer getBuffer() {
+		if (buffer == null) {
+			buffer = (bufferSize == DEFAULT_BUFFER_SIZE) ? BufferPool.acquire() : ByteBuffer.allocate(bufferSize);
+		}
+
+		return buffer;
+	}
+
+	private CharsetEncoder getEncoder() {
+		if (encoder == null) {
+			encoder = charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+
+		return encoder;
+	}
+
+	public Charset getCharset() {
+		return charset;
+	}
+
 	public void write(Object object) throws AluminumException {
+		if (object instanceof byte[]) {
+			writeBytes((byte[]) object);
+		} else {
+			writeText(String.valueOf(object));
+		}
+	}
+
+	private void writeText(String text) throws AluminumException {
 		checkOpen();
 
-		byte[] bytes;
+		CharsetEncoder encoder = getEncoder();
+		ByteBuffer buffer = getBuffer();
 
-		if (object instanceof byte[]) {
-			bytes = (byte[]) object;
+		CharBuffer characters = CharBuffer.wrap(text);
+
+		encoder.reset();
+
+		while (encoder.encode(characters, buffer, true) == CoderResult.OVERFLOW) {
+			passBufferToOutputStream();
+		}
+
+		while (encoder.flush(buffer) == CoderResult.OVERFLOW) {
+			passBufferToOutputStream();
+		}
+
+		if (buffer.position() >= flushThreshold) {
+			passBufferToOutputStream();
+		}
+	}
+
+	public void writeBytes(byte[] bytes) throws AluminumException {
+		checkOpen();
+
+		ByteBuffer buffer = getBuffer();
+
+		if (buffer.position() + bytes.length < flushThreshold) {
+			buffer.put(bytes);
 		} else {
-			bytes = String.valueOf(object).getBytes();
+			passBufferToOutputStream();
+
+			try {
+				getOutputStream().write(bytes);
+			} catch (IOException exception) {
+				throw new AluminumException(exception, "can't write ", bytes.length, " bytes");
+			}
+		}
+	}
+
+	private void passBufferToOutputStream() throws AluminumException {
+		if ((buffer != null) && (buffer.position() > 0)) {
+			try {
+				getOutputStream().write(buffer.array(), buffer.arrayOffset(), buffer.position());
+			} catch (IOException exception) {
+				throw new AluminumException(exception, "can't write ", buffer.position(), " bytes");
+			}
+
+			buffer.clear();
 		}
+	}
 
-		try {
-			getOutputStream().write(bytes);
-		} catch (IOException exception) {
-			throw new AluminumException(exception, "can't write object ", object);
+	/**
+	 * Discards all bytes that have been written to this writer, but that haven't been passed to the output stream yet.
+	 * Subclasses that support {@link #clear() clearing} should call this method from their clear methods.
+	 */
+	protected void clearBuffer() {
+		if (buffer != null) {
+			buffer.clear();
 		}
 	}
 
@@ -100,6 +224,8 @@ public abstract class AbstractOutputStreamWriter extends AbstractWriter {
 	public void flush() throws AluminumException {
 		checkOpen();
 
+		passBufferToOutputStream();
+
 		try {
 			getOutputStream().flush();
 		} catch (IOException exception) {
@@ -112,6 +238,12 @@ public abstract class AbstractOutputStreamWriter extends AbstractWriter {
 		super.close();
 
 		closeOutputStream();
+
+		if ((buffer != null) && (bufferSize == DEFAULT_BUFFER_SIZE)) {
+			BufferPool.release(buffer);
+		}
+
+		buffer = null;
 	}
 
 	/**
@@ -127,4 +259,42 @@ public abstract class AbstractOutputStreamWriter extends AbstractWriter {
 			throw new AluminumException(exception, "can't close output stream");
 		}
 	}
+
+	/** The size of the buffer that is used when no buffer size is given. */
+	public final static int DEFAULT_BUFFER_SIZE = 8192;
+
+	/** The minimum buffer size; it is large enough to hold any encoded character. */
+	public final static int MINIMUM_BUFFER_SIZE = 16;
+
+	/**
+	 * Keeps buffers of the default size that are no longer used by the writers that created them.
+	 */
+	private static class BufferPool {
+		private static Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<ByteBuffer>();
+		private static AtomicInteger bufferCount = new AtomicInteger();
+
+		public static ByteBuffer acquire() {
+			ByteBuffer buffer = buffers.poll();
+
+			if (buffer == null) {
+				buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+			} else {
+				bufferCount.decrementAndGet();
+			}
+
+			return buffer;
+		}
+
+		public static void release(ByteBuffer buffer) {
+			if (bufferCount.incrementAndGet() <= MAXIMUM_BUFFER_COUNT) {
+				buffer.clear();
+
+				buffers.offer(buffer);
+			} else {
+				bufferCount.decrementAndGet();
+			}
+		}
+
+		private final static int MAXIMUM_BUFFER_COUNT = 32;
+	}
 }
\ No newline at end of file
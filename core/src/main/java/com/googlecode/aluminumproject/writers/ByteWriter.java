@@ -0,0 +1,46 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.writers;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.templates.DefaultTextElement;
+
+import java.nio.charset.Charset;
+
+/**
+ * A {@link Writer writer} that writes bytes. Text that has been encoded in advance (such as the text of {@link
+ * DefaultTextElement text elements}) can be written to a byte writer as-is, provided that it was encoded with the
+ * byte writer's {@link #getCharset() charset}.
+ * <p>
+ * Writers that decorate other writers should not implement this interface: they work with the objects that are written
+ * to them, so they are given characters instead.
+ */
+public interface ByteWriter extends Writer {
+	/**
+	 * Returns the charset that this writer encodes text with.
+	 *
+	 * @return the charset of this writer
+	 */
+	Charset getCharset();
+
+	/**
+	 * Writes bytes that were encoded with this writer's {@link #getCharset() charset}. The bytes will not be modified.
+	 *
+	 * @param bytes the bytes to write
+	 * @throws AluminumException when this writer is closed or when the bytes can't be written
+	 */
+	void writeBytes(byte[] bytes) throws AluminumException;
+}
\ No newline at end of file
@@ -15,9 +15,9 @@
  */
 package com.googlecode.aluminumproject.expressions.el;
 
-import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.annotations.Ignored;
 import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.context.Scope;
 import com.googlecode.aluminumproject.utilities.Logger;
 
 import java.beans.FeatureDescriptor;
@@ -45,12 +45,15 @@ public class ContextVariableElResolver extends ELResolver {
 		Object value = null;
 
 		if (handles(context, base, property)) {
-			try {
-				value = ((ElContext) context.getContext(ElContext.class)).getContext().findVariable((String) property);
+			value = ((ElContext) context.getContext(ElContext.class)).getContext().findVariable(
+				(String) property, Scope.UNDEFINED);
 
-				context.setPropertyResolved(true);
-			} catch (AluminumException exception) {
+			if (value == Scope.UNDEFINED) {
 				logger.debug("can't find variable '", property, "'");
+
+				value = null;
+			} else {
+				context.setPropertyResolved(true);
 			}
 		}
 
@@ -37,10 +37,12 @@ import javax.el.ValueExpression;
 import javax.el.VariableMapper;
 
 /**
- * An EL context that is based upon a {@link Context context}.
+ * An EL context that is based upon a {@link Context context}. EL contexts are lightweight: they are created for each
+ * evaluation and contain the context to evaluate in, while the EL resolver is shared.
  * <p>
  * The following EL resolvers, which are all read-only, are used:
  * <ul>
+ * <li>A {@link FunctionElResolver function EL resolver};
  * <li>An {@link ImplicitObjectElResolver implicit object EL resolver};
  * <li>A {@link ContextVariableElResolver context variable EL resolver};
  * <li>An {@link ArrayELResolver array EL resolver};
@@ -57,36 +59,51 @@ import javax.el.VariableMapper;
  */
 public class ElContext extends ELContext {
 	private Context context;
-
-	private Configuration configuration;
+	private FunctionCallSite[] functionCallSites;
 
 	private ELResolver elResolver;
-	private javax.el.FunctionMapper functionMapper;
 	private VariableMapper variableMapper;
 
 	/**
 	 * Creates an EL context.
 	 *
 	 * @param context the context to use when finding variables
-	 * @param configuration the configuration used
-	 * @throws AluminumException when the custom EL resolvers can't be determined
+	 * @param elResolver the EL resolver to use, which is normally {@link #createElResolver(Configuration) created} once
+	 *                   per configuration and shared by all EL contexts for that configuration
 	 */
-	public ElContext(Context context, Configuration configuration) throws AluminumException {
-		this.context = context;
-
-		this.configuration = configuration;
+	public ElContext(Context context, ELResolver elResolver) {
+		this(context, NO_FUNCTION_CALL_SITES, elResolver);
+	}
 
-		elResolver = createElResolver();
-		functionMapper = createFunctionMapper();
-		variableMapper = createVariableMapper();
+	/**
+	 * Creates an EL context for an expression that contains function calls.
+	 *
+	 * @param context the context to use when finding variables and calling functions
+	 * @param functionCallSites the {@link FunctionCallSite function call sites} of the evaluated expression
+	 * @param elResolver the EL resolver to use, which is normally {@link #createElResolver(Configuration) created} once
+	 *                   per configuration and shared by all EL contexts for that configuration
+	 */
+	public ElContext(Context context, FunctionCallSite[] functionCallSites, ELResolver elResolver) {
+		this.context = context;
+		this.functionCallSites = functionCallSites;
 
-		putContext(getClass(), this);
+		this.elResolver = elResolver;
 	}
 
-	private ELResolver createElResolver() throws AluminumException {
+	/**
+	 * Creates the EL resolver that EL contexts should use. Since creating it involves finding the custom EL resolvers,
+	 * it should be created once and then shared: the resulting EL resolver is not modified afterwards and does not
+	 * depend on the context that an expression is evaluated in.
+	 *
+	 * @param configuration the configuration used
+	 * @return an EL resolver that consists of both the standard EL resolvers and the custom ones
+	 * @throws AluminumException when the custom EL resolvers can't be determined
+	 */
+	public static ELResolver createElResolver(Configuration configuration) throws AluminumException {
 		CompositeELResolver elResolver = new CompositeELResolver();
 
-		addCustomElResolvers(elResolver, EL_RESOLVER_WITHOUT_BASE_PACKAGES);
+		elResolver.add(new FunctionElResolver());
+		addCustomElResolvers(elResolver, configuration, EL_RESOLVER_WITHOUT_BASE_PACKAGES);
 		elResolver.add(new ImplicitObjectElResolver());
 		elResolver.add(new ContextVariableElResolver());
 		elResolver.add(new ArrayELResolver(true));
@@ -94,13 +111,13 @@ public class ElContext extends ELContext {
 		elResolver.add(new MapELResolver(true));
 		elResolver.add(new ResourceBundleELResolver());
 		elResolver.add(new BeanELResolver(true));
-		addCustomElResolvers(elResolver, EL_RESOLVER_WITH_BASE_PACKAGES);
+		addCustomElResolvers(elResolver, configuration, EL_RESOLVER_WITH_BASE_PACKAGES);
 
 		return elResolver;
 	}
 
-	private void addCustomElResolvers(
-			CompositeELResolver elResolver, String elResolverPackages) throws AluminumException {
+	private static void addCustomElResolvers(CompositeELResolver elResolver,
+			Configuration configuration, String elResolverPackages) throws AluminumException {
 		for (String elResolverPackage: configuration.getParameters().getValues(elResolverPackages)) {
 			List<Class<?>> elResolverClasses = configuration.getTypeFinder().find(new TypeFilter() {
 				public boolean accepts(Class<?> type) {
@@ -115,26 +132,6 @@ public class ElContext extends ELContext {
 		}
 	}
 
-	private javax.el.FunctionMapper createFunctionMapper() {
-		return new FunctionMapper(context, configuration);
-	}
-
-	private VariableMapper createVariableMapper() {
-		return new VariableMapper() {
-			private Map<String, ValueExpression> expressions = new HashMap<String, ValueExpression>();
-
-			@Override
-			public ValueExpression resolveVariable(String name) {
-				return expressions.get(name);
-			}
-
-			@Override
-			public ValueExpression setVariable(String name, ValueExpression expression) {
-				return expressions.put(name, expression);
-			}
-		};
-	}
-
 	/**
 	 * Returns the context that will be used to resolve variables and implicit objects.
 	 *
@@ -144,18 +141,54 @@ public class ElContext extends ELContext {
 		return context;
 	}
 
+	/**
+	 * Returns the function call sites of the expression that is evaluated in this EL context.
+	 *
+	 * @return the function call sites that can be called using this EL context
+	 */
+	protected FunctionCallSite[] getFunctionCallSites() {
+		return functionCallSites;
+	}
+
+	@Override
+	public Object getContext(@SuppressWarnings("rawtypes") Class key) {
+		return (key == ElContext.class) ? this : super.getContext(key);
+	}
+
 	@Override
 	public ELResolver getELResolver() {
 		return elResolver;
 	}
 
+	/**
+	 * Returns {@code null}: function calls are {@link FunctionCallTranslator translated} when an expression is {@link
+	 * ElExpressionFactory#compile(String, Map) compiled}.
+	 *
+	 * @return {@code null}
+	 */
 	@Override
 	public javax.el.FunctionMapper getFunctionMapper() {
-		return functionMapper;
+		return null;
 	}
 
 	@Override
 	public VariableMapper getVariableMapper() {
+		if (variableMapper == null) {
+			variableMapper = new VariableMapper() {
+				private Map<String, ValueExpression> expressions = new HashMap<String, ValueExpression>();
+
+				@Override
+				public ValueExpression resolveVariable(String name) {
+					return expressions.get(name);
+				}
+
+				@Override
+				public ValueExpression setVariable(String name, ValueExpression expression) {
+					return expressions.put(name, expression);
+				}
+			};
+		}
+
 		return variableMapper;
 	}
 
@@ -170,4 +203,6 @@ public class ElContext extends ELContext {
 	 * for custom EL resolvers that operate on a base object.
 	 */
 	public static final String EL_RESOLVER_WITH_BASE_PACKAGES = "expressions.el.resolvers_with_base.packages";
+
+	private static final FunctionCallSite[] NO_FUNCTION_CALL_SITES = new FunctionCallSite[0];
 }
\ No newline at end of file
@@ -16,38 +16,99 @@
 package com.googlecode.aluminumproject.expressions.el;
 
 import com.googlecode.aluminumproject.AluminumException;
-import com.googlecode.aluminumproject.configuration.Configuration;
 import com.googlecode.aluminumproject.context.Context;
-import com.googlecode.aluminumproject.expressions.Expression;
+import com.googlecode.aluminumproject.expressions.FoldableExpression;
+
+import de.odysseus.el.tree.Node;
+import de.odysseus.el.tree.Tree;
+import de.odysseus.el.tree.TreeBuilder;
+import de.odysseus.el.tree.impl.Builder;
+import de.odysseus.el.tree.impl.ast.AstMethod;
+import de.odysseus.el.tree.impl.ast.AstProperty;
 
 import javax.el.ELException;
+import javax.el.ELResolver;
 import javax.el.ValueExpression;
 
 /**
  * An expression that delegates to an {@link ValueExpression EL value expression}.
+ * <p>
+ * The value expression is parsed once, when the expression is created; it is evaluated in a new, lightweight {@link
+ * ElContext EL context} each time the expression is evaluated, so EL expressions can be reused and shared between
+ * threads. Function calls are {@link FunctionCallTranslator translated} before the value expression is parsed; the
+ * resulting {@link FunctionCallSite function call sites} are passed to the EL context as well.
+ * <p>
+ * An EL expression is constant when it consists of literals and operators only. This is decided by analysing the syntax
+ * tree that JUEL builds for the expression: expressions whose tree contains identifiers, function calls, properties or
+ * method calls are not constant. Since only template optimisers need to know whether an expression is constant, the
+ * syntax tree is built the first time {@link #isConstant()} is called, rather than when the expression is created.
  */
-public class ElExpression implements Expression {
+public class ElExpression implements FoldableExpression {
+	private String expressionString;
 	private ValueExpression expression;
+	private FunctionCallSite[] functionCallSites;
+	private volatile Boolean constant;
 
-	private Configuration configuration;
+	private ELResolver elResolver;
 
 	/**
 	 * Creates an EL expression.
 	 *
+	 * @param expressionString the expression as it was written, before its function calls were translated
 	 * @param expression the underlying value expression
-	 * @param configuration the configuration that the expression factory was initialised with
+	 * @param functionCallSites the call sites of the functions that the expression calls
+	 * @param elResolver the EL resolver to evaluate the expression with
 	 */
-	protected ElExpression(ValueExpression expression, Configuration configuration) {
+	protected ElExpression(String expressionString,
+			ValueExpression expression, FunctionCallSite[] functionCallSites, ELResolver elResolver) {
+		this.expressionString = expressionString;
 		this.expression = expression;
+		this.functionCallSites = functionCallSites;
+
+		this.elResolver = elResolver;
+	}
+
+	private static boolean containsLiteralsOnly(String expressionString) {
+		boolean literalsOnly;
+
+		try {
+			Tree tree = TREE_BUILDER.build(expressionString);
 
-		this.configuration = configuration;
+			literalsOnly = !tree.getIdentifierNodes().iterator().hasNext()
+				&& !tree.getFunctionNodes().iterator().hasNext() && containsLiteralsOnly(tree.getRoot());
+		} catch (ELException exception) {
+			literalsOnly = false;
+		}
+
+		return literalsOnly;
+	}
+
+	private static boolean containsLiteralsOnly(Node node) {
+		boolean literalsOnly = !((node instanceof AstProperty) || (node instanceof AstMethod));
+
+		for (int i = 0; literalsOnly && (i < node.getCardinality()); i++) {
+			literalsOnly = containsLiteralsOnly(node.getChild(i));
+		}
+
+		return literalsOnly;
+	}
+
+	public boolean isConstant() {
+		if (constant == null) {
+			constant = Boolean.valueOf(expression.isLiteralText() || containsLiteralsOnly(expressionString));
+		}
+
+		return constant.booleanValue();
 	}
 
 	public Object evaluate(Context context) throws AluminumException {
 		try {
-			return expression.getValue(new ElContext(context, configuration));
+			return expression.getValue(new ElContext(context, functionCallSites, elResolver));
 		} catch (ELException exception) {
-			throw new AluminumException(exception, "can't evaluate expression ", expression.getExpressionString());
+			throw new AluminumException(exception, "can't evaluate expression ", expressionString);
 		}
 	}
+
+	/** The tree builder that is used to analyse expressions; it only needs to recognise the syntax of an expression. */
+	private final static TreeBuilder TREE_BUILDER = new Builder(Builder.Feature.METHOD_INVOCATIONS);
 }
\ No newline at end of file
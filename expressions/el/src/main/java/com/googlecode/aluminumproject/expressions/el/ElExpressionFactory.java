@@ -21,16 +21,22 @@ import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.expressions.Expression;
 import com.googlecode.aluminumproject.expressions.ExpressionFactory;
 import com.googlecode.aluminumproject.expressions.ExpressionOccurrence;
+import com.googlecode.aluminumproject.templates.TemplateElement;
+import com.googlecode.aluminumproject.templates.TemplateInformation;
 import com.googlecode.aluminumproject.utilities.Logger;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import javax.el.ELContext;
 import javax.el.ELException;
+import javax.el.ELResolver;
 import javax.el.ValueExpression;
+import javax.el.VariableMapper;
 
 /**
  * An {@link ExpressionFactory expression factory} that uses the Unified Expression Language to create expressions.
@@ -38,11 +44,14 @@ import javax.el.ValueExpression;
  * {@link ExpressionFactory Expression factories} may be constructed with a number of implementation-specific
  * properties. The properties to supply can be configured by providing a parameter named {@value
  * #EXPRESSION_FACTORY_PROPERTIES}; by default, the expression factory is created without any parameters.
+ * <p>
+ * The {@link ElContext#createElResolver(Configuration) EL resolver} and the {@link FunctionRegistry function registry}
+ * are created when the expression factory is initialised and shared by all of the expressions that it creates.
  */
 public class ElExpressionFactory implements ExpressionFactory {
-	private Configuration configuration;
-
 	private javax.el.ExpressionFactory expressionFactory;
+	private ELResolver elResolver;
+	private FunctionRegistry functionRegistry;
 
 	private final Logger logger;
 
@@ -54,8 +63,6 @@ public class ElExpressionFactory implements ExpressionFactory {
 	}
 
 	public void initialise(Configuration configuration) throws AluminumException {
-		this.configuration = configuration;
-
 		Map<String, String> emptyPropertyMap = Collections.emptyMap();
 
 		Map<String, String> propertyMap =
@@ -73,12 +80,11 @@ public class ElExpressionFactory implements ExpressionFactory {
 			expressionFactory = javax.el.ExpressionFactory.newInstance(properties);
 		}
 
-		FunctionDelegateFactory.addConfiguration(configuration);
+		elResolver = ElContext.createElResolver(configuration);
+		functionRegistry = new FunctionRegistry(configuration);
 	}
 
-	public void disable() {
-		FunctionDelegateFactory.removeConfiguration(configuration);
-	}
+	public void disable() {}
 
 	public List<ExpressionOccurrence> findExpressions(String text) {
 		List<ExpressionOccurrence> occurrences = new ArrayList<ExpressionOccurrence>();
@@ -115,13 +121,25 @@ public class ElExpressionFactory implements ExpressionFactory {
 	}
 
 	public Expression create(String value, Context context) throws AluminumException {
+		return compile(value, getLibraryUrlAbbreviations(context));
+	}
+
+	public Expression compile(String value, Map<String, String> libraryUrlAbbreviations) throws AluminumException {
+		logger.debug("compiling expression '", value, "'");
+
+		List<FunctionCallSite> functionCallSites = new ArrayList<FunctionCallSite>();
+
+		String translatedValue =
+			new FunctionCallTranslator(libraryUrlAbbreviations, functionRegistry).translate(value, functionCallSites);
+
 		try {
-			ElContext elContext = new ElContext(context, configuration);
+			ELContext compilationContext = new CompilationContext(elResolver);
 
 			ValueExpression expression =
-				expressionFactory.createValueExpression(elContext, value, Object.class);
+				expressionFactory.createValueExpression(compilationContext, translatedValue, Object.class);
 
-			return new ElExpression(expression, configuration);
+			return new ElExpression(value, expression,
+				functionCallSites.toArray(new FunctionCallSite[functionCallSites.size()]), elResolver);
 		} catch (ELException exception) {
 			throw new AluminumException(exception, "can't create expression ", value);
 		}
@@ -132,4 +150,68 @@ public class ElExpressionFactory implements ExpressionFactory {
 	 * factory should be created with.
 	 */
 	public final static String EXPRESSION_FACTORY_PROPERTIES = "expression_factory.el.expression_factory_properties";
+
+	/**
+	 * Returns the library URL abbreviations of the template element that is currently processed in a certain context.
+	 *
+	 * @param context the context to use
+	 * @return the library URL abbreviations of the current template element or an empty map if there is no current
+	 *         template element
+	 */
+	static Map<String, String> getLibraryUrlAbbreviations(Context context) {
+		Map<String, String> libraryUrlAbbreviations;
+
+		TemplateElement currentTemplateElement;
+
+		try {
+			currentTemplateElement = TemplateInformation.from(context).getCurrentTemplateElement();
+		} catch (AluminumException exception) {
+			currentTemplateElement = null;
+		}
+
+		if (currentTemplateElement == null) {
+			libraryUrlAbbreviations = Collections.emptyMap();
+		} else {
+			libraryUrlAbbreviations = currentTemplateElement.getLibraryUrlAbbreviations();
+		}
+
+		return libraryUrlAbbreviations;
+	}
+
+	private static class CompilationContext extends ELContext {
+		private ELResolver elResolver;
+		private VariableMapper variableMapper;
+
+		public CompilationContext(ELResolver elResolver) {
+			this.elResolver = elResolver;
+			variableMapper = new VariableMapper() {
+				private Map<String, ValueExpression> expressions = new HashMap<String, ValueExpression>();
+
+				@Override
+				public ValueExpression resolveVariable(String name) {
+					return expressions.get(name);
+				}
+
+				@Override
+				public ValueExpression setVariable(String name, ValueExpression expression) {
+					return expressions.put(name, expression);
+				}
+			};
+		}
+
+		@Override
+		public ELResolver getELResolver() {
+			return elResolver;
+		}
+
+		@Override
+		public javax.el.FunctionMapper getFunctionMapper() {
+			return null;
+		}
+
+		@Override
+		public VariableMapper getVariableMapper() {
+			return variableMapper;
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.expressions.el;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.libraries.functions.FunctionFactory;
+import com.googlecode.aluminumproject.libraries.functions.InvocableFunction;
+
+/**
+ * A function call in an {@link ElExpression EL expression}. The function of a call site is resolved when the expression
+ * is compiled (see {@link FunctionRegistry#getInvocableFunction(FunctionFactory)}): each time the expression is
+ * evaluated, the call site passes the actual arguments straight to its {@link InvocableFunction invocable function}.
+ * <p>
+ * Function call sites don't keep any state between calls, so they can be shared between threads.
+ */
+public class FunctionCallSite {
+	private String name;
+
+	private InvocableFunction function;
+	private int argumentCount;
+
+	/**
+	 * Creates a function call site.
+	 *
+	 * @param name the name of the called function, as it occurs in the expression
+	 * @param functionFactory the factory of the function to call
+	 * @param function the function to call with the actual arguments
+	 */
+	public FunctionCallSite(String name, FunctionFactory functionFactory, InvocableFunction function) {
+		this.name = name;
+
+		this.function = function;
+
+		argumentCount = functionFactory.getInformation().getArgumentInformation().size();
+	}
+
+	/**
+	 * Calls the function.
+	 *
+	 * @param arguments the argument values
+	 * @param context the context to call the function in
+	 * @return the result of the function
+	 * @throws AluminumException when the number of arguments is wrong or when the function can't be called
+	 */
+	public Object call(Object[] arguments, Context context) throws AluminumException {
+		int suppliedArgumentCount = (arguments == null) ? 0 : arguments.length;
+
+		if (suppliedArgumentCount != argumentCount) {
+			throw new AluminumException("function ", name, " expects ", argumentCount, " argument(s), ",
+				"but was called with ", suppliedArgumentCount);
+		}
+
+		return function.invoke((arguments == null) ? NO_ARGUMENTS : arguments, context);
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+	private final static Object[] NO_ARGUMENTS = new Object[0];
+}
\ No newline at end of file
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.expressions.el;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.libraries.functions.FunctionFactory;
+import com.googlecode.aluminumproject.utilities.Logger;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Translates the function calls in an expression into method calls that an {@link FunctionElResolver EL resolver} can
+ * handle.
+ * <p>
+ * The Unified Expression Language calls functions through static methods, which means that a function can't be given
+ * the context that the expression is evaluated in. A function call translator therefore replaces each function call
+ * ({@code prefix:name(arguments)}) whose function can be found by a method call on the {@value #FUNCTION_CALL_SITES}
+ * identifier ({@code aluminumFunctionCallSites.f0(arguments)}) and remembers a {@link FunctionCallSite call site} for
+ * it. Function calls whose function can't be found are left alone, so that the expression factory can report them.
+ * <p>
+ * Function prefixes are resolved using a fixed set of library URL abbreviations, which makes a function call translator
+ * usable while an expression is compiled (i.e. before there is a context to evaluate it in).
+ */
+public class FunctionCallTranslator {
+	private Map<String, String> libraryUrlAbbreviations;
+
+	private FunctionRegistry functionRegistry;
+
+	private final Logger logger;
+
+	/**
+	 * Creates a function call translator.
+	 *
+	 * @param libraryUrlAbbreviations the library URL abbreviations to resolve function prefixes with
+	 * @param functionRegistry the function registry to find functions in
+	 */
+	public FunctionCallTranslator(Map<String, String> libraryUrlAbbreviations, FunctionRegistry functionRegistry) {
+		this.libraryUrlAbbreviations = libraryUrlAbbreviations;
+
+		this.functionRegistry = functionRegistry;
+
+		logger = Logger.get(getClass());
+	}
+
+	/**
+	 * Translates the function calls in an expression.
+	 *
+	 * @param expression the expression to translate
+	 * @param functionCallSites the list to add the call sites of the translated function calls to; the index of a call
+	 *                          site in this list is used in the translated expression
+	 * @return the translated expression
+	 * @throws AluminumException when the functions of the configured libraries can't be determined
+	 */
+	public String translate(String expression, List<FunctionCallSite> functionCallSites) throws AluminumException {
+		StringBuilder translatedExpression = new StringBuilder(expression.length());
+
+		boolean insideExpression = false;
+		int i = 0;
+
+		while (i < expression.length()) {
+			char character = expression.charAt(i);
+
+			int end;
+
+			if (!insideExpression) {
+				if ((character == '\\') && (i + 1 < expression.length())) {
+					end = i + 2;
+				} else {
+					insideExpression = ((character == '$') || (character == '#'))
+						&& (i + 1 < expression.length()) && (expression.charAt(i + 1) == '{');
+
+					end = insideExpression ? i + 2 : i + 1;
+				}
+			} else if (character == '}') {
+				insideExpression = false;
+
+				end = i + 1;
+			} else if ((character == '\'') || (character == '"')) {
+				end = i + 1;
+
+				while ((end < expression.length()) && (expression.charAt(end) != character)) {
+					end += (expression.charAt(end) == '\\') ? 2 : 1;
+				}
+
+				end = Math.min(end + 1, expression.length());
+			} else if (Character.isDigit(character)) {
+				end = i + 1;
+
+				while ((end < expression.length()) && (Character.isLetterOrDigit(expression.charAt(end))
+						|| (expression.charAt(end) == '.'))) {
+					end++;
+				}
+			} else if (Character.isJavaIdentifierStart(character)) {
+				end = skipIdentifier(expression, i);
+
+				int parenthesis = findFunctionCall(expression, i, end, translatedExpression);
+
+				if (parenthesis >= 0) {
+					FunctionCallSite functionCallSite = createFunctionCallSite(expression.substring(i, parenthesis));
+
+					if (functionCallSite != null) {
+						translatedExpression.append(FUNCTION_CALL_SITES).append('.')
+							.append(FUNCTION_CALL_SITE_PREFIX).append(functionCallSites.size());
+
+						functionCallSites.add(functionCallSite);
+
+						i = parenthesis;
+					}
+
+					end = parenthesis;
+				}
+			} else {
+				end = i + 1;
+			}
+
+			translatedExpression.append(expression, i, end);
+
+			i = end;
+		}
+
+		return translatedExpression.toString();
+	}
+
+	private static int findFunctionCall(String expression, int start, int end, StringBuilder translatedExpression) {
+		int parenthesis = -1;
+
+		if (!isPropertyName(translatedExpression)) {
+			int next = skipWhitespace(expression, end);
+
+			if ((next < expression.length()) && (expression.charAt(next) == ':')) {
+				int nameStart = skipWhitespace(expression, next + 1);
+
+				if ((nameStart < expression.length())
+						&& Character.isJavaIdentifierStart(expression.charAt(nameStart))) {
+					parenthesis = skipWhitespace(expression, skipIdentifier(expression, nameStart));
+				}
+			} else if (!KEYWORDS.contains(expression.substring(start, end))) {
+				parenthesis = next;
+			}
+
+			if ((parenthesis >= 0)
+					&& ((parenthesis == expression.length()) || (expression.charAt(parenthesis) != '('))) {
+				parenthesis = -1;
+			}
+		}
+
+		return parenthesis;
+	}
+
+	private FunctionCallSite createFunctionCallSite(String functionCall) {
+		FunctionCallSite functionCallSite = null;
+
+		int colonIndex = functionCall.indexOf(':');
+
+		String prefix = (colonIndex < 0) ? "" : functionCall.substring(0, colonIndex).trim();
+		String name = functionCall.substring(colonIndex + 1).trim();
+
+		logger.debug("finding function with prefix '", prefix, "' and name '", name, "'");
+
+		if (libraryUrlAbbreviations.containsKey(prefix)) {
+			FunctionFactory functionFactory =
+				functionRegistry.getFunctionFactory(libraryUrlAbbreviations.get(prefix), name);
+
+			if (functionFactory != null) {
+				String functionName = (colonIndex < 0) ? name : String.format("%s:%s", prefix, name);
+
+				functionCallSite = new FunctionCallSite(
+					functionName, functionFactory, functionRegistry.getInvocableFunction(functionFactory));
+			}
+		} else if (colonIndex < 0) {
+			logger.debug("there is no default library, so '", name, "' is no function call");
+		} else {
+			logger.warn("prefix '", prefix, "' is no library URL abbreviation ",
+				"(valid abbreviations are ", libraryUrlAbbreviations, ")");
+		}
+
+		return functionCallSite;
+	}
+
+	private static boolean isPropertyName(StringBuilder translatedExpression) {
+		int i = translatedExpression.length() - 1;
+
+		while ((i >= 0) && Character.isWhitespace(translatedExpression.charAt(i))) {
+			i--;
+		}
+
+		return (i >= 0) && (translatedExpression.charAt(i) == '.');
+	}
+
+	private static int skipIdentifier(String expression, int start) {
+		int end = start + 1;
+
+		while ((end < expression.length()) && Character.isJavaIdentifierPart(expression.charAt(end))) {
+			end++;
+		}
+
+		return end;
+	}
+
+	private static int skipWhitespace(String expression, int start) {
+		int end = start;
+
+		while ((end < expression.length()) && Character.isWhitespace(expression.charAt(end))) {
+			end++;
+		}
+
+		return end;
+	}
+
+	/** The identifiers that can't be the name of a function without a prefix. */
+	private final static Set<String> KEYWORDS = new HashSet<String>(Arrays.asList("true", "false", "null",
+		"and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge", "div", "mod", "empty", "instanceof"));
+
+	/** The identifier that translated function calls use as the base of their method call: {@value}. */
+	public final static String FUNCTION_CALL_SITES = "aluminumFunctionCallSites";
+
+	/** The prefix of the method names that translated function calls use: {@value}. */
+	public final static String FUNCTION_CALL_SITE_PREFIX = "f";
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.expressions.el;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.annotations.Ignored;
+
+import java.beans.FeatureDescriptor;
+import java.util.Iterator;
+
+import javax.el.ELContext;
+import javax.el.ELException;
+import javax.el.ELResolver;
+
+/**
+ * An {@link ELResolver EL resolver} that calls the functions of {@link FunctionCallTranslator translated} function
+ * calls.
+ * <p>
+ * The {@value FunctionCallTranslator#FUNCTION_CALL_SITES} identifier is resolved to the {@link FunctionCallSite
+ * function call sites} of the expression that is being evaluated; invoking a method on them calls the function of the
+ * corresponding call site with the {@link com.googlecode.aluminumproject.context.Context context} of the {@link
+ * ElContext EL context}.
+ */
+@Ignored
+public class FunctionElResolver extends ELResolver {
+	@Override
+	public Object getValue(ELContext context, Object base, Object property) {
+		Object value = null;
+
+		if ((base == null) && FunctionCallTranslator.FUNCTION_CALL_SITES.equals(property)) {
+			ElContext elContext = getElContext(context);
+
+			if (elContext != null) {
+				value = elContext.getFunctionCallSites();
+
+				context.setPropertyResolved(true);
+			}
+		}
+
+		return value;
+	}
+
+	@Override
+	public Object invoke(ELContext context,
+			Object base, Object method, Class<?>[] parameterTypes, Object[] parameters) {
+		Object result = null;
+
+		if ((base instanceof FunctionCallSite[]) && (method instanceof String)) {
+			ElContext elContext = getElContext(context);
+
+			if (elContext != null) {
+				String index = ((String) method).substring(FunctionCallTranslator.FUNCTION_CALL_SITE_PREFIX.length());
+				FunctionCallSite functionCallSite = ((FunctionCallSite[]) base)[Integer.parseInt(index)];
+
+				try {
+					result = functionCallSite.call(parameters, elContext.getContext());
+				} catch (AluminumException exception) {
+					throw new ELException(String.format("can't call function %s", functionCallSite), exception);
+				}
+
+				context.setPropertyResolved(true);
+			}
+		}
+
+		return result;
+	}
+
+	private ElContext getElContext(ELContext context) {
+		Object elContext = context.getContext(ElContext.class);
+
+		return (elContext instanceof ElContext) ? (ElContext) elContext : null;
+	}
+
+	@Override
+	public Class<?> getType(ELContext context, Object base, Object property) {
+		return null;
+	}
+
+	@Override
+	public void setValue(ELContext context, Object base, Object property, Object value) {}
+
+	@Override
+	public boolean isReadOnly(ELContext context, Object base, Object property) {
+		return false;
+	}
+
+	@Override
+	public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+		return null;
+	}
+
+	@Override
+	public Class<?> getCommonPropertyType(ELContext context, Object base) {
+		return null;
+	}
+}
\ No newline at end of file
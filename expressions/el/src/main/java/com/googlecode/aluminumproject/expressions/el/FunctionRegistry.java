@@ -0,0 +1,228 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.expressions.el;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.converters.ConverterRegistry;
+import com.googlecode.aluminumproject.libraries.Library;
+import com.googlecode.aluminumproject.libraries.LibraryInformation;
+import com.googlecode.aluminumproject.libraries.functions.ConstantFunctionArgument;
+import com.googlecode.aluminumproject.libraries.functions.FunctionArgument;
+import com.googlecode.aluminumproject.libraries.functions.FunctionFactory;
+import com.googlecode.aluminumproject.libraries.functions.InvocableFunction;
+import com.googlecode.aluminumproject.libraries.functions.InvocableFunctionFactory;
+import com.googlecode.aluminumproject.libraries.functions.StaticMethodInvokingFunctionFactory;
+import com.googlecode.aluminumproject.utilities.ConfigurationUtilities;
+import com.googlecode.aluminumproject.utilities.Logger;
+import com.googlecode.aluminumproject.utilities.StringUtilities;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Finds the {@link FunctionFactory function factories} of the libraries in a {@link Configuration configuration}.
+ * <p>
+ * The function factories of all libraries are collected when the first function factory is looked up. Dynamic function
+ * factories are obtained from their library when they are first needed and remembered afterwards.
+ * <p>
+ * A function registry also provides an {@link InvocableFunction invocable function} for each function factory. For
+ * {@link StaticMethodInvokingFunctionFactory static method invoking function factories}, a {@link StaticMethodInvoker
+ * static method invoker} is generated that calls the method directly; when that is not possible, {@link
+ * InvocableFunctionFactory invocable function factories} are asked to create an invocable function and other function
+ * factories are asked to create a function for each call. Invocable functions are remembered per function factory.
+ * <p>
+ * A function registry can be used by multiple threads at the same time.
+ */
+public class FunctionRegistry {
+	private Configuration configuration;
+
+	private volatile ConcurrentMap<String, FunctionFactory> functionFactories;
+
+	private ConcurrentMap<FunctionFactory, InvocableFunction> invocableFunctions;
+	private StaticMethodInvokerGenerator staticMethodInvokerGenerator;
+
+	private final Logger logger;
+
+	/**
+	 * Creates a function registry.
+	 *
+	 * @param configuration the configuration that contains the libraries to find function factories in
+	 */
+	public FunctionRegistry(Configuration configuration) {
+		this.configuration = configuration;
+
+		invocableFunctions = new ConcurrentHashMap<FunctionFactory, InvocableFunction>();
+		staticMethodInvokerGenerator = new StaticMethodInvokerGenerator();
+
+		logger = Logger.get(getClass());
+	}
+
+	/**
+	 * Finds a function factory.
+	 *
+	 * @param libraryUrl the (possibly versioned) URL of the library that contains the function
+	 * @param functionName the name of the function
+	 * @return the function factory for the requested function or {@code null} if it can't be found
+	 * @throws AluminumException when the libraries can't be obtained from the configuration
+	 */
+	public FunctionFactory getFunctionFactory(String libraryUrl, String functionName) throws AluminumException {
+		ConcurrentMap<String, FunctionFactory> functionFactories = getFunctionFactories();
+
+		String key = getKey(libraryUrl, functionName);
+
+		FunctionFactory functionFactory = functionFactories.get(key);
+
+		if (functionFactory == null) {
+			functionFactory = getDynamicFunctionFactory(libraryUrl, functionName);
+
+			if (functionFactory != null) {
+				FunctionFactory existingFunctionFactory = functionFactories.putIfAbsent(key, functionFactory);
+
+				if (existingFunctionFactory != null) {
+					functionFactory = existingFunctionFactory;
+				}
+			}
+		}
+
+		return functionFactory;
+	}
+
+	private ConcurrentMap<String, FunctionFactory> getFunctionFactories() throws AluminumException {
+		ConcurrentMap<String, FunctionFactory> functionFactories = this.functionFactories;
+
+		if (functionFactories == null) {
+			synchronized (this) {
+				functionFactories = this.functionFactories;
+
+				if (functionFactories == null) {
+					functionFactories = new ConcurrentHashMap<String, FunctionFactory>();
+
+					for (Library library: configuration.getLibraries()) {
+						LibraryInformation libraryInformation = library.getInformation();
+
+						for (FunctionFactory functionFactory: library.getFunctionFactories()) {
+							String functionName = functionFactory.getInformation().getName();
+
+							functionFactories.put(getKey(libraryInformation.getUrl(), functionName), functionFactory);
+							functionFactories.put(
+								getKey(libraryInformation.getVersionedUrl(), functionName), functionFactory);
+						}
+					}
+
+					this.functionFactories = functionFactories;
+				}
+			}
+		}
+
+		return functionFactories;
+	}
+
+	private FunctionFactory getDynamicFunctionFactory(String libraryUrl, String functionName) {
+		FunctionFactory functionFactory = null;
+
+		Library library = ConfigurationUtilities.findLibrary(configuration, libraryUrl);
+
+		if ((library != null) && library.getInformation().isSupportingDynamicFunctions()) {
+			try {
+				functionFactory = library.getDynamicFunctionFactory(functionName);
+			} catch (AluminumException exception) {
+				logger.warn("can't get dynamic function factory for function '", functionName, "'",
+					" in library with URL '", libraryUrl, "'");
+			}
+		} else {
+			logger.warn("can't find function with library URL '", libraryUrl, "' and name '", functionName, "'",
+				(library == null) ? "" : " and dynamic functions are not supported by the library");
+		}
+
+		return functionFactory;
+	}
+
+	/**
+	 * Returns an invocable function for a function factory.
+	 *
+	 * @param functionFactory the function factory to get an invocable function for
+	 * @return an invocable function that calls the function of the given function factory
+	 * @throws AluminumException when the invocable function can't be created
+	 */
+	public InvocableFunction getInvocableFunction(FunctionFactory functionFactory) throws AluminumException {
+		InvocableFunction invocableFunction = invocableFunctions.get(functionFactory);
+
+		if (invocableFunction == null) {
+			invocableFunction = createInvocableFunction(functionFactory);
+
+			InvocableFunction existingInvocableFunction =
+				invocableFunctions.putIfAbsent(functionFactory, invocableFunction);
+
+			if (existingInvocableFunction != null) {
+				invocableFunction = existingInvocableFunction;
+			}
+		}
+
+		return invocableFunction;
+	}
+
+	private InvocableFunction createInvocableFunction(FunctionFactory functionFactory) throws AluminumException {
+		InvocableFunction invocableFunction = null;
+
+		ConverterRegistry converterRegistry = configuration.getConverterRegistry();
+
+		if (functionFactory instanceof StaticMethodInvokingFunctionFactory) {
+			try {
+				invocableFunction = staticMethodInvokerGenerator.generate(
+					(StaticMethodInvokingFunctionFactory) functionFactory, converterRegistry);
+			} catch (AluminumException exception) {
+				logger.warn(exception, "can't generate static method invoker, the method will be invoked reflectively");
+			}
+		}
+
+		if (invocableFunction != null) {
+			logger.debug("using generated invoker ", invocableFunction);
+		} else if (functionFactory instanceof InvocableFunctionFactory) {
+			invocableFunction = ((InvocableFunctionFactory) functionFactory).createInvocableFunction();
+		} else {
+			invocableFunction = new CreatingFunction(functionFactory, converterRegistry);
+		}
+
+		return invocableFunction;
+	}
+
+	private static String getKey(String libraryUrl, String functionName) {
+		return String.format("%s/%s", libraryUrl, StringUtilities.camelCase(functionName));
+	}
+
+	private static class CreatingFunction implements InvocableFunction {
+		private FunctionFactory functionFactory;
+		private ConverterRegistry converterRegistry;
+
+		public CreatingFunction(FunctionFactory functionFactory, ConverterRegistry converterRegistry) {
+			this.functionFactory = functionFactory;
+			this.converterRegistry = converterRegistry;
+		}
+
+		public Object invoke(Object[] arguments, Context context) throws AluminumException {
+			FunctionArgument[] functionArguments = new FunctionArgument[arguments.length];
+
+			for (int i = 0; i < arguments.length; i++) {
+				functionArguments[i] = new ConstantFunctionArgument(arguments[i], converterRegistry);
+			}
+
+			return functionFactory.create(Arrays.asList(functionArguments), context).call(context);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.expressions.el;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.converters.ConverterRegistry;
+import com.googlecode.aluminumproject.libraries.functions.InvocableFunction;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+/**
+ * The superclass of the {@link InvocableFunction invocable functions} that a {@link StaticMethodInvokerGenerator static
+ * method invoker generator} generates. A static method invoker converts the arguments it is given to the parameter
+ * types of its method (using the {@link ConverterRegistry converter registry} that it was created with) and lets its
+ * generated subclass call the method directly.
+ */
+public abstract class StaticMethodInvoker implements InvocableFunction {
+	private Method method;
+
+	private ConverterRegistry converterRegistry;
+	private Type[] parameterTypes;
+	private boolean[] primitiveParameters;
+
+	/**
+	 * Creates a static method invoker.
+	 *
+	 * @param method the static method to invoke
+	 * @param converterRegistry the converter registry to convert the arguments with
+	 * @param parameterTypes the types to convert the arguments to (primitive types should be wrapped)
+	 */
+	protected StaticMethodInvoker(Method method, ConverterRegistry converterRegistry, Type[] parameterTypes) {
+		this.method = method;
+
+		this.converterRegistry = converterRegistry;
+		this.parameterTypes = parameterTypes;
+
+		Class<?>[] methodParameterTypes = method.getParameterTypes();
+		primitiveParameters = new boolean[methodParameterTypes.length];
+
+		for (int i = 0; i < methodParameterTypes.length; i++) {
+			primitiveParameters[i] = methodParameterTypes[i].isPrimitive();
+		}
+	}
+
+	public Object invoke(Object[] arguments, Context context) throws AluminumException {
+		if (arguments.length != parameterTypes.length) {
+			throw new AluminumException("expected ", parameterTypes.length, " arguments, got ", arguments.length);
+		}
+
+		Object[] parameters = new Object[parameterTypes.length];
+
+		for (int i = 0; i < parameters.length; i++) {
+			parameters[i] = converterRegistry.convert(arguments[i], parameterTypes[i]);
+
+			if ((parameters[i] == null) && primitiveParameters[i]) {
+				throw new AluminumException("can't invoke static method ", method, " with null argument ", i);
+			}
+		}
+
+		try {
+			return invokeMethod(parameters);
+		} catch (Throwable throwable) {
+			throw new AluminumException(throwable, "exception while invoking static method ", method);
+		}
+	}
+
+	/**
+	 * Invokes the static method.
+	 *
+	 * @param parameters the converted arguments (none of the arguments for primitive parameters are {@code null})
+	 * @return the result of the method (wrapped if it's primitive) or {@code null} if the method is void
+	 * @throws Throwable anything that the method throws
+	 */
+	protected abstract Object invokeMethod(Object[] parameters) throws Throwable;
+
+	@Override
+	public String toString() {
+		return method.toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.expressions.el;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.converters.ConverterRegistry;
+import com.googlecode.aluminumproject.libraries.functions.FunctionArgumentInformation;
+import com.googlecode.aluminumproject.libraries.functions.StaticMethodInvokingFunctionFactory;
+import com.googlecode.aluminumproject.utilities.ReflectionUtilities;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtConstructor;
+import javassist.CtMethod;
+import javassist.LoaderClassPath;
+import javassist.NotFoundException;
+
+/**
+ * Generates {@link StaticMethodInvoker static method invokers} for the methods of {@link
+ * StaticMethodInvokingFunctionFactory static method invoking function factories}, using <a
+ * href="http://www.javassist.org/">Javassist</a>. Each generated invoker is a class of its own that calls its method
+ * directly instead of through reflection.
+ * <p>
+ * Invokers can only be generated for public methods of public classes. A static method invoker generator can be used by
+ * multiple threads at the same time.
+ */
+public class StaticMethodInvokerGenerator {
+	private AtomicInteger invokerClassCount;
+
+	/**
+	 * Creates a static method invoker generator.
+	 */
+	public StaticMethodInvokerGenerator() {
+		invokerClassCount = new AtomicInteger();
+	}
+
+	/**
+	 * Generates a static method invoker.
+	 *
+	 * @param functionFactory the function factory whose method should be invoked
+	 * @param converterRegistry the converter registry that the invoker should convert the function arguments with
+	 * @return a static method invoker for the method of the given function factory
+	 * @throws AluminumException when no invoker can be generated for the method
+	 */
+	public StaticMethodInvoker generate(StaticMethodInvokingFunctionFactory functionFactory,
+			ConverterRegistry converterRegistry) throws AluminumException {
+		Method method = functionFactory.getMethod();
+		Class<?> declaringClass = method.getDeclaringClass();
+
+		if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())) {
+			throw new AluminumException("can't generate invoker for method ", method, ": it is not accessible");
+		}
+
+		ClassLoader parentClassLoader = getParentClassLoader(declaringClass);
+
+		List<FunctionArgumentInformation> argumentInformation =
+			functionFactory.getInformation().getArgumentInformation();
+
+		Type[] parameterTypes = new Type[argumentInformation.size()];
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			Type type = argumentInformation.get(i).getType();
+
+			parameterTypes[i] = (type instanceof Class) ? ReflectionUtilities.wrapPrimitiveType((Class<?>) type) : type;
+		}
+
+		try {
+			Class<?> invokerClass = compile(method, parentClassLoader);
+
+			return (StaticMethodInvoker) invokerClass.getConstructor(Method.class, ConverterRegistry.class,
+				Type[].class).newInstance(method, converterRegistry, parameterTypes);
+		} catch (NotFoundException exception) {
+			throw new AluminumException(exception, "can't generate invoker for method ", method);
+		} catch (CannotCompileException exception) {
+			throw new AluminumException(exception, "can't generate invoker for method ", method);
+		} catch (IOException exception) {
+			throw new AluminumException(exception, "can't generate invoker for method ", method);
+		} catch (LinkageError error) {
+			throw new AluminumException(error, "can't load invoker for method ", method);
+		} catch (NoSuchMethodException exception) {
+			throw new AluminumException(exception, "can't create invoker for method ", method);
+		} catch (InstantiationException exception) {
+			throw new AluminumException(exception, "can't create invoker for method ", method);
+		} catch (IllegalAccessException exception) {
+			throw new AluminumException(exception, "can't create invoker for method ", method);
+		} catch (InvocationTargetException exception) {
+			throw new AluminumException(exception.getCause(), "can't create invoker for method ", method);
+		}
+	}
+
+	private ClassLoader getParentClassLoader(Class<?> declaringClass) throws AluminumException {
+		ClassLoader invokerClassLoader = StaticMethodInvoker.class.getClassLoader();
+		ClassLoader declaringClassLoader = declaringClass.getClassLoader();
+
+		ClassLoader parentClassLoader;
+
+		if (isVisible(declaringClass, invokerClassLoader)) {
+			parentClassLoader = invokerClassLoader;
+		} else if (isVisible(StaticMethodInvoker.class, declaringClassLoader)) {
+			parentClassLoader = declaringClassLoader;
+		} else {
+			throw new AluminumException("can't find a class loader that can load both ", declaringClass,
+				" and ", StaticMethodInvoker.class);
+		}
+
+		return parentClassLoader;
+	}
+
+	private static boolean isVisible(Class<?> type, ClassLoader classLoader) {
+		try {
+			return Class.forName(type.getName(), false, classLoader) == type;
+		} catch (ClassNotFoundException exception) {
+			return false;
+		}
+	}
+
+	private Class<?> compile(Method method, ClassLoader parentClassLoader)
+			throws NotFoundException, CannotCompileException, IOException {
+		ClassPool classPool = new ClassPool(true);
+		classPool.appendClassPath(new LoaderClassPath(parentClassLoader));
+
+		String invokerClassName =
+			String.format("%s$Invoker%d", getClass().getName(), invokerClassCount.incrementAndGet());
+
+		CtClass invokerClass =
+			classPool.makeClass(invokerClassName, classPool.get(StaticMethodInvoker.class.getName()));
+
+		CtConstructor constructor = new CtConstructor(new CtClass[] {
+			classPool.get(Method.class.getName()),
+			classPool.get(ConverterRegistry.class.getName()),
+			classPool.get(Type[].class.getName())
+		}, invokerClass);
+		constructor.setBody("{super($$);}");
+		invokerClass.addConstructor(constructor);
+
+		CtMethod invokeMethod = new CtMethod(classPool.get(Object.class.getName()),
+			"invokeMethod", new CtClass[] {classPool.get(Object[].class.getName())}, invokerClass);
+		invokeMethod.setModifiers(Modifier.PROTECTED);
+		invokeMethod.setExceptionTypes(new CtClass[] {classPool.get(Throwable.class.getName())});
+		invokeMethod.setBody(getInvocationBody(method));
+		invokerClass.addMethod(invokeMethod);
+
+		byte[] bytecode = invokerClass.toBytecode();
+
+		return new InvokerClassLoader(parentClassLoader).defineInvokerClass(invokerClassName, bytecode);
+	}
+
+	private String getInvocationBody(Method method) {
+		StringBuilder invocation = new StringBuilder();
+		invocation.append(method.getDeclaringClass().getName()).append('.').append(method.getName()).append('(');
+
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if (i > 0) {
+				invocation.append(", ");
+			}
+
+			Class<?> parameterType = parameterTypes[i];
+
+			if (parameterType.isPrimitive()) {
+				invocation.append("((").append(ReflectionUtilities.wrapPrimitiveType(parameterType).getName())
+					.append(") $1[").append(i).append("]).").append(parameterType.getName()).append("Value()");
+			} else {
+				invocation.append("(").append(getSourceName(parameterType)).append(") $1[").append(i).append("]");
+			}
+		}
+
+		invocation.append(')');
+
+		if (method.getReturnType() == Void.TYPE) {
+			return String.format("{%s; return null;}", invocation);
+		} else {
+			return String.format("{return ($w) %s;}", invocation);
+		}
+	}
+
+	private static String getSourceName(Class<?> type) {
+		return type.isArray() ? getSourceName(type.getComponentType()) + "[]" : type.getName();
+	}
+
+	/**
+	 * The class loader that defines an invoker class. Each invoker class gets a class loader of its own, so that it can
+	 * be unloaded when its function is no longer used.
+	 */
+	private static class InvokerClassLoader extends ClassLoader {
+		public InvokerClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		public Class<?> defineInvokerClass(String name, byte[] bytecode) {
+			return defineClass(name, bytecode, 0, bytecode.length);
+		}
+	}
+}
\ No newline at end of file
@@ -54,6 +54,30 @@ public class ApplicationScope implements Scope {
 		return new HashSet<String>(Collections.list(attributeNames));
 	}
 
+	public int getVariableCount() {
+		int variableCount = 0;
+
+		Enumeration<?> attributeNames = application.getAttributeNames();
+
+		while (attributeNames.hasMoreElements()) {
+			attributeNames.nextElement();
+
+			variableCount++;
+		}
+
+		return variableCount;
+	}
+
+	public boolean containsVariable(String name) {
+		return application.getAttribute(name) != null;
+	}
+
+	public Object findVariable(String name) {
+		Object value = application.getAttribute(name);
+
+		return (value == null) ? UNDEFINED : value;
+	}
+
 	public Object getVariable(String name) throws AluminumException {
 		Object value = application.getAttribute(name);
 
@@ -56,6 +56,30 @@ public class RequestScope implements Scope {
 		return new HashSet<String>(Collections.list(attributeNames));
 	}
 
+	public int getVariableCount() {
+		int variableCount = 0;
+
+		Enumeration<?> attributeNames = request.getAttributeNames();
+
+		while (attributeNames.hasMoreElements()) {
+			attributeNames.nextElement();
+
+			variableCount++;
+		}
+
+		return variableCount;
+	}
+
+	public boolean containsVariable(String name) {
+		return request.getAttribute(name) != null;
+	}
+
+	public Object findVariable(String name) {
+		Object value = request.getAttribute(name);
+
+		return (value == null) ? UNDEFINED : value;
+	}
+
 	public Object getVariable(String name) throws AluminumException {
 		Object value = request.getAttribute(name);
 
@@ -68,10 +68,36 @@ public class SessionScope implements Scope {
 		return variableNames;
 	}
 
-	public Object getVariable(String name) throws AluminumException {
+	public int getVariableCount() {
+		int variableCount = 0;
+
 		HttpSession session = request.getSession(false);
 
-		Object value = (session == null) ? null : session.getAttribute(name);
+		if (session != null) {
+			Enumeration<?> attributeNames = session.getAttributeNames();
+
+			while (attributeNames.hasMoreElements()) {
+				attributeNames.nextElement();
+
+				variableCount++;
+			}
+		}
+
+		return variableCount;
+	}
+
+	public boolean containsVariable(String name) {
+		return getAttribute(name) != null;
+	}
+
+	public Object findVariable(String name) {
+		Object value = getAttribute(name);
+
+		return (value == null) ? UNDEFINED : value;
+	}
+
+	public Object getVariable(String name) throws AluminumException {
+		Object value = getAttribute(name);
 
 		if (value == null) {
 			throw new AluminumException("can't find a session attribute named '", name, "'");
@@ -80,6 +106,12 @@ public class SessionScope implements Scope {
 		return value;
 	}
 
+	private Object getAttribute(String name) {
+		HttpSession session = request.getSession(false);
+
+		return (session == null) ? null : session.getAttribute(name);
+	}
+
 	public Object setVariable(String name, Object value) {
 		HttpSession session = request.getSession();
 
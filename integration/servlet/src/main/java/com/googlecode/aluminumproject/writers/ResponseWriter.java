@@ -19,11 +19,13 @@ import com.googlecode.aluminumproject.AluminumException;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.Charset;
 
 import javax.servlet.http.HttpServletResponse;
 
 /**
- * Writes to the output stream of a {@link HttpServletResponse servlet response}.
+ * Writes to the output stream of a {@link HttpServletResponse servlet response}. Text is encoded with the {@link
+ * HttpServletResponse#getCharacterEncoding() character encoding of the response}.
  */
 public class ResponseWriter extends AbstractOutputStreamWriter {
 	private HttpServletResponse response;
@@ -32,11 +34,24 @@ public class ResponseWriter extends AbstractOutputStreamWriter {
 	 * Creates a response writer.
 	 *
 	 * @param response the response to write to
+	 * @throws AluminumException when the character encoding of the response is not supported
 	 */
-	public ResponseWriter(HttpServletResponse response) {
+	public ResponseWriter(HttpServletResponse response) throws AluminumException {
+		super(false, getCharset(response));
+
 		this.response = response;
 	}
 
+	private static Charset getCharset(HttpServletResponse response) throws AluminumException {
+		String characterEncoding = response.getCharacterEncoding();
+
+		try {
+			return Charset.forName((characterEncoding == null) ? DEFAULT_CHARACTER_ENCODING : characterEncoding);
+		} catch (IllegalArgumentException exception) {
+			throw new AluminumException(exception, "unsupported character encoding: '", characterEncoding, "'");
+		}
+	}
+
 	@Override
 	protected OutputStream createOutputStream() throws AluminumException {
 		try {
@@ -50,9 +65,13 @@ public class ResponseWriter extends AbstractOutputStreamWriter {
 	public void clear() throws AluminumException {
 		checkOpen();
 
+		clearBuffer();
 		response.resetBuffer();
 	}
 
 	@Override
 	protected void closeOutputStream() {}
+
+	/** The character encoding that is used when the response does not have one. */
+	private final static String DEFAULT_CHARACTER_ENCODING = "ISO-8859-1";
 }
\ No newline at end of file
@@ -46,7 +46,9 @@ public class SetProperty extends AbstractAction {
 
 		Object value = configuration.getConverterRegistry().convert(parameterOrBodyValue, propertyType);
 
-		logger.debug("setting property '", name, "' with value ", value, " on bean ", bean);
+		if (logger.isDebugEnabled()) {
+			logger.debug("setting property '", name, "' with value ", value, " on bean ", bean);
+		}
 
 		ReflectionUtilities.setProperty(bean, Object.class, name, value);
 	}
@@ -69,7 +69,9 @@ public class Includes {
 				parser = templateInformation.getParser();
 			}
 
-			logger.debug("including template '", name, "' using parser '", parser, "'");
+			if (logger.isDebugEnabled()) {
+				logger.debug("including template '", name, "' using parser '", parser, "'");
+			}
 
 			new TemplateProcessor(configuration).processTemplate(name, parser, subcontext, writer);
 		}
@@ -17,11 +17,13 @@ package com.googlecode.aluminumproject.libraries.core.actions;
 
 import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.annotations.Required;
+import com.googlecode.aluminumproject.annotations.Reusable;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.libraries.actions.AbstractAction;
 import com.googlecode.aluminumproject.writers.Writer;
 
 @SuppressWarnings("javadoc")
+@Reusable
 public class RemoveVariable extends AbstractAction {
 	private String scope;
 	private @Required String name;
@@ -32,7 +34,9 @@ public class RemoveVariable extends AbstractAction {
 
 			context.removeVariable(name);
 		} else {
-			logger.debug("removing variable '", name, "' from scope '", scope, "'");
+			if (logger.isDebugEnabled()) {
+				logger.debug("removing variable '", name, "' from scope '", scope, "'");
+			}
 
 			context.removeVariable(scope, name);
 		}
@@ -37,7 +37,9 @@ public class Repeat extends AbstractAction {
 		for (int index = 0; index < count; index++) {
 			context.setVariable(scope, informationName, new RepeatInformation(index, count));
 
-			logger.debug("repeating body, ", index, "/", count);
+			if (logger.isDebugEnabled()) {
+				logger.debug("repeating body, ", index, "/", count);
+			}
 
 			getBody().invoke(context, writer);
 		}
@@ -17,6 +17,7 @@ package com.googlecode.aluminumproject.libraries.core.actions;
 
 import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.annotations.Required;
+import com.googlecode.aluminumproject.annotations.Reusable;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.libraries.actions.AbstractAction;
 import com.googlecode.aluminumproject.writers.Writer;
@@ -24,6 +25,7 @@ import com.googlecode.aluminumproject.writers.Writer;
 import java.util.List;
 
 @SuppressWarnings("javadoc")
+@Reusable
 public class SetVariable extends AbstractAction {
 	private String scope;
 	private @Required String name;
@@ -34,7 +36,9 @@ public class SetVariable extends AbstractAction {
 	}
 
 	public void execute(Context context, Writer writer) throws AluminumException {
-		if (value == NO_VALUE) {
+		Object value;
+
+		if (this.value == NO_VALUE) {
 			List<?> values = getBodyList(context, writer);
 
 			if (values.isEmpty()) {
@@ -45,6 +49,8 @@ public class SetVariable extends AbstractAction {
 			} else {
 				value = values;
 			}
+		} else {
+			value = this.value;
 		}
 
 		if (scope == null) {
@@ -52,7 +58,9 @@ public class SetVariable extends AbstractAction {
 
 			context.setVariable(name, value);
 		} else {
-			logger.debug("setting variable '", name, "' in scope '", scope, "' with value ", value);
+			if (logger.isDebugEnabled()) {
+				logger.debug("setting variable '", name, "' in scope '", scope, "' with value ", value);
+			}
 
 			context.setVariable(scope, name, value);
 		}
@@ -22,14 +22,21 @@ import com.googlecode.aluminumproject.annotations.ValidInside;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.libraries.actions.AbstractAction;
 import com.googlecode.aluminumproject.libraries.actions.ActionBody;
+import com.googlecode.aluminumproject.libraries.actions.LazyParameter;
+import com.googlecode.aluminumproject.libraries.actions.Resettable;
 import com.googlecode.aluminumproject.writers.NullWriter;
 import com.googlecode.aluminumproject.writers.Writer;
 
 @SuppressWarnings("javadoc")
-public class Switch extends AbstractAction {
+public class Switch extends AbstractAction implements Resettable {
 	private @Ignored ActionBody caseBody;
 	private @Ignored ActionBody defaultBody;
 
+	public void reset() {
+		caseBody = null;
+		defaultBody = null;
+	}
+
 	public void execute(Context context, Writer writer) throws AluminumException {
 		getBody().invoke(context, new NullWriter());
 
@@ -42,32 +49,30 @@ public class Switch extends AbstractAction {
 
 	@ValidInside(Switch.class)
 	private static abstract class SwitchOption extends AbstractAction {
-		protected abstract boolean isConditionMet();
+		protected abstract boolean isConditionMet() throws AluminumException;
 
 		protected abstract boolean isDefaultOption();
 
 		public void execute(Context context, Writer writer) throws AluminumException {
-			if (isConditionMet()) {
-				Switch switchAction = findAncestorOfType(Switch.class);
+			Switch switchAction = findAncestorOfType(Switch.class);
 
-				if (isDefaultOption()) {
-					if (switchAction.defaultBody == null) {
-						switchAction.defaultBody = getBody();
-					} else {
-						throw new AluminumException("switch actions may have only one default option");
-					}
-				} else if (switchAction.caseBody == null) {
-					switchAction.caseBody = getBody();
+			if (isDefaultOption()) {
+				if (switchAction.defaultBody == null) {
+					switchAction.defaultBody = getBody();
+				} else {
+					throw new AluminumException("switch actions may have only one default option");
 				}
+			} else if ((switchAction.caseBody == null) && isConditionMet()) {
+				switchAction.caseBody = getBody();
 			}
 		}
 	}
 
 	public static class Case extends SwitchOption {
-		private @Required boolean condition;
+		private @Required LazyParameter<Boolean> condition;
 
-		protected boolean isConditionMet() {
-			return condition;
+		protected boolean isConditionMet() throws AluminumException {
+			return condition.getValue().booleanValue();
 		}
 
 		protected boolean isDefaultOption() {
@@ -72,11 +72,16 @@ public class Variable {
 				Object value = (list.size() == 1) ? list.get(0) : list;
 
 				if (scope == null) {
-					logger.debug("setting context variable '", name, "' with value ", value, " in innermost scope");
+					if (logger.isDebugEnabled()) {
+						logger.debug("setting context variable '", name, "' with value ", value, " in innermost scope");
+					}
 
 					actionContext.getContext().setVariable(name, value);
 				} else {
-					logger.debug("setting context variable '", name, "' with value ", value, " in scope '", scope, "'");
+					if (logger.isDebugEnabled()) {
+						logger.debug("setting context variable '", name, "' with value ", value,
+							" in scope '", scope, "'");
+					}
 
 					actionContext.getContext().setVariable(scope, name, value);
 				}
@@ -16,6 +16,7 @@
 package com.googlecode.aluminumproject.libraries.core.actions;
 
 import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.annotations.Reusable;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.libraries.actions.AbstractAction;
 import com.googlecode.aluminumproject.writers.Writer;
@@ -24,6 +25,7 @@ import java.util.Collections;
 import java.util.List;
 
 @SuppressWarnings("javadoc")
+@Reusable
 public class Write extends AbstractAction {
 	private Object value;
 
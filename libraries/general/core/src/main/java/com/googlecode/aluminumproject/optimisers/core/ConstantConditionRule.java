@@ -0,0 +1,143 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.optimisers.core;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.context.DefaultContext;
+import com.googlecode.aluminumproject.libraries.actions.ActionParameter;
+import com.googlecode.aluminumproject.libraries.actions.ConstantActionParameter;
+import com.googlecode.aluminumproject.libraries.core.CoreLibrary;
+import com.googlecode.aluminumproject.libraries.core.actions.If;
+import com.googlecode.aluminumproject.libraries.core.actions.Unless;
+import com.googlecode.aluminumproject.optimisers.OptimisationRule;
+import com.googlecode.aluminumproject.optimisers.TemplateNode;
+import com.googlecode.aluminumproject.templates.ActionContributionDescriptor;
+import com.googlecode.aluminumproject.templates.ActionDescriptor;
+import com.googlecode.aluminumproject.templates.ActionElement;
+import com.googlecode.aluminumproject.templates.TemplateElement;
+import com.googlecode.aluminumproject.utilities.ConfigurationUtilities;
+import com.googlecode.aluminumproject.utilities.Logger;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Removes {@link If if} and {@link Unless unless} actions with a constant condition from templates. When the body of
+ * such an action would always be processed, the action is replaced by its body; otherwise, the action is removed
+ * together with its body.
+ * <p>
+ * Actions to which a constant if or unless contribution is made as their only contribution are removed when the
+ * contribution would always skip them.
+ */
+public class ConstantConditionRule implements OptimisationRule {
+	private final Logger logger;
+
+	/**
+	 * Creates a constant condition rule.
+	 */
+	public ConstantConditionRule() {
+		logger = Logger.get(getClass());
+	}
+
+	public boolean apply(TemplateNode node, Configuration configuration) throws AluminumException {
+		List<TemplateNode> children = node.getChildren();
+
+		boolean changed = false;
+
+		int i = 0;
+
+		while (i < children.size()) {
+			TemplateNode child = children.get(i);
+			TemplateElement templateElement = child.getTemplateElement();
+
+			Boolean bodyProcessed = (templateElement instanceof ActionElement)
+				? isBodyProcessed((ActionElement) templateElement, configuration) : null;
+
+			if (bodyProcessed == null) {
+				i++;
+			} else {
+				children.remove(i);
+
+				if (bodyProcessed.booleanValue()) {
+					logger.debug("replacing ", templateElement, " by its body");
+
+					children.addAll(i, child.getChildren());
+
+					i += child.getChildren().size();
+				} else {
+					logger.debug("removing ", templateElement);
+				}
+
+				changed = true;
+			}
+		}
+
+		return changed;
+	}
+
+	private Boolean isBodyProcessed(ActionElement actionElement, Configuration configuration) {
+		Map<String, String> libraryUrlAbbreviations = actionElement.getLibraryUrlAbbreviations();
+
+		ActionDescriptor actionDescriptor = actionElement.getDescriptor();
+		Map<String, ActionParameter> parameters = actionElement.getParameters();
+		List<ActionContributionDescriptor> contributionDescriptors = actionElement.getContributionDescriptors();
+
+		Boolean bodyProcessed = null;
+
+		if (contributionDescriptors.isEmpty() && (parameters.size() == 1)) {
+			bodyProcessed = isConditionMet(configuration, libraryUrlAbbreviations,
+				actionDescriptor.getLibraryUrlAbbreviation(), actionDescriptor.getName(), parameters.get("condition"));
+		} else if (contributionDescriptors.size() == 1) {
+			ActionContributionDescriptor contributionDescriptor = contributionDescriptors.get(0);
+
+			Boolean conditionMet = isConditionMet(configuration, libraryUrlAbbreviations,
+				contributionDescriptor.getLibraryUrlAbbreviation(), contributionDescriptor.getName(),
+				contributionDescriptor.getParameter());
+
+			if ((conditionMet != null) && !conditionMet.booleanValue()) {
+				bodyProcessed = Boolean.FALSE;
+			}
+		}
+
+		return bodyProcessed;
+	}
+
+	private Boolean isConditionMet(Configuration configuration, Map<String, String> libraryUrlAbbreviations,
+			String libraryUrlAbbreviation, String name, ActionParameter condition) {
+		Boolean conditionMet = null;
+
+		boolean conditional = name.equals("if") || name.equals("unless");
+
+		if (conditional && (condition instanceof ConstantActionParameter) && isCoreLibrary(
+				configuration, libraryUrlAbbreviations.get(libraryUrlAbbreviation))) {
+			try {
+				boolean value = ((Boolean) condition.getValue(Boolean.TYPE, new DefaultContext())).booleanValue();
+
+				conditionMet = Boolean.valueOf(name.equals("if") ? value : !value);
+			} catch (AluminumException exception) {
+				logger.debug("can't determine value of condition ", condition);
+			}
+		}
+
+		return conditionMet;
+	}
+
+	private boolean isCoreLibrary(Configuration configuration, String libraryUrl) {
+		return (libraryUrl != null)
+			&& (ConfigurationUtilities.findLibrary(configuration, libraryUrl) instanceof CoreLibrary);
+	}
+}
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.googlecode.aluminumproject.annotations.UsableAsFunction;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.context.g11n.GlobalisationContext;
 import com.googlecode.aluminumproject.libraries.actions.AbstractAction;
+import com.googlecode.aluminumproject.libraries.actions.LazyParameter;
 import com.googlecode.aluminumproject.writers.Writer;
 
 import java.util.Collections;
@@ -33,7 +34,7 @@ public class Localise extends AbstractAction {
 	private @Required String key;
 
 	@Named("default")
-	private Object defaultResource;
+	private LazyParameter<Object> defaultResource;
 
 	private boolean allowMissingKey;
 
@@ -46,8 +47,8 @@ public class Localise extends AbstractAction {
 
 		if (Collections.list(resourceBundle.getKeys()).contains(key)) {
 			resource = resourceBundle.getObject(key);
-		} else if (defaultResource != null) {
-			resource = defaultResource;
+		} else if ((defaultResource != null) && (defaultResource.getValue() != null)) {
+			resource = defaultResource.getValue();
 		} else if (allowMissingKey) {
 			resource = String.format("??%s??", key);
 		} else {
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.optimisers.javassist;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.expressions.Expression;
+import com.googlecode.aluminumproject.optimisers.DefaultTemplateOptimiser;
+import com.googlecode.aluminumproject.templates.CompiledTemplate;
+import com.googlecode.aluminumproject.templates.DefaultExpressionElement;
+import com.googlecode.aluminumproject.templates.DefaultTextElement;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.templates.TemplateElement;
+import com.googlecode.aluminumproject.utilities.Logger;
+import com.googlecode.aluminumproject.writers.Writer;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtConstructor;
+import javassist.CtField;
+import javassist.CtMethod;
+import javassist.LoaderClassPath;
+import javassist.Modifier;
+import javassist.NotFoundException;
+
+/**
+ * A {@link DefaultTemplateOptimiser template optimiser} that compiles each template into a class of its own, using
+ * <a href="http://www.javassist.org/">Javassist</a>. It can be used by setting the configuration parameter {@value
+ * com.googlecode.aluminumproject.configuration.DefaultConfiguration#TEMPLATE_OPTIMISER_CLASS} to the name of this
+ * class.
+ * <p>
+ * Templates are optimised by the optimisation rules first. The optimised template is then replaced by a {@link
+ * CompiledTemplate compiled template} with a method for each template element that has children. Each template element
+ * (and the compiled expression of each {@link DefaultExpressionElement default expression element}) is bound to a field
+ * of its own when the compiled template is created, so the methods process the children of their template element one
+ * after the other without looking anything up: the (pre-encoded) text of {@link DefaultTextElement default text
+ * elements} is written directly, the compiled expressions of default expression elements are evaluated directly, and
+ * all other template elements (including action elements, whose bodies will be processed by the compiled template
+ * again) are asked to process themselves, like they would be when the template would be interpreted. Long methods are
+ * split up, so that templates with many template elements don't exceed the size limit of a method.
+ * <p>
+ * When a template can't be compiled, the optimised template is returned, which means that it will be interpreted.
+ */
+public class JavassistTemplateCompiler extends DefaultTemplateOptimiser {
+	private ClassPool classPool;
+	private int templateClassCount;
+
+	private final Logger logger;
+
+	/**
+	 * Creates a Javassist template compiler.
+	 */
+	public JavassistTemplateCompiler() {
+		logger = Logger.get(getClass());
+	}
+
+	@Override
+	public void initialise(Configuration configuration) throws AluminumException {
+		super.initialise(configuration);
+
+		classPool = new ClassPool(true);
+		classPool.appendClassPath(new LoaderClassPath(CompiledTemplate.class.getClassLoader()));
+	}
+
+	@Override
+	public void disable() {
+		super.disable();
+
+		classPool = null;
+	}
+
+	@Override
+	public Template optimise(Template template) throws AluminumException {
+		Template optimisedTemplate = super.optimise(template);
+
+		List<TemplateElement> templateElements = CompiledTemplate.getTemplateElements(optimisedTemplate);
+
+		Template compiledTemplate;
+
+		try {
+			Class<?> templateClass = compile(optimisedTemplate, templateElements);
+
+			Constructor<?> constructor = templateClass.getConstructor(Template.class, TemplateElement[].class);
+
+			compiledTemplate = (Template) constructor.newInstance(optimisedTemplate,
+				templateElements.toArray(new TemplateElement[templateElements.size()]));
+
+			logger.debug("compiled template '", template.getName(), "' into ", templateClass);
+		} catch (NotFoundException exception) {
+			compiledTemplate = interpret(optimisedTemplate, exception);
+		} catch (CannotCompileException exception) {
+			compiledTemplate = interpret(optimisedTemplate, exception);
+		} catch (IOException exception) {
+			compiledTemplate = interpret(optimisedTemplate, exception);
+		} catch (NoSuchMethodException exception) {
+			compiledTemplate = interpret(optimisedTemplate, exception);
+		} catch (InstantiationException exception) {
+			compiledTemplate = interpret(optimisedTemplate, exception);
+		} catch (IllegalAccessException exception) {
+			compiledTemplate = interpret(optimisedTemplate, exception);
+		} catch (InvocationTargetException exception) {
+			compiledTemplate = interpret(optimisedTemplate, exception.getCause());
+		} catch (LinkageError error) {
+			compiledTemplate = interpret(optimisedTemplate, error);
+		}
+
+		return compiledTemplate;
+	}
+
+	private Template interpret(Template template, Throwable exception) {
+		logger.warn(exception, "can't compile template '", template.getName(), "', it will be interpreted");
+
+		return template;
+	}
+
+	private synchronized Class<?> compile(Template template, List<TemplateElement> templateElements)
+			throws NotFoundException, CannotCompileException, IOException {
+		if (classPool == null) {
+			throw new AluminumException("can't compile template - the compiler has been disabled");
+		}
+
+		Map<TemplateElement, Integer> indices = new IdentityHashMap<TemplateElement, Integer>();
+
+		for (int i = 0; i < templateElements.size(); i++) {
+			indices.put(templateElements.get(i), i);
+		}
+
+		String templateClassName = String.format("%s$Template%d", getClass().getName(), ++templateClassCount);
+
+		CtClass templateClass = classPool.makeClass(templateClassName, getType(CompiledTemplate.class));
+
+		try {
+			addFields(templateClass, templateElements);
+			addConstructor(templateClass, templateElements);
+
+			List<Integer> parentIndices = new ArrayList<Integer>();
+
+			addProcessingMethods(templateClass, ROOT_INDEX, template.getChildren(null), indices);
+			parentIndices.add(ROOT_INDEX);
+
+			for (int i = 0; i < templateElements.size(); i++) {
+				List<TemplateElement> children = template.getChildren(templateElements.get(i));
+
+				if (!children.isEmpty()) {
+					addProcessingMethods(templateClass, i, children, indices);
+					parentIndices.add(i);
+				}
+			}
+
+			addDispatchMethods(templateClass, parentIndices);
+
+			byte[] bytecode = templateClass.toBytecode();
+
+			return new TemplateClassLoader().defineTemplateClass(templateClassName, bytecode);
+		} finally {
+			templateClass.detach();
+		}
+	}
+
+	private void addFields(CtClass templateClass, List<TemplateElement> templateElements)
+			throws NotFoundException, CannotCompileException {
+		for (int i = 0; i < templateElements.size(); i++) {
+			TemplateElement templateElement = templateElements.get(i);
+
+			if (templateElement.getClass() == DefaultTextElement.class) {
+				addField(templateClass, DefaultTextElement.class, getElementFieldName(i));
+			} else if (templateElement.getClass() == DefaultExpressionElement.class) {
+				addField(templateClass, DefaultExpressionElement.class, getElementFieldName(i));
+				addField(templateClass, Expression.class, getExpressionFieldName(i));
+			} else {
+				addField(templateClass, TemplateElement.class, getElementFieldName(i));
+			}
+		}
+	}
+
+	private void addField(CtClass templateClass, Class<?> type, String name)
+			throws NotFoundException, CannotCompileException {
+		CtField field = new CtField(getType(type), name, templateClass);
+		field.setModifiers(Modifier.PRIVATE);
+		templateClass.addField(field);
+	}
+
+	private void addConstructor(CtClass templateClass, List<TemplateElement> templateElements)
+			throws NotFoundException, CannotCompileException {
+		StringBuilder constructorBody = new StringBuilder("{super($$);");
+
+		for (int start = 0; start < templateElements.size(); start += MAXIMUM_STATEMENT_COUNT) {
+			int end = Math.min(start + MAXIMUM_STATEMENT_COUNT, templateElements.size());
+
+			String methodName = "bindTemplateElements" + start;
+
+			StringBuilder body = new StringBuilder("{");
+
+			for (int i = start; i < end; i++) {
+				Class<?> type = templateElements.get(i).getClass();
+
+				if ((type == DefaultTextElement.class) || (type == DefaultExpressionElement.class)) {
+					body.append(getElementFieldName(i)).append(" = (").append(type.getName()).append(") $1[")
+						.append(i).append("];");
+				} else {
+					body.append(getElementFieldName(i)).append(" = $1[").append(i).append("];");
+				}
+
+				if (type == DefaultExpressionElement.class) {
+					body.append(getExpressionFieldName(i)).append(" = ")
+						.append(getElementFieldName(i)).append(".getExpression();");
+				}
+			}
+
+			body.append("}");
+
+			CtMethod method = new CtMethod(CtClass.voidType,
+				methodName, new CtClass[] {getType(TemplateElement[].class)}, templateClass);
+			method.setModifiers(Modifier.PRIVATE);
+			method.setBody(body.toString());
+			templateClass.addMethod(method);
+
+			constructorBody.append(methodName).append("($2);");
+		}
+
+		constructorBody.append("}");
+
+		CtConstructor constructor = new CtConstructor(
+			new CtClass[] {getType(Template.class), getType(TemplateElement[].class)}, templateClass);
+		constructor.setBody(constructorBody.toString());
+		templateClass.addConstructor(constructor);
+	}
+
+	private void addProcessingMethods(CtClass templateClass, int index, List<TemplateElement> children,
+			Map<TemplateElement, Integer> indices) throws NotFoundException, CannotCompileException {
+		String methodName = getProcessingMethodName(index);
+
+		if (children.size() <= MAXIMUM_STATEMENT_COUNT) {
+			addProcessingMethod(templateClass, methodName, children, indices);
+		} else {
+			StringBuilder body = new StringBuilder("{");
+
+			for (int start = 0; start < children.size(); start += MAXIMUM_STATEMENT_COUNT) {
+				int end = Math.min(start + MAXIMUM_STATEMENT_COUNT, children.size());
+
+				String partMethodName = String.format("%s_%d", methodName, start);
+
+				addProcessingMethod(templateClass, partMethodName, children.subList(start, end), indices);
+
+				body.append(partMethodName).append("($1, $2);");
+			}
+
+			body.append("}");
+
+			addMethod(templateClass, methodName, body.toString());
+		}
+	}
+
+	private void addProcessingMethod(CtClass templateClass, String methodName, List<TemplateElement> children,
+			Map<TemplateElement, Integer> indices) throws NotFoundException, CannotCompileException {
+		StringBuilder body = new StringBuilder("{");
+
+		for (TemplateElement child: children) {
+			int index = indices.get(child);
+
+			if (child.getClass() == DefaultTextElement.class) {
+				body.append("processText(").append(getElementFieldName(index)).append(", $1, $2);");
+			} else if (child.getClass() == DefaultExpressionElement.class) {
+				body.append("processExpression(").append(getElementFieldName(index)).append(", ")
+					.append(getExpressionFieldName(index)).append(", $1, $2);");
+			} else {
+				body.append(getElementFieldName(index)).append(".process($1, $2);");
+			}
+		}
+
+		body.append("}");
+
+		addMethod(templateClass, methodName, body.toString());
+	}
+
+	private void addMethod(CtClass templateClass, String methodName, String body)
+			throws NotFoundException, CannotCompileException {
+		CtMethod method = new CtMethod(CtClass.voidType,
+			methodName, new CtClass[] {getType(Context.class), getType(Writer.class)}, templateClass);
+		method.setModifiers(Modifier.PRIVATE);
+		method.setBody(body);
+		templateClass.addMethod(method);
+	}
+
+	private void addDispatchMethods(CtClass templateClass, List<Integer> parentIndices)
+			throws NotFoundException, CannotCompileException {
+		CtClass[] parameterTypes = new CtClass[] {CtClass.intType, getType(Context.class), getType(Writer.class)};
+
+		StringBuilder dispatchBody = new StringBuilder("{");
+
+		for (int start = 0; start < parentIndices.size(); start += MAXIMUM_STATEMENT_COUNT) {
+			int end = Math.min(start + MAXIMUM_STATEMENT_COUNT, parentIndices.size());
+
+			StringBuilder body = new StringBuilder("{switch ($1) {");
+
+			for (int index: parentIndices.subList(start, end)) {
+				body.append("case ").append(index).append(": ")
+					.append(getProcessingMethodName(index)).append("($2, $3); break;");
+			}
+
+			body.append("}}");
+
+			String methodName = "processChildren" + start;
+
+			CtMethod method = new CtMethod(CtClass.voidType, methodName, parameterTypes, templateClass);
+			method.setModifiers(Modifier.PRIVATE);
+			method.setBody(body.toString());
+			templateClass.addMethod(method);
+
+			if (end < parentIndices.size()) {
+				dispatchBody.append("if ($1 < ").append(parentIndices.get(end)).append(") {")
+					.append(methodName).append("($$); return;}");
+			} else {
+				dispatchBody.append(methodName).append("($$);");
+			}
+		}
+
+		dispatchBody.append("}");
+
+		CtMethod dispatchMethod = new CtMethod(CtClass.voidType, "processChildren", parameterTypes, templateClass);
+		dispatchMethod.setModifiers(Modifier.PROTECTED);
+		dispatchMethod.setBody(dispatchBody.toString());
+		templateClass.addMethod(dispatchMethod);
+	}
+
+	private static String getProcessingMethodName(int index) {
+		return (index == ROOT_INDEX) ? "processRootElements" : "processChildrenOf" + index;
+	}
+
+	private static String getElementFieldName(int index) {
+		return "templateElement" + index;
+	}
+
+	private static String getExpressionFieldName(int index) {
+		return "expression" + index;
+	}
+
+	private CtClass getType(Class<?> type) throws NotFoundException {
+		return classPool.get(type.getName());
+	}
+
+	/**
+	 * The class loader that defines a template class. Each template class gets a class loader of its own, so that it
+	 * can be unloaded when its template is no longer used.
+	 */
+	private static class TemplateClassLoader extends ClassLoader {
+		public TemplateClassLoader() {
+			super(CompiledTemplate.class.getClassLoader());
+		}
+
+		public Class<?> defineTemplateClass(String name, byte[] bytecode) {
+			return defineClass(name, bytecode, 0, bytecode.length);
+		}
+	}
+
+	/** The index of the (virtual) parent of the root template elements. */
+	private final static int ROOT_INDEX = -1;
+
+	/**
+	 * The maximum number of statements in a generated method. It keeps generated methods far below the size limit of 64
+	 * kilobytes and small enough to be compiled by a just-in-time compiler.
+	 */
+	private final static int MAXIMUM_STATEMENT_COUNT = 100;
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * The {@link com.googlecode.aluminumproject.optimisers.javassist.JavassistTemplateCompiler Javassist template compiler},
+ * which compiles templates into classes of their own.
+ */
+package com.googlecode.aluminumproject.optimisers.javassist;
\ No newline at end of file
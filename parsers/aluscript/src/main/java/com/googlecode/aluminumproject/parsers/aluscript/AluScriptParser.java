@@ -162,12 +162,16 @@ public class AluScriptParser implements Parser {
 		return context.getTemplate();
 	}
 
+	public long getTemplateVersion(String name) throws AluminumException {
+		return configuration.getTemplateFinder().getVersion(getTemplateFileName(name));
+	}
+
 	private InputStream getTemplateStream(String name) throws AluminumException {
-		if (templateExtension != null) {
-			name = String.format("%s.%s", name, templateExtension);
-		}
+		return configuration.getTemplateFinder().find(getTemplateFileName(name));
+	}
 
-		return configuration.getTemplateFinder().find(name);
+	private String getTemplateFileName(String name) {
+		return (templateExtension == null) ? name : String.format("%s.%s", name, templateExtension);
 	}
 
 	private String readStream(String name, InputStream in) throws AluminumException {
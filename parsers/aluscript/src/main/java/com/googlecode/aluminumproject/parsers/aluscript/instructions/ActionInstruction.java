@@ -71,8 +71,8 @@ public class ActionInstruction extends AbstractInstruction {
 		TemplateNameTranslator templateNameTranslator = context.getSettings().getTemplateNameTranslator();
 
 		for (String name: parameters.keySet()) {
-			ActionParameter actionParameter =
-				ParserUtilities.createParameter(parameters.get(name), context.getConfiguration());
+			ActionParameter actionParameter = ParserUtilities.createParameter(
+				parameters.get(name), context.getLibraryUrlAbbreviations(), context.getConfiguration());
 
 			if (name.contains(".")) {
 				String[] nameAndPrefix = name.split("\\.");
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.parsers.binary;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.parsers.Parser;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.utilities.BinaryTemplateUtilities;
+import com.googlecode.aluminumproject.utilities.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Reads templates that were written in the {@link BinaryTemplateUtilities binary template format}, for example by the
+ * binary serialiser. Since the binary format contains the structure of the template, reading a binary template does not
+ * involve tokenising any text.
+ * <p>
+ * By default, the names of templates should include their extensions. If all of the templates have the same extension,
+ * it can be configured using the {@value #TEMPLATE_EXTENSION} configuration parameter. If a template extension is
+ * given, it will be appended (separated by a dot) to all template names.
+ */
+public class BinaryParser implements Parser {
+	private Configuration configuration;
+
+	private String templateExtension;
+
+	private final Logger logger;
+
+	/**
+	 * Creates a binary parser.
+	 */
+	public BinaryParser() {
+		logger = Logger.get(getClass());
+	}
+
+	public void initialise(Configuration configuration) {
+		this.configuration = configuration;
+
+		templateExtension = configuration.getParameters().getValue(TEMPLATE_EXTENSION, null);
+
+		if (templateExtension != null) {
+			logger.debug("using template extension '", templateExtension, "'");
+		}
+	}
+
+	public void disable() {}
+
+	public Template parseTemplate(String name) throws AluminumException {
+		DataInputStream in = new DataInputStream(
+			new BufferedInputStream(configuration.getTemplateFinder().find(getTemplateFileName(name))));
+
+		try {
+			Template template = BinaryTemplateUtilities.readTemplate(name, in, configuration);
+			logger.debug("read template '", name, "'");
+
+			return template;
+		} finally {
+			try {
+				in.close();
+			} catch (IOException exception) {
+				throw new AluminumException(exception, "can't close template '", name, "'");
+			}
+		}
+	}
+
+	public long getTemplateVersion(String name) throws AluminumException {
+		return configuration.getTemplateFinder().getVersion(getTemplateFileName(name));
+	}
+
+	private String getTemplateFileName(String name) {
+		return (templateExtension == null) ? name : String.format("%s.%s", name, templateExtension);
+	}
+
+	/** The name of the configuration parameter that is used to set the default extensions of templates. */
+	public final static String TEMPLATE_EXTENSION = "parser.binary.template_extension";
+}
\ No newline at end of file
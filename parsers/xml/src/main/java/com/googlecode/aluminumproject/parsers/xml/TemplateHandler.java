@@ -139,7 +139,8 @@ public class TemplateHandler extends DefaultHandler {
 			Map<String, ActionParameter> parameters, List<ActionContributionDescriptor> contributions) {
 		for (int i = 0; i < attributes.getLength(); i++) {
 			String localName = attributes.getLocalName(i);
-			ActionParameter parameter = ParserUtilities.createParameter(attributes.getValue(i), configuration);
+			ActionParameter parameter = ParserUtilities.createParameter(
+				attributes.getValue(i), getLibraryUrlAbbreviations(), configuration);
 
 			String prefix = getPrefix(attributes.getQName(i));
 
@@ -110,6 +110,10 @@ public class XmlParser implements Parser {
 		return template;
 	}
 
+	public long getTemplateVersion(String name) throws AluminumException {
+		return configuration.getTemplateFinder().getVersion(getTemplateFileName(name));
+	}
+
 	private XMLReader createParser() throws AluminumException {
 		SAXParserFactory parserFactory = SAXParserFactory.newInstance();
 		parserFactory.setNamespaceAware(true);
@@ -128,11 +132,11 @@ public class XmlParser implements Parser {
 	}
 
 	private InputStream findTemplateStream(String name) throws AluminumException {
-		if (templateExtension != null) {
-			name = String.format("%s.%s", name, templateExtension);
-		}
+		return configuration.getTemplateFinder().find(getTemplateFileName(name));
+	}
 
-		return configuration.getTemplateFinder().find(name);
+	private String getTemplateFileName(String name) {
+		return (templateExtension == null) ? name : String.format("%s.%s", name, templateExtension);
 	}
 
 	private void parse(String name, XMLReader parser, InputStream templateStream) throws AluminumException {
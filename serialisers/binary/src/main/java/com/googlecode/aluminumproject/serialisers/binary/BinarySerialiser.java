@@ -0,0 +1,69 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.serialisers.binary;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.serialisers.Serialiser;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.utilities.BinaryTemplateUtilities;
+import com.googlecode.aluminumproject.utilities.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Serialises templates in the {@link BinaryTemplateUtilities binary template format}. Templates that are serialised by
+ * a binary serialiser can be read back by the binary parser, which is a lot faster than parsing their original source.
+ * <p>
+ * The binary serialiser does not have any configuration parameters.
+ */
+public class BinarySerialiser implements Serialiser {
+	private Configuration configuration;
+
+	private final Logger logger;
+
+	/**
+	 * Creates a binary serialiser.
+	 */
+	public BinarySerialiser() {
+		logger = Logger.get(getClass());
+	}
+
+	public void initialise(Configuration configuration) {
+		this.configuration = configuration;
+	}
+
+	public void disable() {}
+
+	public void serialiseTemplate(Template template, String name) throws AluminumException {
+		logger.debug("serialising template ", template, " as '", name, "'");
+
+		DataOutputStream out =
+			new DataOutputStream(new BufferedOutputStream(configuration.getTemplateStoreFinder().find(name)));
+
+		try {
+			BinaryTemplateUtilities.writeTemplate(template, out);
+		} finally {
+			try {
+				out.close();
+			} catch (IOException exception) {
+				throw new AluminumException(exception, "can't close template '", name, "'");
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.cache;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.TestConfiguration;
+import com.googlecode.aluminumproject.finders.TemplateFinder;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.templates.TemplateBuilder;
+import com.googlecode.aluminumproject.templates.TestTextElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"core", "fast"})
+public class ConcurrentCacheTest {
+	private Cache createCache(String maximumSize, String maximumWeight) {
+		return createCache(maximumSize, maximumWeight, null);
+	}
+
+	private Cache createCache(String maximumSize, String maximumWeight, String revalidationInterval) {
+		ConfigurationParameters parameters = new ConfigurationParameters();
+
+		if (revalidationInterval != null) {
+			parameters.addParameter(AbstractCache.REVALIDATION_INTERVAL, revalidationInterval);
+		}
+
+		if (maximumSize != null) {
+			parameters.addParameter(ConcurrentCache.MAXIMUM_SIZE, maximumSize);
+		}
+
+		if (maximumWeight != null) {
+			parameters.addParameter(ConcurrentCache.MAXIMUM_WEIGHT, maximumWeight);
+		}
+
+		Cache cache = new ConcurrentCache();
+		cache.initialise(new TestConfiguration(parameters));
+
+		return cache;
+	}
+
+	private Template createTemplate(String name, int textElementCount) {
+		TemplateBuilder templateBuilder = new TemplateBuilder(name);
+
+		for (int i = 0; i < textElementCount; i++) {
+			templateBuilder.addTemplateElement(new TestTextElement());
+			templateBuilder.restoreCurrentTemplateElement();
+		}
+
+		return templateBuilder.build();
+	}
+
+	public void storedTemplateShouldBeFindable() {
+		Cache cache = createCache(null, null);
+
+		Template template = createTemplate("test", 1);
+		cache.storeTemplate(new Cache.Key("test", "xml"), template);
+
+		assert cache.findTemplate(new Cache.Key(new String("test"), new String("xml"))) == template;
+	}
+
+	public void findingUnknownTemplateShouldResultInNull() {
+		assert createCache(null, null).findTemplate(new Cache.Key("unknown", null)) == null;
+	}
+
+	public void disablingCacheShouldRemoveStoredTemplates() {
+		Cache cache = createCache(null, null);
+
+		Cache.Key key = new Cache.Key("test", null);
+
+		cache.storeTemplate(key, createTemplate("test", 1));
+		cache.disable();
+
+		assert cache.findTemplate(key) == null;
+	}
+
+	public void exceedingMaximumSizeShouldEvictLeastRecentlyUsedTemplate() {
+		Cache cache = createCache("2", null);
+
+		Cache.Key first = new Cache.Key("first", null);
+		Cache.Key second = new Cache.Key("second", null);
+		Cache.Key third = new Cache.Key("third", null);
+
+		cache.storeTemplate(first, createTemplate("first", 1));
+		cache.storeTemplate(second, createTemplate("second", 1));
+		cache.findTemplate(first);
+		cache.storeTemplate(third, createTemplate("third", 1));
+
+		assert cache.findTemplate(first) != null;
+		assert cache.findTemplate(second) == null;
+		assert cache.findTemplate(third) != null;
+
+		assert cache.getStatistics().getEvictionCount() == 1;
+	}
+
+	public void largeCacheShouldNotExceedMaximumSize() {
+		Cache cache = createCache("1000", null);
+
+		for (int i = 0; i < 2000; i++) {
+			cache.storeTemplate(new Cache.Key(String.format("template-%d", i), null), createTemplate("template", 1));
+		}
+
+		int templateCount = 0;
+
+		for (int i = 0; i < 2000; i++) {
+			if (cache.findTemplate(new Cache.Key(String.format("template-%d", i), null)) != null) {
+				templateCount++;
+			}
+		}
+
+		assert templateCount <= 1000;
+		assert cache.getStatistics().getEvictionCount() == 2000 - templateCount;
+	}
+
+	public void exceedingMaximumWeightShouldEvictTemplates() {
+		Cache cache = createCache(null, "5");
+
+		Cache.Key small = new Cache.Key("small", null);
+		Cache.Key large = new Cache.Key("large", null);
+
+		cache.storeTemplate(small, createTemplate("small", 2));
+		cache.storeTemplate(large, createTemplate("large", 4));
+
+		assert cache.findTemplate(small) == null;
+		assert cache.findTemplate(large) != null;
+	}
+
+	public void missingTemplateShouldBeLoaded() {
+		Cache cache = createCache(null, null);
+
+		final Template template = createTemplate("test", 1);
+
+		Cache.Loader loader = new Cache.Loader() {
+			public Template loadTemplate(Cache.Key key) {
+				return template;
+			}
+
+			public long getVersion(Cache.Key key) {
+				return TemplateFinder.UNKNOWN_VERSION;
+			}
+		};
+
+		assert cache.findTemplate(new Cache.Key("test", null), loader) == template;
+		assert cache.findTemplate(new Cache.Key("test", null), loader) == template;
+
+		Cache.Statistics statistics = cache.getStatistics();
+		assert statistics.getHitCount() == 1;
+		assert statistics.getMissCount() == 1;
+		assert statistics.getLoadCount() == 1;
+	}
+
+	public void failedLoadShouldNotBeCached() {
+		Cache cache = createCache(null, null);
+
+		try {
+			cache.findTemplate(new Cache.Key("test", null), new Cache.Loader() {
+				public Template loadTemplate(Cache.Key key) {
+					throw new AluminumException("can't load template");
+				}
+
+				public long getVersion(Cache.Key key) {
+					return TemplateFinder.UNKNOWN_VERSION;
+				}
+			});
+
+			assert false;
+		} catch (AluminumException exception) {
+			assert cache.findTemplate(new Cache.Key("test", null)) == null;
+			assert cache.getStatistics().getLoadCount() == 0;
+		}
+	}
+
+	public void concurrentlyMissingTemplateShouldBeLoadedOnce() throws Exception {
+		final Cache cache = createCache(null, null);
+
+		final AtomicInteger loadCount = new AtomicInteger();
+		final CountDownLatch loadLatch = new CountDownLatch(1);
+
+		final Cache.Loader loader = new Cache.Loader() {
+			public Template loadTemplate(Cache.Key key) {
+				loadCount.incrementAndGet();
+
+				try {
+					loadLatch.await();
+				} catch (InterruptedException exception) {
+					throw new AluminumException(exception, "interrupted");
+				}
+
+				return createTemplate(key.getName(), 1);
+			}
+
+			public long getVersion(Cache.Key key) {
+				return TemplateFinder.UNKNOWN_VERSION;
+			}
+		};
+
+		List<Future<Template>> results = findTemplateConcurrently(cache, loader, loadLatch);
+
+		Template template = results.get(0).get();
+
+		for (Future<Template> result: results) {
+			assert result.get() == template;
+		}
+
+		assert loadCount.get() == 1;
+		assert cache.getStatistics().getLoadCount() == 1;
+	}
+
+	public void failedConcurrentLoadShouldBePropagatedToAllWaitingThreads() throws Exception {
+		final Cache cache = createCache(null, null);
+
+		final CountDownLatch loadLatch = new CountDownLatch(1);
+
+		final Cache.Loader loader = new Cache.Loader() {
+			public Template loadTemplate(Cache.Key key) {
+				try {
+					loadLatch.await();
+				} catch (InterruptedException exception) {
+					throw new AluminumException(exception, "interrupted");
+				}
+
+				throw new AluminumException("can't load template");
+			}
+
+			public long getVersion(Cache.Key key) {
+				return TemplateFinder.UNKNOWN_VERSION;
+			}
+		};
+
+		for (Future<Template> result: findTemplateConcurrently(cache, loader, loadLatch)) {
+			try {
+				result.get();
+
+				assert false;
+			} catch (ExecutionException exception) {
+				assert exception.getCause() instanceof AluminumException;
+			}
+		}
+
+		assert cache.findTemplate(new Cache.Key("test", null)) == null;
+	}
+
+	private List<Future<Template>> findTemplateConcurrently(
+			final Cache cache, final Cache.Loader loader, CountDownLatch loadLatch) throws InterruptedException {
+		int threadCount = 8;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		final CountDownLatch startLatch = new CountDownLatch(threadCount);
+
+		List<Future<Template>> results = new ArrayList<Future<Template>>();
+
+		for (int i = 0; i < threadCount; i++) {
+			results.add(executor.submit(new Callable<Template>() {
+				public Template call() {
+					startLatch.countDown();
+
+					return cache.findTemplate(new Cache.Key("test", null), loader);
+				}
+			}));
+		}
+
+		startLatch.await();
+		Thread.sleep(100);
+
+		loadLatch.countDown();
+
+		executor.shutdown();
+
+		return results;
+	}
+
+	public void changedTemplateShouldBeReloaded() {
+		Cache cache = createCache(null, null, "0");
+
+		VersionedLoader loader = new VersionedLoader();
+
+		Template template = cache.findTemplate(new Cache.Key("test", null), loader);
+		assert cache.findTemplate(new Cache.Key("test", null), loader) == template;
+
+		loader.version++;
+
+		Template reloadedTemplate = cache.findTemplate(new Cache.Key("test", null), loader);
+		assert reloadedTemplate != template;
+		assert cache.findTemplate(new Cache.Key("test", null), loader) == reloadedTemplate;
+
+		assert loader.loadCount == 2;
+	}
+
+	public void templatesShouldNotBeRevalidatedBeforeRevalidationIntervalHasPassed() {
+		Cache cache = createCache(null, null, "60000");
+
+		VersionedLoader loader = new VersionedLoader();
+
+		Template template = cache.findTemplate(new Cache.Key("test", null), loader);
+
+		loader.version++;
+
+		assert cache.findTemplate(new Cache.Key("test", null), loader) == template;
+		assert loader.loadCount == 1;
+	}
+
+	public void templatesShouldNotBeRevalidatedByDefault() {
+		Cache cache = createCache(null, null);
+
+		VersionedLoader loader = new VersionedLoader();
+
+		Template template = cache.findTemplate(new Cache.Key("test", null), loader);
+
+		loader.version++;
+
+		assert cache.findTemplate(new Cache.Key("test", null), loader) == template;
+		assert loader.loadCount == 1;
+	}
+
+	private class VersionedLoader implements Cache.Loader {
+		private long version = 1;
+		private int loadCount;
+
+		public Template loadTemplate(Cache.Key key) {
+			loadCount++;
+
+			return createTemplate(key.getName(), 1);
+		}
+
+		public long getVersion(Cache.Key key) {
+			return version;
+		}
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void negativeRevalidationIntervalShouldCauseException() {
+		createCache(null, null, "-1");
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void nonNumericMaximumSizeShouldCauseException() {
+		createCache("many", null);
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void nonPositiveMaximumWeightShouldCauseException() {
+		createCache(null, "0");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.cache;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.DefaultConfiguration;
+import com.googlecode.aluminumproject.configuration.TestConfiguration;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.finders.TemplateFinder;
+import com.googlecode.aluminumproject.optimisers.TemplateOptimiser;
+import com.googlecode.aluminumproject.templates.AbstractTemplateElement;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.templates.TemplateBuilder;
+import com.googlecode.aluminumproject.templates.TextElement;
+import com.googlecode.aluminumproject.writers.Writer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Collections;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"core", "slow"})
+public class FileSystemCacheTest {
+	private File directory;
+
+	private Configuration configuration;
+
+	@BeforeMethod
+	public void createDirectory() {
+		File temporaryDirectory = new File(System.getProperty("java.io.tmpdir"));
+
+		int i = 0;
+
+		do {
+			directory = new File(temporaryDirectory, String.format("templates-%d", ++i));
+		} while (directory.exists());
+
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(FileSystemCache.DIRECTORY, directory.getAbsolutePath());
+
+		configuration = new DefaultConfiguration(parameters);
+	}
+
+	@AfterMethod
+	public void removeDirectory() {
+		configuration.close();
+
+		File[] files = directory.listFiles();
+
+		if (files != null) {
+			for (File file: files) {
+				file.delete();
+			}
+		}
+
+		directory.delete();
+	}
+
+	private Cache createCache() {
+		Cache cache = new FileSystemCache();
+		cache.initialise(configuration);
+
+		return cache;
+	}
+
+	public void directoryShouldBeCreated() {
+		createCache();
+
+		assert directory.isDirectory();
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void omittingDirectoryShouldCauseException() {
+		new FileSystemCache().initialise(new DefaultConfiguration());
+	}
+
+	public void loadedTemplateShouldBeFindableAfterRestart() {
+		Cache.Key key = new Cache.Key("test", "xml");
+		TextLoader loader = new TextLoader();
+
+		assert getText(createCache().findTemplate(key, loader)).equals("text 1");
+		assert getText(createCache().findTemplate(key, loader)).equals("text 1");
+
+		assert loader.loadCount == 1;
+	}
+
+	public void changedTemplateShouldBeParsedAgainAfterRestart() {
+		Cache.Key key = new Cache.Key("test", "xml");
+		TextLoader loader = new TextLoader();
+
+		createCache().findTemplate(key, loader);
+
+		loader.version++;
+
+		assert getText(createCache().findTemplate(key, loader)).equals("text 2");
+		assert loader.loadCount == 2;
+	}
+
+	public void templateWithUnknownVersionShouldNotBeStored() {
+		Cache.Key key = new Cache.Key("test", "xml");
+		TextLoader loader = new TextLoader();
+		loader.version = TemplateFinder.UNKNOWN_VERSION;
+
+		createCache().findTemplate(key, loader);
+		createCache().findTemplate(key, loader);
+
+		assert loader.loadCount == 2;
+	}
+
+	public void unreadableFileShouldCauseTemplateToBeParsedAgain() throws Exception {
+		Cache.Key key = new Cache.Key("test", "xml");
+		TextLoader loader = new TextLoader();
+
+		createCache().findTemplate(key, loader);
+
+		for (File file: directory.listFiles()) {
+			FileOutputStream out = new FileOutputStream(file);
+			out.write(new byte[] {1, 2, 3});
+			out.close();
+		}
+
+		assert getText(createCache().findTemplate(key, loader)).equals("text 2");
+		assert loader.loadCount == 2;
+	}
+
+	public void templateThatIsReadFromFileShouldBeOptimised() {
+		Cache.Key key = new Cache.Key("test", "xml");
+		TextLoader loader = new TextLoader();
+
+		createCache().findTemplate(key, loader);
+
+		final Template optimisedTemplate = new TemplateBuilder("optimised").build();
+
+		TestConfiguration optimisingConfiguration = new TestConfiguration(configuration.getParameters());
+		optimisingConfiguration.setTemplateElementFactory(configuration.getTemplateElementFactory());
+		optimisingConfiguration.setTemplateOptimiser(new TemplateOptimiser() {
+			public void initialise(Configuration configuration) {}
+
+			public Template optimise(Template template) {
+				return optimisedTemplate;
+			}
+
+			public void disable() {}
+		});
+
+		Cache cache = new FileSystemCache();
+		cache.initialise(optimisingConfiguration);
+
+		assert cache.findTemplate(key, loader) == optimisedTemplate;
+		assert loader.loadCount == 1;
+	}
+
+	public void unwritableTemplateShouldNotLeaveFilesBehind() {
+		Cache.Key key = new Cache.Key("test", "xml");
+
+		final Map<String, String> libraryUrlAbbreviations = Collections.emptyMap();
+
+		createCache().findTemplate(key, new Cache.Loader() {
+			public Template loadTemplate(Cache.Key key) {
+				TemplateBuilder templateBuilder = new TemplateBuilder(key.getName());
+				templateBuilder.addTemplateElement(new AbstractTemplateElement(libraryUrlAbbreviations, 1) {
+					protected void processAsCurrent(Context context, Writer writer) {}
+				});
+				templateBuilder.restoreCurrentTemplateElement();
+
+				return templateBuilder.build();
+			}
+
+			public long getVersion(Cache.Key key) {
+				return 1;
+			}
+		});
+
+		assert directory.listFiles().length == 0;
+	}
+
+	private String getText(Template template) {
+		return ((TextElement) template.getChildren(null).get(0)).getText();
+	}
+
+	private class TextLoader implements Cache.Loader {
+		private long version = 1;
+		private int loadCount;
+
+		public Template loadTemplate(Cache.Key key) {
+			loadCount++;
+
+			Map<String, String> libraryUrlAbbreviations = Collections.emptyMap();
+
+			TemplateBuilder templateBuilder = new TemplateBuilder(key.getName());
+			templateBuilder.addTemplateElement(configuration.getTemplateElementFactory().createTextElement(
+				String.format("text %d", loadCount), libraryUrlAbbreviations, 1));
+			templateBuilder.restoreCurrentTemplateElement();
+
+			return templateBuilder.build();
+		}
+
+		public long getVersion(Cache.Key key) {
+			return version;
+		}
+	}
+}
\ No newline at end of file
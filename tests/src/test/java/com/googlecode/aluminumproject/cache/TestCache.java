@@ -50,5 +50,13 @@ public class TestCache implements Cache {
 		return null;
 	}
 
+	public Template findTemplate(Key key, Loader loader) {
+		return loader.loadTemplate(key);
+	}
+
 	public void storeTemplate(Key key, Template template) {}
+
+	public Statistics getStatistics() {
+		return new Statistics(0, 0, 0, 0, 0);
+	}
 }
\ No newline at end of file
@@ -26,6 +26,7 @@ import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.
 import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.SERIALISER_PACKAGES;
 import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.TEMPLATE_ELEMENT_FACTORY_CLASS;
 import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.TEMPLATE_FINDER_CLASS;
+import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.TEMPLATE_OPTIMISER_CLASS;
 import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.TEMPLATE_STORE_FINDER_CLASS;
 import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.TYPE_FINDER_CLASS;
 import static com.googlecode.aluminumproject.utilities.ReflectionUtilities.getPackageName;
@@ -57,6 +58,7 @@ import com.googlecode.aluminumproject.libraries.TestLibrary;
 import com.googlecode.aluminumproject.libraries.actions.ActionContributionFactory;
 import com.googlecode.aluminumproject.libraries.actions.ActionFactory;
 import com.googlecode.aluminumproject.libraries.functions.FunctionFactory;
+import com.googlecode.aluminumproject.optimisers.DefaultTemplateOptimiser;
 import com.googlecode.aluminumproject.parsers.IgnoredParser;
 import com.googlecode.aluminumproject.parsers.Parser;
 import com.googlecode.aluminumproject.parsers.TestParser;
@@ -368,6 +370,21 @@ public class DefaultConfigurationTest {
 		assert cache.getConfiguration() == null;
 	}
 
+	public void templateOptimiserShouldDefaultToNull() {
+		configuration = new DefaultConfiguration();
+
+		assert configuration.getTemplateOptimiser() == null;
+	}
+
+	public void templateOptimiserShouldBeConfigurable() {
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(TEMPLATE_OPTIMISER_CLASS, DefaultTemplateOptimiser.class.getName());
+
+		configuration = new DefaultConfiguration(parameters);
+
+		assert configuration.getTemplateOptimiser() instanceof DefaultTemplateOptimiser;
+	}
+
 	public void librariesShouldNotBeNull() {
 		configuration = new DefaultConfiguration();
 
@@ -498,6 +515,10 @@ public class DefaultConfigurationTest {
 		public Template parseTemplate(String name) throws AluminumException {
 			throw new AluminumException("can't parse template '", name, "'");
 		}
+
+		public long getTemplateVersion(String name) throws AluminumException {
+			throw new AluminumException("can't find template '", name, "'");
+		}
 	}
 
 	@Test(dependsOnMethods = "parsersShouldNotBeNull")
@@ -821,6 +842,10 @@ public class DefaultConfigurationTest {
 		public Expression create(String value, Context context) throws AluminumException {
 			throw new AluminumException("can't create expression");
 		}
+
+		public Expression compile(String value, Map<String, String> libraryUrlAbbreviations) throws AluminumException {
+			throw new AluminumException("can't compile expression");
+		}
 	}
 
 	@Test(dependsOnMethods = "expressionFactoriesShouldNotBeNull")
@@ -24,6 +24,7 @@ import com.googlecode.aluminumproject.finders.TemplateFinder;
 import com.googlecode.aluminumproject.finders.TemplateStoreFinder;
 import com.googlecode.aluminumproject.finders.TypeFinder;
 import com.googlecode.aluminumproject.libraries.Library;
+import com.googlecode.aluminumproject.optimisers.TemplateOptimiser;
 import com.googlecode.aluminumproject.parsers.Parser;
 import com.googlecode.aluminumproject.serialisers.Serialiser;
 import com.googlecode.aluminumproject.templates.TemplateElementFactory;
@@ -48,6 +49,7 @@ public class TestConfiguration implements Configuration {
 	private TemplateFinder templateFinder;
 	private TemplateStoreFinder templateStoreFinder;
 	private Cache cache;
+	private TemplateOptimiser templateOptimiser;
 
 	private List<Library> libraries;
 	private Map<String, Parser> parsers;
@@ -162,6 +164,19 @@ public class TestConfiguration implements Configuration {
 		this.cache = cache;
 	}
 
+	public TemplateOptimiser getTemplateOptimiser() {
+		return templateOptimiser;
+	}
+
+	/**
+	 * Sets the template optimiser.
+	 *
+	 * @param templateOptimiser the template optimiser to use
+	 */
+	public void setTemplateOptimiser(TemplateOptimiser templateOptimiser) {
+		this.templateOptimiser = templateOptimiser;
+	}
+
 	public List<Library> getLibraries() {
 		return Collections.unmodifiableList(libraries);
 	}
@@ -254,6 +254,17 @@ public class AbstractContextTest {
 		assert subcontext.createSubcontext().findVariable("name").equals("subcontext");
 	}
 
+	public void findingNonexistentVariableWithDefaultValueShouldYieldDefaultValue() {
+		assert context.findVariable("nonexistent", Scope.UNDEFINED) == Scope.UNDEFINED;
+	}
+
+	@Test(dependsOnMethods = "variableShouldBeFindableInParentContext")
+	public void variableWithNullValueShouldBeFindableWithDefaultValue() {
+		context.setVariable(Context.TEMPLATE_SCOPE, "name", null);
+
+		assert context.createSubcontext().findVariable("name", Scope.UNDEFINED) == null;
+	}
+
 	@Test(dependsOnMethods = {
 		"scopeNamesShouldIncludeAddedScope",
 		"findingVariableShouldPreferScopeWithHigherPriority"
@@ -66,6 +66,17 @@ public class DefaultScopeTest {
 		assert variableNames.contains("new");
 	}
 
+	public void variableCountShouldReflectVariables() {
+		assert scope.getVariableCount() == 0;
+
+		scope.setVariable("first", 1);
+		scope.setVariable("second", 2);
+		assert scope.getVariableCount() == 2;
+
+		scope.removeVariable("first");
+		assert scope.getVariableCount() == 1;
+	}
+
 	public void replacingVariableShouldYieldPreviousValue() {
 		scope.setVariable("value", "old");
 
@@ -98,4 +109,19 @@ public class DefaultScopeTest {
 		assert variableNames != null;
 		assert !variableNames.contains("removed");
 	}
+
+	public void nonexistingVariableShouldNotBeContained() {
+		assert !scope.containsVariable("nonexisting");
+	}
+
+	public void findingNonexistingVariableShouldYieldUndefined() {
+		assert scope.findVariable("nonexisting") == Scope.UNDEFINED;
+	}
+
+	public void variableWithNullValueShouldBeContained() {
+		scope.setVariable("null", null);
+
+		assert scope.containsVariable("null");
+		assert scope.findVariable("null") == null;
+	}
 }
\ No newline at end of file
@@ -15,6 +15,7 @@
  */
 package com.googlecode.aluminumproject.context;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -73,4 +74,41 @@ public class ScopeMapTest {
 
 		assert scope.getVariableNames().isEmpty();
 	}
+
+	public void mapShouldContainVariableNames() {
+		assert map.containsKey("name");
+		assert !map.containsKey("other name");
+	}
+
+	public void retrievingNonexistingVariableShouldYieldNull() {
+		assert map.get("other name") == null;
+	}
+
+	public void removingNonexistingVariableShouldYieldNull() {
+		assert map.remove("other name") == null;
+	}
+
+	public void sizeShouldEqualNumberOfVariables() {
+		assert map.size() == 1;
+
+		scope.setVariable("other name", "other value");
+
+		assert map.size() == 2;
+	}
+
+	public void entrySetShouldReflectChangesToScope() {
+		Set<Map.Entry<String, Object>> entrySet = map.entrySet();
+
+		scope.setVariable("other name", "other value");
+
+		assert entrySet.size() == 2;
+	}
+
+	public void removingEntryShouldRemoveVariable() {
+		Iterator<Map.Entry<String, Object>> entries = map.entrySet().iterator();
+		entries.next();
+		entries.remove();
+
+		assert !scope.containsVariable("name");
+	}
 }
\ No newline at end of file
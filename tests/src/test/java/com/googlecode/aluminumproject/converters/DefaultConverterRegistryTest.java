@@ -20,6 +20,8 @@ import static com.googlecode.aluminumproject.converters.DefaultConverterRegistry
 import static com.googlecode.aluminumproject.utilities.ReflectionUtilities.getPackageName;
 
 import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.annotations.Ignored;
+import com.googlecode.aluminumproject.cache.Cache;
 import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
 import com.googlecode.aluminumproject.configuration.TestConfiguration;
 import com.googlecode.aluminumproject.converters.common.ObjectToStringConverter;
@@ -144,4 +146,58 @@ public class DefaultConverterRegistryTest {
 	public void illegalConversionShouldCauseException() {
 		converterRegistry.convert("running", Thread.State.class);
 	}
+
+	public void repeatedLookupShouldBeRemembered() {
+		Cache.Statistics statistics = converterRegistry.getStatistics();
+		assert statistics.getHitCount() == 0;
+		assert statistics.getMissCount() == 0;
+
+		Converter<? super Object> converter = converterRegistry.getConverter(Object.class, String.class);
+		assert converterRegistry.getConverter(Object.class, String.class) == converter;
+
+		statistics = converterRegistry.getStatistics();
+		assert statistics.getHitCount() == 1;
+		assert statistics.getMissCount() == 1;
+	}
+
+	public void failedLookupShouldBeRemembered() {
+		for (int i = 0; i < 2; i++) {
+			try {
+				converterRegistry.getConverter(Float.class, Thread.State.class);
+
+				assert false;
+			} catch (AluminumException exception) {}
+		}
+
+		Cache.Statistics statistics = converterRegistry.getStatistics();
+		assert statistics.getHitCount() == 1;
+		assert statistics.getMissCount() == 1;
+	}
+
+	@Ignored
+	public static class FloatToThreadStateConverter extends ClassBasedConverter<Float, Thread.State> {
+		@Override
+		protected Thread.State convert(Float value) {
+			return Thread.State.values()[value.intValue()];
+		}
+	}
+
+	@Test(dependsOnMethods = "failedLookupShouldBeRemembered")
+	public void registeringConverterShouldForgetRememberedLookups() {
+		try {
+			converterRegistry.getConverter(Float.class, Thread.State.class);
+
+			assert false;
+		} catch (AluminumException exception) {}
+
+		Converter<Float> converter = new FloatToThreadStateConverter();
+		converterRegistry.registerConverter(converter);
+
+		assert converterRegistry.getConverter(Float.class, Thread.State.class) == converter;
+
+		Cache.Statistics statistics = converterRegistry.getStatistics();
+		assert statistics.getMissCount() == 2;
+		assert statistics.getLoadCount() == 2;
+		assert statistics.getEvictionCount() == 1;
+	}
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import com.googlecode.aluminumproject.context.Context;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * An expression factory that will be ignored by the {@link DefaultConfiguration default configuration}.
@@ -45,4 +46,8 @@ public class IgnoredExpressionFactory implements ExpressionFactory {
 	public Expression create(String value, Context context) throws AluminumException {
 		throw new AluminumException("can't create expression");
 	}
+
+	public Expression compile(String value, Map<String, String> libraryUrlAbbreviations) throws AluminumException {
+		throw new AluminumException("can't compile expression");
+	}
 }
\ No newline at end of file
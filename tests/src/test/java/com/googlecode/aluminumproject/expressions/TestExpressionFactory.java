@@ -20,6 +20,7 @@ import com.googlecode.aluminumproject.context.Context;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * An expression factory that can be used in tests.
@@ -70,4 +71,8 @@ public class TestExpressionFactory implements ExpressionFactory {
 	public TestExpression create(String value, Context context) {
 		return new TestExpression(value);
 	}
+
+	public TestExpression compile(String value, Map<String, String> libraryUrlAbbreviations) {
+		return new TestExpression(value);
+	}
 }
\ No newline at end of file
@@ -38,8 +38,8 @@ public class ElContextTest {
 		parameters.addParameter(ElContext.EL_RESOLVER_WITHOUT_BASE_PACKAGES,
 			ReflectionUtilities.getPackageName(DictionaryElResolver.class));
 
-		ElContext elContext = new ElContext(new DefaultContext(), new TestConfiguration(parameters));
-		ELResolver elResolver = elContext.getELResolver();
+		ELResolver elResolver = ElContext.createElResolver(new TestConfiguration(parameters));
+		ElContext elContext = new ElContext(new DefaultContext(), elResolver);
 
 		assert elResolver.getValue(elContext, null, "en_nl") instanceof Dictionary;
 	}
@@ -52,8 +52,8 @@ public class ElContextTest {
 		parameters.addParameter(ElContext.EL_RESOLVER_WITH_BASE_PACKAGES,
 			ReflectionUtilities.getPackageName(TranslationElResolver.class));
 
-		ElContext elContext = new ElContext(new DefaultContext(), new TestConfiguration(parameters));
-		ELResolver elResolver = elContext.getELResolver();
+		ELResolver elResolver = ElContext.createElResolver(new TestConfiguration(parameters));
+		ElContext elContext = new ElContext(new DefaultContext(), elResolver);
 
 		Object translation = elResolver.getValue(elContext, elResolver.getValue(elContext, null, "nl_en"), "boom");
 		assert translation instanceof String;
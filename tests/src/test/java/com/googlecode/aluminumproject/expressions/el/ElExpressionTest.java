@@ -20,11 +20,13 @@ import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
 import com.googlecode.aluminumproject.configuration.TestConfiguration;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.context.DefaultContext;
+import com.googlecode.aluminumproject.expressions.Expression;
 import com.googlecode.aluminumproject.expressions.ExpressionFactory;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.ListResourceBundle;
+import java.util.Map;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -132,8 +134,42 @@ public class ElExpressionTest {
 		assert ((Integer) bracketResult).intValue() == 10;
 	}
 
+	@Test(dependsOnMethods = "expressionShouldSupportContextVariables")
+	public void compiledExpressionShouldBeEvaluatableInDifferentContexts() {
+		Expression expression = expressionFactory.compile("${number}", Collections.<String, String>emptyMap());
+
+		Object firstResult = expression.evaluate(context);
+		assert firstResult instanceof Integer;
+		assert ((Integer) firstResult).intValue() == 10;
+
+		Context otherContext = new DefaultContext();
+		otherContext.setVariable("number", 5);
+
+		Object secondResult = expression.evaluate(otherContext);
+		assert secondResult instanceof Integer;
+		assert ((Integer) secondResult).intValue() == 5;
+	}
+
 	@Test(dependsOnMethods = "expressionFactoryShouldCreateElExpressions", expectedExceptions = AluminumException.class)
 	public void evaluatingInvalidExpressionShouldCauseException() {
 		expressionFactory.create("${invalid}", context).evaluate(context);
 	}
+
+	@Test(dependsOnMethods = "expressionFactoryShouldCreateElExpressions")
+	public void expressionsWithLiteralsOnlyShouldBeConstant() {
+		Map<String, String> libraryUrlAbbreviations = Collections.emptyMap();
+
+		for (String value: Arrays.asList("${1 + 2}", "${'a}' ne \"b\"}", "${1.5e3 gt .5 and not empty ''}", "text")) {
+			assert ((ElExpression) expressionFactory.compile(value, libraryUrlAbbreviations)).isConstant();
+		}
+	}
+
+	@Test(dependsOnMethods = "expressionFactoryShouldCreateElExpressions")
+	public void expressionsWithIdentifiersShouldNotBeConstant() {
+		Map<String, String> libraryUrlAbbreviations = Collections.emptyMap();
+
+		for (String value: Arrays.asList("${number}", "${1 + number}", "${'a'.length()}", "${'a'['bytes']}")) {
+			assert !((ElExpression) expressionFactory.compile(value, libraryUrlAbbreviations)).isConstant();
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.expressions.el;
+
+import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.EXPRESSION_FACTORY_PACKAGES;
+import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.LIBRARY_PACKAGES;
+import static com.googlecode.aluminumproject.utilities.ReflectionUtilities.getPackageName;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.DefaultConfiguration;
+import com.googlecode.aluminumproject.context.DefaultContext;
+import com.googlecode.aluminumproject.libraries.TestLibrary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"expressions", "expressions-el", "fast"})
+public class FunctionCallTranslatorTest {
+	private Configuration configuration;
+
+	private FunctionCallTranslator functionCallTranslator;
+
+	private List<FunctionCallSite> functionCallSites;
+
+	@BeforeMethod
+	public void createConfigurationAndFunctionCallTranslator() {
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(LIBRARY_PACKAGES, getPackageName(TestLibrary.class));
+		parameters.addParameter(EXPRESSION_FACTORY_PACKAGES, getPackageName(ElExpressionFactory.class));
+
+		configuration = new DefaultConfiguration(parameters);
+
+		Map<String, String> libraryUrlAbbreviations = new HashMap<String, String>();
+		libraryUrlAbbreviations.put("test", TestLibrary.URL);
+		libraryUrlAbbreviations.put("versionedTest", new TestLibrary().getInformation().getVersionedUrl());
+
+		functionCallTranslator =
+			new FunctionCallTranslator(libraryUrlAbbreviations, new FunctionRegistry(configuration));
+
+		functionCallSites = new ArrayList<FunctionCallSite>();
+	}
+
+	@AfterMethod
+	public void closeConfiguration() {
+		configuration.close();
+	}
+
+	public void functionCallsShouldBeTranslated() {
+		String translation = functionCallTranslator.translate("${test:max(5, test : max(1, 2))}", functionCallSites);
+
+		assert translation.equals("${aluminumFunctionCallSites.f0(5, aluminumFunctionCallSites.f1(1, 2))}");
+		assert functionCallSites.size() == 2;
+	}
+
+	public void functionCallsWithVersionedAbbreviationShouldBeTranslated() {
+		String translation = functionCallTranslator.translate("#{versionedTest:max(5, 10)}", functionCallSites);
+
+		assert translation.equals("#{aluminumFunctionCallSites.f0(5, 10)}");
+	}
+
+	public void dynamicFunctionCallsShouldBeTranslated() {
+		String translation = functionCallTranslator.translate("${test:add1and2and3and4()}", functionCallSites);
+
+		assert translation.equals("${aluminumFunctionCallSites.f0()}");
+	}
+
+	public void unknownFunctionCallsShouldNotBeTranslated() {
+		String expression = "${test:function(5) + t:max(5, 10) + max(5, 10)}";
+
+		assert functionCallTranslator.translate(expression, functionCallSites).equals(expression);
+		assert functionCallSites.isEmpty();
+	}
+
+	public void textOutsideFunctionCallsShouldNotBeTranslated() {
+		String expression = "test:max(5, 10) ${'test:max(5, 10)'} ${bean.test:max} ${empty (list) ? a : b or c}";
+
+		assert functionCallTranslator.translate(expression, functionCallSites).equals(expression);
+		assert functionCallSites.isEmpty();
+	}
+
+	@Test(dependsOnMethods = "functionCallsShouldBeTranslated")
+	public void functionCallSitesShouldBeCallable() {
+		functionCallTranslator.translate("${test:max(5, 10)}", functionCallSites);
+
+		Object result = functionCallSites.get(0).call(new Object[] {5, 10}, new DefaultContext());
+		assert result instanceof Integer;
+		assert ((Integer) result).intValue() == 10;
+	}
+
+	@Test(dependsOnMethods = "functionCallsShouldBeTranslated", expectedExceptions = AluminumException.class)
+	public void callingFunctionWithWrongNumberOfArgumentsShouldCauseException() {
+		functionCallTranslator.translate("${test:max(5)}", functionCallSites);
+
+		functionCallSites.get(0).call(new Object[] {5}, new DefaultContext());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.expressions.el;
+
+import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.EXPRESSION_FACTORY_PACKAGES;
+import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.LIBRARY_PACKAGES;
+import static com.googlecode.aluminumproject.utilities.ReflectionUtilities.getPackageName;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.DefaultConfiguration;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.context.DefaultContext;
+import com.googlecode.aluminumproject.converters.ClassBasedConverter;
+import com.googlecode.aluminumproject.libraries.TestLibrary;
+import com.googlecode.aluminumproject.libraries.functions.FunctionFactory;
+import com.googlecode.aluminumproject.libraries.functions.InvocableFunction;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"expressions", "expressions-el", "fast"})
+public class FunctionRegistryTest {
+	private Configuration configuration;
+
+	private FunctionRegistry functionRegistry;
+
+	@BeforeMethod
+	public void createConfigurationAndFunctionRegistry() {
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(LIBRARY_PACKAGES, getPackageName(TestLibrary.class));
+		parameters.addParameter(EXPRESSION_FACTORY_PACKAGES, getPackageName(ElExpressionFactory.class));
+
+		configuration = new DefaultConfiguration(parameters);
+
+		functionRegistry = new FunctionRegistry(configuration);
+	}
+
+	@AfterMethod
+	public void closeConfiguration() {
+		configuration.close();
+	}
+
+	public void findingFunctionWithUnknownLibraryUrlShouldResultInNull() {
+		assert functionRegistry.getFunctionFactory("http://www.example.com/unknown", "max") == null;
+	}
+
+	public void findingFunctionWithUnknownNameShouldResultInNull() {
+		assert functionRegistry.getFunctionFactory(TestLibrary.URL, "function") == null;
+	}
+
+	public void findingExistingFunctionShouldResultInFunctionFactory() {
+		assert functionRegistry.getFunctionFactory(TestLibrary.URL, "max") != null;
+	}
+
+	public void findingExistingFunctionWithVersionedUrlShouldResultInFunctionFactory() {
+		String versionedUrl = new TestLibrary().getInformation().getVersionedUrl();
+
+		assert functionRegistry.getFunctionFactory(versionedUrl, "max") != null;
+	}
+
+	public void findingDynamicFunctionShouldResultInFunctionFactory() {
+		assert functionRegistry.getFunctionFactory(TestLibrary.URL, "add1and2and3and4") != null;
+	}
+
+	@Test(dependsOnMethods = "findingDynamicFunctionShouldResultInFunctionFactory")
+	public void dynamicFunctionFactoriesShouldBeRemembered() {
+		FunctionFactory functionFactory = functionRegistry.getFunctionFactory(TestLibrary.URL, "add1and2and3and4");
+
+		assert functionRegistry.getFunctionFactory(TestLibrary.URL, "add1and2and3and4") == functionFactory;
+	}
+
+	public void invocableFunctionOfStaticMethodShouldBeGenerated() {
+		InvocableFunction function = getInvocableFunction("max");
+
+		assert function instanceof StaticMethodInvoker;
+		assert function.invoke(new Object[] {"3", 5}, new DefaultContext()).equals(5);
+	}
+
+	public void invocableFunctionsShouldBeRemembered() {
+		assert getInvocableFunction("max") == getInvocableFunction("max");
+	}
+
+	public void invocableFunctionOfDynamicFunctionShouldCreateFunction() {
+		assert getInvocableFunction("add1and2and3and4").invoke(new Object[0], new DefaultContext()).equals(10);
+	}
+
+	public void generatedInvokerShouldUseConvertersThatAreRegisteredLater() {
+		InvocableFunction function = getInvocableFunction("max");
+		Context context = new DefaultContext();
+
+		try {
+			function.invoke(new Object[] {new Size(7), 5}, context);
+
+			assert false;
+		} catch (AluminumException exception) {}
+
+		configuration.getConverterRegistry().registerConverter(new SizeConverter());
+
+		assert function.invoke(new Object[] {new Size(7), 5}, context).equals(7);
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void invokingGeneratedInvokerWithWrongNumberOfArgumentsShouldCauseException() {
+		getInvocableFunction("max").invoke(new Object[] {5}, new DefaultContext());
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void invokingGeneratedInvokerWithNullForPrimitiveParameterShouldCauseException() {
+		getInvocableFunction("max").invoke(new Object[] {null, 5}, new DefaultContext());
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void exceptionThrownByMethodOfGeneratedInvokerShouldBeWrapped() {
+		getInvocableFunction("divide").invoke(new Object[] {5, 0}, new DefaultContext());
+	}
+
+	private InvocableFunction getInvocableFunction(String functionName) {
+		FunctionFactory functionFactory = functionRegistry.getFunctionFactory(TestLibrary.URL, functionName);
+
+		return functionRegistry.getInvocableFunction(functionFactory);
+	}
+
+	public static class Size {
+		private int value;
+
+		public Size(int value) {
+			this.value = value;
+		}
+	}
+
+	public static class SizeConverter extends ClassBasedConverter<Size, Integer> {
+		@Override
+		protected Integer convert(Size size) {
+			return size.value;
+		}
+	}
+}
\ No newline at end of file
@@ -42,6 +42,16 @@ public class ClassPathTemplateFinderTest extends TemplateFinderTest {
 		assertAvailable(templateFinder, "test.xml");
 	}
 
+	@Test(dependsOnMethods = "templatePathShouldBeConfigurable")
+	public void versionOfTemplateShouldBeDeterminable() {
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(ClassPathTemplateFinder.TEMPLATE_PATH, "templates");
+
+		TemplateFinder templateFinder = new ClassPathTemplateFinder();
+		templateFinder.initialise(new TestConfiguration(parameters));
+		assert templateFinder.getVersion("test.xml") != TemplateFinder.UNKNOWN_VERSION;
+	}
+
 	@Test(dependsOnMethods = "templatePathShouldDefaultToClassPathRoot", expectedExceptions = AluminumException.class)
 	public void tryingToFindNonexistentTemplateShouldCauseException() {
 		TemplateFinder templateFinder = new ClassPathTemplateFinder();
@@ -62,6 +62,18 @@ public class FileSystemTemplateFinderTest extends TemplateFinderTest {
 		assertAvailable(templateFinder, "if.xml");
 	}
 
+	@Test(dependsOnMethods = "templatesShouldBeFindableInTemplateDirectory")
+	public void versionOfTemplateShouldBeLastModificationTime() {
+		File templateDirectory = new File(classLoader.getResource("templates").getPath());
+
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(FileSystemTemplateFinder.TEMPLATE_DIRECTORIES, templateDirectory.getAbsolutePath());
+
+		TemplateFinder templateFinder = new FileSystemTemplateFinder();
+		templateFinder.initialise(new TestConfiguration(parameters));
+		assert templateFinder.getVersion("test.xml") == new File(templateDirectory, "test.xml").lastModified();
+	}
+
 	@Test(
 		dependsOnMethods = "templatesShouldBeFindableInTemplateDirectory",
 		expectedExceptions = AluminumException.class
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.finders;
+
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.DefaultConfiguration;
+import com.googlecode.aluminumproject.configuration.TestConfiguration;
+import com.googlecode.aluminumproject.converters.DefaultConverterRegistry;
+import com.googlecode.aluminumproject.finders.TypeFinder.TypeFilter;
+import com.googlecode.aluminumproject.libraries.Library;
+import com.googlecode.aluminumproject.utilities.ReflectionUtilities;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.TestNG;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"core", "slow"})
+public class IndexedTypeFinderTest {
+	private TypeFinder typeFinder;
+
+	private String packageName;
+
+	@BeforeMethod
+	public void createTypeFinder() {
+		typeFinder = new IndexedTypeFinder();
+		typeFinder.initialise(new TestConfiguration(new ConfigurationParameters()));
+
+		packageName = ReflectionUtilities.getPackageName(getClass());
+	}
+
+	@AfterMethod
+	public void disableTypeFinder() {
+		typeFinder.disable();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void notSupplyingPackagesShouldCauseException() {
+		typeFinder.find(new AcceptFilter());
+	}
+
+	public void indexedTypesShouldBeFound() {
+		List<Class<?>> types = typeFinder.find(new AcceptFilter(), packageName);
+		assert types != null;
+		assert types.contains(DefaultTypeFinder.class);
+		assert types.contains(IndexedTypeFinder.class);
+	}
+
+	public void typesOutsideOfPackagesShouldNotBeFound() {
+		List<Class<?>> types = typeFinder.find(new AcceptFilter(), packageName);
+		assert types != null;
+		assert !types.contains(DefaultConverterRegistry.class);
+	}
+
+	public void typesThatAreNotIndexedShouldNotBeFound() {
+		List<Class<?>> types = typeFinder.find(new AcceptFilter(), packageName);
+		assert types != null;
+		assert !types.contains(getClass());
+	}
+
+	public void filterShouldBeApplied() {
+		List<Class<?>> types = typeFinder.find(new DenyFilter(), packageName);
+		assert types != null;
+		assert types.isEmpty();
+	}
+
+	public void configurationShouldFindSameLibrariesAsWithDefaultTypeFinder() {
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(DefaultConfiguration.TYPE_FINDER_CLASS, IndexedTypeFinder.class.getName());
+
+		Configuration indexedConfiguration = new DefaultConfiguration(parameters);
+		Configuration defaultConfiguration = new DefaultConfiguration();
+
+		try {
+			assert indexedConfiguration.getTypeFinder() instanceof IndexedTypeFinder;
+			assert getLibraryClasses(indexedConfiguration).equals(getLibraryClasses(defaultConfiguration));
+		} finally {
+			indexedConfiguration.close();
+			defaultConfiguration.close();
+		}
+	}
+
+	private Set<Class<?>> getLibraryClasses(Configuration configuration) {
+		Set<Class<?>> libraryClasses = new HashSet<Class<?>>();
+
+		for (Library library: configuration.getLibraries()) {
+			libraryClasses.add(library.getClass());
+		}
+
+		return libraryClasses;
+	}
+
+	public void allIndicesInClassPathShouldBeRead() throws IOException {
+		File directory = createIndex(TestNG.class.getName());
+
+		Thread currentThread = Thread.currentThread();
+		ClassLoader classLoader = currentThread.getContextClassLoader();
+
+		currentThread.setContextClassLoader(new URLClassLoader(new URL[] {directory.toURI().toURL()}, classLoader));
+
+		try {
+			typeFinder.initialise(new TestConfiguration(new ConfigurationParameters()));
+
+			String testNgPackageName = ReflectionUtilities.getPackageName(TestNG.class);
+
+			List<Class<?>> types = typeFinder.find(new AcceptFilter(), testNgPackageName);
+			assert types != null;
+			assert types.contains(TestNG.class);
+			assert !types.contains(Test.class);
+
+			assert typeFinder.find(new AcceptFilter(), packageName).contains(DefaultTypeFinder.class);
+		} finally {
+			currentThread.setContextClassLoader(classLoader);
+
+			delete(directory);
+		}
+	}
+
+	private File createIndex(String... typeNames) throws IOException {
+		File temporaryDirectory = new File(System.getProperty("java.io.tmpdir"));
+
+		File directory;
+		int i = 0;
+
+		do {
+			directory = new File(temporaryDirectory, String.format("type-index-%d", ++i));
+		} while (directory.exists());
+
+		File index = new File(directory, IndexedTypeFinder.INDEX);
+		index.getParentFile().mkdirs();
+
+		OutputStream out = new FileOutputStream(index);
+
+		try {
+			for (String typeName: typeNames) {
+				out.write(String.format("%s%n", typeName).getBytes("UTF-8"));
+			}
+		} finally {
+			out.close();
+		}
+
+		return directory;
+	}
+
+	private void delete(File file) {
+		File[] files = file.listFiles();
+
+		if (files != null) {
+			for (File child: files) {
+				delete(child);
+			}
+		}
+
+		file.delete();
+	}
+
+	private class AcceptFilter implements TypeFilter {
+		public boolean accepts(Class<?> type) {
+			return true;
+		}
+	}
+
+	private class DenyFilter implements TypeFilter {
+		public boolean accepts(Class<?> type) {
+			return false;
+		}
+	}
+}
\ No newline at end of file
@@ -50,4 +50,8 @@ public class TestTemplateFinder implements TemplateFinder {
 	public InputStream find(String name) {
 		return null;
 	}
+
+	public long getVersion(String name) {
+		return UNKNOWN_VERSION;
+	}
 }
\ No newline at end of file
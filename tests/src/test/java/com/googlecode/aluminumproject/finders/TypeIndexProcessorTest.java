@@ -0,0 +1,206 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.finders;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.ToolProvider;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"core", "slow"})
+public class TypeIndexProcessorTest {
+	private File directory;
+
+	private List<File> sourceFiles;
+
+	@BeforeMethod
+	public void createDirectory() {
+		File temporaryDirectory = new File(System.getProperty("java.io.tmpdir"));
+
+		int i = 0;
+
+		do {
+			directory = new File(temporaryDirectory, String.format("type-index-processor-%d", ++i));
+		} while (directory.exists());
+
+		sourceFiles = new ArrayList<File>();
+	}
+
+	@AfterMethod
+	public void removeDirectory() {
+		delete(directory);
+	}
+
+	private void delete(File file) {
+		File[] files = file.listFiles();
+
+		if (files != null) {
+			for (File child: files) {
+				delete(child);
+			}
+		}
+
+		file.delete();
+	}
+
+	public void indexShouldContainIndexedTypes() throws IOException {
+		addSourceFile("TestAction.java",
+			"package indexed;",
+			"public abstract class TestAction implements com.googlecode.aluminumproject.libraries.actions.Action {",
+			"	public abstract static class TestConverter",
+			"		implements com.googlecode.aluminumproject.converters.Converter<String> {}",
+			"}");
+		addSourceFile("TestFunctions.java",
+			"package indexed;",
+			"@com.googlecode.aluminumproject.annotations.FunctionClass",
+			"public class TestFunctions {}");
+		addSourceFile("TestRunnable.java",
+			"package indexed;",
+			"public abstract class TestRunnable implements Runnable {}");
+
+		List<String> index = compile();
+		assert index.equals(Arrays.asList("indexed.TestAction", "indexed.TestAction$TestConverter",
+			"indexed.TestFunctions"));
+	}
+
+	public void compilingWithoutIndexedTypesShouldNotWriteIndex() throws IOException {
+		addSourceFile("TestRunnable.java",
+			"package indexed;",
+			"public abstract class TestRunnable implements Runnable {}");
+
+		List<String> index = compile();
+		assert index.isEmpty();
+		assert !new File(directory, IndexedTypeFinder.INDEX).exists();
+	}
+
+	public void incrementalCompilationShouldKeepIndexedTypesThatWereNotCompiled() throws IOException {
+		addSourceFile("TestAction.java",
+			"package indexed;",
+			"public abstract class TestAction implements com.googlecode.aluminumproject.libraries.actions.Action {}");
+		addSourceFile("TestFunctions.java",
+			"package indexed;",
+			"@com.googlecode.aluminumproject.annotations.FunctionClass",
+			"public class TestFunctions {}");
+
+		compile();
+
+		sourceFiles.clear();
+
+		addSourceFile("TestFunctions.java",
+			"package indexed;",
+			"public class TestFunctions {}");
+		addSourceFile("TestConverter.java",
+			"package indexed;",
+			"public abstract class TestConverter",
+			"	implements com.googlecode.aluminumproject.converters.Converter<String> {}");
+
+		List<String> index = compile();
+		assert index.equals(Arrays.asList("indexed.TestAction", "indexed.TestConverter"));
+	}
+
+	public void incrementalCompilationShouldRemoveIndexedTypesThatNoLongerExist() throws IOException {
+		addSourceFile("TestAction.java",
+			"package indexed;",
+			"public abstract class TestAction implements com.googlecode.aluminumproject.libraries.actions.Action {}");
+		addSourceFile("TestFunctions.java",
+			"package indexed;",
+			"@com.googlecode.aluminumproject.annotations.FunctionClass",
+			"public class TestFunctions {}");
+
+		compile();
+
+		assert new File(new File(directory, "indexed"), "TestAction.class").delete();
+
+		sourceFiles.clear();
+
+		addSourceFile("TestFunctions.java",
+			"package indexed;",
+			"@com.googlecode.aluminumproject.annotations.FunctionClass",
+			"public class TestFunctions {}");
+
+		List<String> index = compile();
+		assert index.equals(Collections.singletonList("indexed.TestFunctions"));
+	}
+
+	private void addSourceFile(String name, String... lines) throws IOException {
+		File sourceFile = new File(new File(directory, "indexed"), name);
+		sourceFile.getParentFile().mkdirs();
+
+		OutputStream out = new FileOutputStream(sourceFile);
+
+		try {
+			for (String line: lines) {
+				out.write(String.format("%s%n", line).getBytes("UTF-8"));
+			}
+		} finally {
+			out.close();
+		}
+
+		sourceFiles.add(sourceFile);
+	}
+
+	private List<String> compile() throws IOException {
+		List<String> arguments = new ArrayList<String>(Arrays.asList(
+			"-processor", TypeIndexProcessor.class.getName(),
+			"-classpath", System.getProperty("java.class.path"),
+			"-d", directory.getPath()));
+
+		for (File sourceFile: sourceFiles) {
+			arguments.add(sourceFile.getPath());
+		}
+
+		assert ToolProvider.getSystemJavaCompiler().run(
+			null, null, null, arguments.toArray(new String[arguments.size()])) == 0;
+
+		File indexFile = new File(directory, IndexedTypeFinder.INDEX);
+
+		List<String> index;
+
+		if (indexFile.exists()) {
+			index = new ArrayList<String>();
+
+			BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(indexFile), "UTF-8"));
+
+			try {
+				String line;
+
+				while ((line = in.readLine()) != null) {
+					index.add(line);
+				}
+			} finally {
+				in.close();
+			}
+		} else {
+			index = Collections.emptyList();
+		}
+
+		return index;
+	}
+}
\ No newline at end of file
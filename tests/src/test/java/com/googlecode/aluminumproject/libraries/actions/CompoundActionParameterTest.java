@@ -26,6 +26,7 @@ import com.googlecode.aluminumproject.expressions.ExpressionFactory;
 import com.googlecode.aluminumproject.expressions.TestExpressionFactory;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -48,7 +49,8 @@ public class CompoundActionParameterTest {
 		expressionFactory.initialise(configuration);
 
 		parameter = new CompoundActionParameter(Arrays.<ActionParameter>asList(
-			new ExpressionActionParameter(expressionFactory, "<<number>>", converterRegistry),
+			new ExpressionActionParameter(
+				expressionFactory, "<<number>>", Collections.<String, String>emptyMap(), converterRegistry),
 			new ConstantActionParameter(" items", converterRegistry)
 		), converterRegistry);
 
@@ -18,6 +18,7 @@ package com.googlecode.aluminumproject.libraries.actions;
 import com.googlecode.aluminumproject.AluminumException;
 import com.googlecode.aluminumproject.annotations.Ignored;
 import com.googlecode.aluminumproject.annotations.Required;
+import com.googlecode.aluminumproject.annotations.Reusable;
 import com.googlecode.aluminumproject.annotations.Typed;
 import com.googlecode.aluminumproject.annotations.UsableAsFunction;
 import com.googlecode.aluminumproject.annotations.ValidInside;
@@ -25,11 +26,17 @@ import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
 import com.googlecode.aluminumproject.configuration.TestConfiguration;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.context.DefaultContext;
+import com.googlecode.aluminumproject.converters.ConverterRegistry;
+import com.googlecode.aluminumproject.converters.DefaultConverterRegistry;
 import com.googlecode.aluminumproject.templates.TemplateInformation;
+import com.googlecode.aluminumproject.writers.NullWriter;
 import com.googlecode.aluminumproject.writers.Writer;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -391,4 +398,237 @@ public class DefaultActionFactoryTest {
 
 		assert actionFactory.create(parameters, context) instanceof ActionThatIsOnlyValidInsideTestAction;
 	}
+
+	public static class ConvertibleAction extends AbstractAction {
+		private int count;
+		private Thread.State state;
+		private Date date;
+		private ActionParameter text;
+
+		public int getCount() {
+			return count;
+		}
+
+		public Thread.State getState() {
+			return state;
+		}
+
+		public Date getDate() {
+			return date;
+		}
+
+		public ActionParameter getText() {
+			return text;
+		}
+
+		public void execute(Context context, Writer writer) {}
+	}
+
+	private DefaultActionFactory createConvertibleActionFactory(ConverterRegistry converterRegistry) {
+		TestConfiguration configuration = new TestConfiguration(new ConfigurationParameters());
+
+		converterRegistry.initialise(configuration);
+		configuration.setConverterRegistry(converterRegistry);
+
+		DefaultActionFactory actionFactory = new DefaultActionFactory(ConvertibleAction.class);
+		actionFactory.initialise(configuration);
+
+		return actionFactory;
+	}
+
+	public void constantParametersWithImmutableTypesShouldBeConvertedWhenPreparingParameters() {
+		ConverterRegistry converterRegistry = new DefaultConverterRegistry();
+		DefaultActionFactory actionFactory = createConvertibleActionFactory(converterRegistry);
+
+		Map<String, ActionParameter> parameters = new HashMap<String, ActionParameter>();
+		parameters.put("count", new ConstantActionParameter("3", converterRegistry));
+		parameters.put("state", new CompoundActionParameter(Arrays.<ActionParameter>asList(
+			new ConstantActionParameter("RUN", converterRegistry),
+			new ConstantActionParameter("NABLE", converterRegistry)), converterRegistry));
+
+		Map<String, ActionParameter> preparedParameters = actionFactory.prepareParameters(parameters);
+		assert preparedParameters.get("count") instanceof ConvertedActionParameter;
+		assert preparedParameters.get("state") instanceof ConvertedActionParameter;
+
+		ConvertibleAction action = (ConvertibleAction) actionFactory.create(preparedParameters, new DefaultContext());
+		assert action.getCount() == 3;
+		assert action.getState() == Thread.State.RUNNABLE;
+	}
+
+	public void otherParametersShouldBeKeptWhenPreparingParameters() {
+		ConverterRegistry converterRegistry = new DefaultConverterRegistry();
+		DefaultActionFactory actionFactory = createConvertibleActionFactory(converterRegistry);
+
+		ActionParameter date = new ConstantActionParameter("2014-01-01", converterRegistry);
+		ActionParameter text = new ConstantActionParameter("text", converterRegistry);
+		ActionParameter count = new TestActionParameter("3");
+
+		Map<String, ActionParameter> parameters = new HashMap<String, ActionParameter>();
+		parameters.put("date", date);
+		parameters.put("text", text);
+		parameters.put("count", count);
+
+		Map<String, ActionParameter> preparedParameters = actionFactory.prepareParameters(parameters);
+		assert preparedParameters.get("date") == date;
+		assert preparedParameters.get("text") == text;
+		assert preparedParameters.get("count") == count;
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void preparingInconvertibleConstantParameterShouldCauseException() {
+		ConverterRegistry converterRegistry = new DefaultConverterRegistry();
+		DefaultActionFactory actionFactory = createConvertibleActionFactory(converterRegistry);
+
+		actionFactory.prepareParameters(Collections.<String, ActionParameter>singletonMap(
+			"count", new ConstantActionParameter("three", converterRegistry)));
+	}
+
+	@Reusable
+	public static class ReusableAction extends AbstractAction {
+		private String description;
+		private ActionParameter text;
+
+		public String getDescription() {
+			return description;
+		}
+
+		public ActionParameter getText() {
+			return text;
+		}
+
+		public void execute(Context context, Writer writer) {}
+	}
+
+	public void onlyAnnotatedActionsShouldBeReusable() {
+		assert new DefaultActionFactory(ReusableAction.class).createsReusableActions();
+		assert !new DefaultActionFactory(TestAction.class).createsReusableActions();
+	}
+
+	public void reusingActionShouldSetParametersAgain() {
+		DefaultActionFactory actionFactory = new DefaultActionFactory(ReusableAction.class);
+		actionFactory.initialise(new TestConfiguration(new ConfigurationParameters()));
+
+		ActionParameter description = new ActionParameter() {
+			private int count;
+
+			public String getText() {
+				return "description";
+			}
+
+			public Object getValue(Type type, Context context) {
+				return String.valueOf(++count);
+			}
+		};
+		ActionParameter text = new TestActionParameter("text");
+
+		Map<String, ActionParameter> parameters = new HashMap<String, ActionParameter>();
+		parameters.put("description", description);
+		parameters.put("text", text);
+
+		Context context = new DefaultContext();
+
+		ReusableAction action = (ReusableAction) actionFactory.create(parameters, context);
+		assert action.getDescription().equals("1");
+		assert action.getText() == text;
+
+		actionFactory.reuse(action, parameters, context);
+		assert action.getDescription().equals("2");
+		assert action.getText() == text;
+	}
+
+	public static class ResettableAction extends AbstractAction implements Resettable {
+		private int executionCount;
+
+		public int getExecutionCount() {
+			return executionCount;
+		}
+
+		public void execute(Context context, Writer writer) {
+			executionCount++;
+		}
+
+		public void reset() {
+			executionCount = 0;
+		}
+	}
+
+	public void resettableActionsShouldBeReusable() {
+		assert new DefaultActionFactory(ResettableAction.class).createsReusableActions();
+	}
+
+	public void reusingResettableActionShouldResetIt() {
+		DefaultActionFactory actionFactory = new DefaultActionFactory(ResettableAction.class);
+		actionFactory.initialise(new TestConfiguration(new ConfigurationParameters()));
+
+		Map<String, ActionParameter> parameters = Collections.emptyMap();
+		Context context = new DefaultContext();
+
+		ResettableAction action = (ResettableAction) actionFactory.create(parameters, context);
+		action.execute(context, new NullWriter());
+		assert action.getExecutionCount() == 1;
+
+		actionFactory.reuse(action, parameters, context);
+		assert action.getExecutionCount() == 0;
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void reusingActionThatIsNotReusableShouldCauseException() {
+		DefaultActionFactory actionFactory = new DefaultActionFactory(TestAction.class);
+		actionFactory.initialise(new TestConfiguration(new ConfigurationParameters()));
+
+		Map<String, ActionParameter> parameters = Collections.emptyMap();
+		Context context = new DefaultContext();
+
+		actionFactory.reuse(actionFactory.create(parameters, context), parameters, context);
+	}
+
+	public static class LazyAction extends AbstractAction {
+		private LazyParameter<Integer> count;
+		private @Typed("String") LazyParameter<Object> text;
+
+		public LazyParameter<Integer> getCount() {
+			return count;
+		}
+
+		public void execute(Context context, Writer writer) {}
+	}
+
+	public void lazyParameterShouldHaveTypeArgumentAsType() {
+		ActionFactory actionFactory = new DefaultActionFactory(LazyAction.class);
+		actionFactory.initialise(new TestConfiguration(new ConfigurationParameters()));
+
+		List<ActionParameterInformation> parameterInformation =
+			actionFactory.getInformation().getParameterInformation();
+		assert parameterInformation.size() == 2;
+		assert parameterInformation.get(0).getType() == Integer.class;
+		assert parameterInformation.get(1).getType() == String.class;
+	}
+
+	public void lazyParameterShouldNotBeEvaluatedWhenActionIsCreated() {
+		ActionFactory actionFactory = new DefaultActionFactory(LazyAction.class);
+		actionFactory.initialise(new TestConfiguration(new ConfigurationParameters()));
+
+		final List<Type> requestedTypes = new ArrayList<Type>();
+
+		ActionParameter count = new ActionParameter() {
+			public String getText() {
+				return "count";
+			}
+
+			public Object getValue(Type type, Context context) {
+				requestedTypes.add(type);
+
+				return 3;
+			}
+		};
+
+		LazyAction action = (LazyAction) actionFactory.create(
+			Collections.<String, ActionParameter>singletonMap("count", count), new DefaultContext());
+		assert requestedTypes.isEmpty();
+
+		LazyParameter<Integer> lazyCount = action.getCount();
+		assert lazyCount.getParameter() == count;
+		assert lazyCount.getValue() == 3;
+		assert requestedTypes.equals(Collections.singletonList(Integer.class));
+	}
 }
\ No newline at end of file
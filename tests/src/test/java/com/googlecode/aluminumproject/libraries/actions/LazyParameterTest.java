@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.libraries.actions;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.context.DefaultContext;
+
+import java.lang.reflect.Type;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"core", "fast"})
+public class LazyParameterTest {
+	private int evaluationCount;
+
+	private LazyParameter<String> lazyParameter;
+
+	@BeforeMethod
+	public void createLazyParameter() {
+		evaluationCount = 0;
+
+		lazyParameter = new LazyParameter<String>(new ActionParameter() {
+			public String getText() {
+				return "text";
+			}
+
+			public Object getValue(Type type, Context context) throws AluminumException {
+				evaluationCount++;
+
+				if (type == String.class) {
+					return "value";
+				} else {
+					throw new AluminumException("unexpected type: ", type);
+				}
+			}
+		}, String.class, new DefaultContext());
+	}
+
+	public void newLazyParameterShouldNotBeEvaluated() {
+		assert !lazyParameter.isEvaluated();
+		assert evaluationCount == 0;
+	}
+
+	public void requestingValueShouldEvaluateParameter() {
+		assert lazyParameter.getValue().equals("value");
+		assert lazyParameter.isEvaluated();
+		assert evaluationCount == 1;
+	}
+
+	@Test(dependsOnMethods = "requestingValueShouldEvaluateParameter")
+	public void requestingValueAgainShouldNotEvaluateParameterAgain() {
+		String value = lazyParameter.getValue();
+
+		assert lazyParameter.getValue() == value;
+		assert evaluationCount == 1;
+	}
+}
\ No newline at end of file
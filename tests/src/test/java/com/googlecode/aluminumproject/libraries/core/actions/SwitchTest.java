@@ -20,6 +20,8 @@ import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.context.DefaultContext;
 import com.googlecode.aluminumproject.libraries.core.CoreLibraryTest;
 
+import java.util.Arrays;
+
 import org.testng.annotations.Test;
 
 @SuppressWarnings("javadoc")
@@ -39,6 +41,28 @@ public class SwitchTest extends CoreLibraryTest {
 		assert processTemplate("switch-with-default-option", context).equals("other number");
 	}
 
+	public void conditionsOfOptionsAfterMatchingOptionShouldNotBeEvaluated() {
+		Context context = new DefaultContext();
+		context.setVariable("value", 5);
+
+		assert processTemplate("switch-with-condition-after-matching-option", context).equals("five");
+	}
+
+	public void reusedSwitchShouldBeReset() {
+		Context context = new DefaultContext();
+		context.setVariable("numbers", Arrays.asList(4, 5, 3));
+
+		assert processTemplate("switch-in-loop", context).equals("fourfiveother number");
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void evaluatingInvalidConditionShouldCauseException() {
+		Context context = new DefaultContext();
+		context.setVariable("value", 6);
+
+		processTemplate("switch-with-condition-after-matching-option", context);
+	}
+
 	@Test(expectedExceptions = AluminumException.class)
 	public void multipleDefaultOptionsShouldCauseException() {
 		processTemplate("switch-with-multiple-default-options");
@@ -20,8 +20,11 @@ import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
 import com.googlecode.aluminumproject.configuration.TestConfiguration;
 import com.googlecode.aluminumproject.context.Context;
 import com.googlecode.aluminumproject.context.DefaultContext;
+import com.googlecode.aluminumproject.converters.ConverterRegistry;
+import com.googlecode.aluminumproject.converters.DefaultConverterRegistry;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -32,12 +35,14 @@ import org.testng.annotations.Test;
 @SuppressWarnings("javadoc")
 @Test(groups = {"core", "fast"})
 public class StaticMethodInvokingFunctionFactoryTest {
+	private TestConfiguration configuration;
+
 	private FunctionFactory unannotatedFunctionFactory;
 	private FunctionFactory annotatedFunctionFactory;
 
 	@BeforeMethod
 	public void createFunctionFactories() throws NoSuchMethodException {
-		TestConfiguration configuration = new TestConfiguration(new ConfigurationParameters());
+		configuration = new TestConfiguration(new ConfigurationParameters());
 
 		unannotatedFunctionFactory =
 			new StaticMethodInvokingFunctionFactory(TestFunctions.class.getMethod("max", Integer.TYPE, Integer.TYPE));
@@ -148,4 +153,70 @@ public class StaticMethodInvokingFunctionFactoryTest {
 		assert min != null;
 		assert min instanceof StaticMethodInvokingFunction;
 	}
+
+	public void constantArgumentsShouldBeConverted() {
+		ConverterRegistry converterRegistry = new DefaultConverterRegistry();
+		converterRegistry.initialise(configuration);
+		Context context = new DefaultContext();
+
+		List<FunctionArgument> functionArguments = Arrays.<FunctionArgument>asList(
+			new ConstantFunctionArgument("3", converterRegistry), new ConstantFunctionArgument(5, converterRegistry));
+
+		Object result = annotatedFunctionFactory.create(functionArguments, context).call(context);
+		assert result instanceof Integer;
+		assert ((Integer) result).intValue() == 3;
+	}
+
+	public void constantArgumentsOfChangingTypesShouldBeConverted() {
+		ConverterRegistry converterRegistry = new DefaultConverterRegistry();
+		converterRegistry.initialise(configuration);
+		Context context = new DefaultContext();
+
+		for (Object value: new Object[] {"7", 7L, "7", 7.0}) {
+			List<FunctionArgument> functionArguments = Arrays.<FunctionArgument>asList(
+				new ConstantFunctionArgument(value, converterRegistry),
+				new ConstantFunctionArgument(4, converterRegistry));
+
+			Object result = unannotatedFunctionFactory.create(functionArguments, context).call(context);
+			assert result instanceof Integer;
+			assert ((Integer) result).intValue() == 7;
+		}
+	}
+
+	public void nonConstantArgumentsShouldBeAskedForWrappedParameterTypes() {
+		final List<Type> types = new ArrayList<Type>();
+
+		FunctionArgument argument = new FunctionArgument() {
+			public Object getValue(Type type, Context context) {
+				types.add(type);
+
+				return 1;
+			}
+		};
+
+		DefaultContext context = new DefaultContext();
+
+		annotatedFunctionFactory.create(Arrays.asList(argument, argument), context).call(context);
+		assert types.equals(Arrays.asList(Integer.class, Integer.class));
+	}
+
+	public void invocableFunctionShouldConvertArguments() {
+		ConverterRegistry converterRegistry = new DefaultConverterRegistry();
+		converterRegistry.initialise(configuration);
+		configuration.setConverterRegistry(converterRegistry);
+
+		InvocableFunction min = ((InvocableFunctionFactory) annotatedFunctionFactory).createInvocableFunction();
+
+		for (int i = 0; i < 2; i++) {
+			Object result = min.invoke(new Object[] {"3", 5}, new DefaultContext());
+			assert result instanceof Integer;
+			assert ((Integer) result).intValue() == 3;
+		}
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void invokingInvocableFunctionWithTooFewArgumentsShouldCauseException() {
+		((InvocableFunctionFactory) annotatedFunctionFactory).createInvocableFunction().invoke(
+			new Object[] {1}, new DefaultContext());
+	}
 }
\ No newline at end of file
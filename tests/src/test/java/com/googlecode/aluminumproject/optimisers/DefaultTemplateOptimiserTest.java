@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.optimisers;
+
+import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.TEMPLATE_OPTIMISER_CLASS;
+
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.DefaultConfiguration;
+import com.googlecode.aluminumproject.context.DefaultContext;
+import com.googlecode.aluminumproject.expressions.ExpressionFactory;
+import com.googlecode.aluminumproject.expressions.el.ElExpressionFactory;
+import com.googlecode.aluminumproject.templates.AbstractTemplateElement;
+import com.googlecode.aluminumproject.templates.DefaultExpressionElement;
+import com.googlecode.aluminumproject.templates.ExpressionElement;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.templates.TemplateBuilder;
+import com.googlecode.aluminumproject.templates.TemplateElement;
+import com.googlecode.aluminumproject.templates.TemplateElementFactory;
+import com.googlecode.aluminumproject.templates.TextElement;
+import com.googlecode.aluminumproject.writers.StringWriter;
+import com.googlecode.aluminumproject.writers.TextWriter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"core", "slow"})
+public class DefaultTemplateOptimiserTest {
+	private Configuration configuration;
+
+	private TemplateElementFactory templateElementFactory;
+	private ExpressionFactory expressionFactory;
+
+	private Map<String, String> libraryUrlAbbreviations;
+
+	@BeforeMethod
+	public void createConfiguration() {
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(TEMPLATE_OPTIMISER_CLASS, DefaultTemplateOptimiser.class.getName());
+
+		configuration = new DefaultConfiguration(parameters);
+
+		templateElementFactory = configuration.getTemplateElementFactory();
+
+		for (ExpressionFactory expressionFactory: configuration.getExpressionFactories()) {
+			if (expressionFactory instanceof ElExpressionFactory) {
+				this.expressionFactory = expressionFactory;
+			}
+		}
+
+		libraryUrlAbbreviations = Collections.emptyMap();
+	}
+
+	@AfterMethod
+	public void closeConfiguration() {
+		configuration.close();
+	}
+
+	public void templateThatCanNotBeOptimisedShouldBeReturnedUnchanged() {
+		Template template = buildTemplate(templateElementFactory.createTextElement("text", libraryUrlAbbreviations, 1));
+
+		assert configuration.getTemplateOptimiser().optimise(template) == template;
+	}
+
+	public void adjacentTextElementsShouldBeMerged() {
+		List<TemplateElement> children = optimise(
+			templateElementFactory.createTextElement("a", libraryUrlAbbreviations, 1),
+			templateElementFactory.createTextElement("b", libraryUrlAbbreviations, 2));
+		assert children.size() == 1;
+
+		TemplateElement child = children.get(0);
+		assert child instanceof TextElement;
+		assert ((TextElement) child).getText().equals("ab");
+		assert child.getLineNumber() == 1;
+	}
+
+	public void constantExpressionThatEvaluatesToStringShouldBeReplacedByText() {
+		List<TemplateElement> children = optimise(
+			templateElementFactory.createTextElement("a", libraryUrlAbbreviations, 1),
+			templateElementFactory.createExpressionElement(expressionFactory, "${'b'}", libraryUrlAbbreviations, 1));
+		assert children.size() == 1;
+
+		TemplateElement child = children.get(0);
+		assert child instanceof TextElement;
+		assert ((TextElement) child).getText().equals("ab");
+	}
+
+	public void constantExpressionThatEvaluatesToNumberShouldBeFolded() {
+		List<TemplateElement> children = optimise(
+			templateElementFactory.createExpressionElement(expressionFactory, "${1 + 2}", libraryUrlAbbreviations, 1));
+		assert children.size() == 1;
+
+		TemplateElement child = children.get(0);
+		assert child instanceof ExpressionElement;
+		assert !(child instanceof DefaultExpressionElement);
+		assert ((ExpressionElement) child).getText().equals("${1 + 2}");
+
+		StringWriter stringWriter = new StringWriter();
+		child.process(new DefaultContext(), new TextWriter(stringWriter, true));
+		assert stringWriter.getString().equals("3");
+	}
+
+	public void expressionThatIsNotConstantShouldNotBeFolded() {
+		TemplateElement expressionElement =
+			templateElementFactory.createExpressionElement(expressionFactory, "${x}", libraryUrlAbbreviations, 1);
+
+		Template template = buildTemplate(expressionElement);
+
+		assert configuration.getTemplateOptimiser().optimise(template) == template;
+	}
+
+	public void optimisedTemplateShouldContainUnchangedTemplateElements() {
+		TemplateElement expressionElement =
+			templateElementFactory.createExpressionElement(expressionFactory, "${x}", libraryUrlAbbreviations, 2);
+
+		Template template = buildTemplate(templateElementFactory.createTextElement("a", libraryUrlAbbreviations, 1),
+			templateElementFactory.createTextElement("b", libraryUrlAbbreviations, 1), expressionElement);
+
+		Template optimisedTemplate = configuration.getTemplateOptimiser().optimise(template);
+		assert optimisedTemplate != template;
+		assert optimisedTemplate.getName().equals(template.getName());
+		assert optimisedTemplate.contains(expressionElement);
+		assert optimisedTemplate.getParent(expressionElement) == null;
+		assert ((AbstractTemplateElement) expressionElement).getTemplate() == optimisedTemplate;
+	}
+
+	private List<TemplateElement> optimise(TemplateElement... templateElements) {
+		return configuration.getTemplateOptimiser().optimise(buildTemplate(templateElements)).getChildren(null);
+	}
+
+	private Template buildTemplate(TemplateElement... templateElements) {
+		TemplateBuilder templateBuilder = new TemplateBuilder("test");
+
+		for (TemplateElement templateElement: templateElements) {
+			templateBuilder.addTemplateElement(templateElement);
+			templateBuilder.restoreCurrentTemplateElement();
+		}
+
+		return templateBuilder.build();
+	}
+}
\ No newline at end of file
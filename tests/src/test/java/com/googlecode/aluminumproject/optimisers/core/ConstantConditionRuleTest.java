@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.optimisers.core;
+
+import static com.googlecode.aluminumproject.configuration.DefaultConfiguration.TEMPLATE_OPTIMISER_CLASS;
+
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.DefaultConfiguration;
+import com.googlecode.aluminumproject.libraries.actions.ActionParameter;
+import com.googlecode.aluminumproject.libraries.actions.ConstantActionParameter;
+import com.googlecode.aluminumproject.libraries.actions.ExpressionActionParameter;
+import com.googlecode.aluminumproject.libraries.core.CoreLibrary;
+import com.googlecode.aluminumproject.optimisers.DefaultTemplateOptimiser;
+import com.googlecode.aluminumproject.templates.ActionContributionDescriptor;
+import com.googlecode.aluminumproject.templates.ActionDescriptor;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.templates.TemplateBuilder;
+import com.googlecode.aluminumproject.templates.TemplateElement;
+import com.googlecode.aluminumproject.templates.TemplateElementFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"libraries", "libraries-core", "slow"})
+public class ConstantConditionRuleTest {
+	private Configuration configuration;
+
+	private TemplateElementFactory templateElementFactory;
+
+	private Map<String, String> libraryUrlAbbreviations;
+
+	private TemplateElement body;
+
+	@BeforeMethod
+	public void createConfiguration() {
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(TEMPLATE_OPTIMISER_CLASS, DefaultTemplateOptimiser.class.getName());
+
+		configuration = new DefaultConfiguration(parameters);
+
+		templateElementFactory = configuration.getTemplateElementFactory();
+
+		libraryUrlAbbreviations = Collections.singletonMap("c", CoreLibrary.URL);
+
+		body = templateElementFactory.createTextElement("body", libraryUrlAbbreviations, 1);
+	}
+
+	@AfterMethod
+	public void closeConfiguration() {
+		configuration.close();
+	}
+
+	public void ifActionWithConditionThatIsMetShouldBeReplacedByBody() {
+		List<TemplateElement> children = optimise(createConditionalAction("if", createConstantCondition("true")));
+		assert children.size() == 1;
+		assert children.get(0) == body;
+	}
+
+	public void ifActionWithConditionThatIsNotMetShouldBeRemoved() {
+		assert optimise(createConditionalAction("if", createConstantCondition("false"))).isEmpty();
+	}
+
+	public void unlessActionWithConditionThatIsMetShouldBeRemoved() {
+		assert optimise(createConditionalAction("unless", createConstantCondition("true"))).isEmpty();
+	}
+
+	public void ifContributionWithConditionThatIsNotMetShouldRemoveAction() {
+		TemplateElement action = templateElementFactory.createActionElement(new ActionDescriptor("c", "block"),
+			Collections.<String, ActionParameter>singletonMap("name", createConstantCondition("block")),
+			Collections.singletonList(new ActionContributionDescriptor("c", "if", createConstantCondition("false"))),
+			libraryUrlAbbreviations, 1);
+
+		assert optimise(action).isEmpty();
+	}
+
+	public void ifActionWithExpressionAsConditionShouldBeKept() {
+		ActionParameter condition = new ExpressionActionParameter(configuration.getExpressionFactories().get(0),
+			"${true}", libraryUrlAbbreviations, configuration.getConverterRegistry());
+
+		TemplateElement action = createConditionalAction("if", condition);
+
+		List<TemplateElement> children = optimise(action);
+		assert children.size() == 1;
+		assert children.get(0) == action;
+	}
+
+	private ActionParameter createConstantCondition(String text) {
+		return new ConstantActionParameter(text, configuration.getConverterRegistry());
+	}
+
+	private TemplateElement createConditionalAction(String name, ActionParameter condition) {
+		return templateElementFactory.createActionElement(new ActionDescriptor("c", name),
+			Collections.singletonMap("condition", condition),
+			Collections.<ActionContributionDescriptor>emptyList(), libraryUrlAbbreviations, 1);
+	}
+
+	private List<TemplateElement> optimise(TemplateElement action) {
+		TemplateBuilder templateBuilder = new TemplateBuilder("test");
+		templateBuilder.addTemplateElement(action);
+		templateBuilder.addTemplateElement(body);
+		templateBuilder.restoreCurrentTemplateElement();
+		templateBuilder.restoreCurrentTemplateElement();
+
+		Template template = configuration.getTemplateOptimiser().optimise(templateBuilder.build());
+
+		return template.getChildren(null);
+	}
+}
\ No newline at end of file
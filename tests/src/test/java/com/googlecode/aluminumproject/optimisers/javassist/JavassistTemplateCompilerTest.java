@@ -0,0 +1,178 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.optimisers.javassist;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.DefaultConfiguration;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.context.DefaultContext;
+import com.googlecode.aluminumproject.finders.ClassPathTemplateFinder;
+import com.googlecode.aluminumproject.optimisers.DefaultTemplateOptimiser;
+import com.googlecode.aluminumproject.parsers.xml.XmlParser;
+import com.googlecode.aluminumproject.templates.AbstractTemplateElement;
+import com.googlecode.aluminumproject.templates.CompiledTemplate;
+import com.googlecode.aluminumproject.templates.Template;
+import com.googlecode.aluminumproject.templates.TemplateBuilder;
+import com.googlecode.aluminumproject.templates.TemplateElement;
+import com.googlecode.aluminumproject.templates.TemplateElementFactory;
+import com.googlecode.aluminumproject.templates.TemplateProcessor;
+import com.googlecode.aluminumproject.utilities.TemplateUtilities;
+import com.googlecode.aluminumproject.writers.StringWriter;
+import com.googlecode.aluminumproject.writers.TextWriter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"optimisers", "optimisers-javassist", "slow"})
+public class JavassistTemplateCompilerTest {
+	private Configuration configuration;
+
+	@BeforeMethod
+	public void createConfiguration() {
+		configuration = createConfiguration(JavassistTemplateCompiler.class.getName());
+	}
+
+	private Configuration createConfiguration(String templateOptimiserClassName) {
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(DefaultConfiguration.TEMPLATE_OPTIMISER_CLASS, templateOptimiserClassName);
+		parameters.addParameter(ClassPathTemplateFinder.TEMPLATE_PATH, "templates/javassist");
+		parameters.addParameter(XmlParser.TEMPLATE_EXTENSION, "xml");
+
+		return new DefaultConfiguration(parameters);
+	}
+
+	@AfterMethod
+	public void closeConfiguration() {
+		configuration.close();
+	}
+
+	public void optimisedTemplateShouldBeCompiled() {
+		Map<String, String> libraryUrlAbbreviations = Collections.emptyMap();
+
+		TemplateElementFactory templateElementFactory = configuration.getTemplateElementFactory();
+		TemplateElement textElement = templateElementFactory.createTextElement("text", libraryUrlAbbreviations, 1);
+
+		TemplateBuilder templateBuilder = new TemplateBuilder("test");
+		templateBuilder.addTemplateElement(textElement);
+		templateBuilder.restoreCurrentTemplateElement();
+
+		Template template = configuration.getTemplateOptimiser().optimise(templateBuilder.build());
+		assert template instanceof CompiledTemplate;
+		assert template.getName().equals("test");
+		assert template.getChildren(null).equals(Collections.singletonList(textElement));
+		assert ((AbstractTemplateElement) textElement).getTemplate() == template;
+
+		StringWriter stringWriter = new StringWriter();
+		TemplateUtilities.processChildren(template, null, new DefaultContext(), new TextWriter(stringWriter, true));
+		assert stringWriter.getString().equals("text");
+	}
+
+	public void templateWithManyTemplateElementsShouldBeCompiled() {
+		Map<String, String> libraryUrlAbbreviations = Collections.emptyMap();
+
+		TemplateElementFactory templateElementFactory = configuration.getTemplateElementFactory();
+
+		TemplateBuilder templateBuilder = new TemplateBuilder("test");
+		List<TemplateElement> parents = new ArrayList<TemplateElement>();
+
+		StringBuilder expectedText = new StringBuilder();
+
+		for (int i = 0; i < 1200; i++) {
+			TemplateElement parent =
+				templateElementFactory.createTextElement(String.valueOf(i), libraryUrlAbbreviations, i + 1);
+			parents.add(parent);
+
+			templateBuilder.addTemplateElement(parent);
+			templateBuilder.addTemplateElement(
+				templateElementFactory.createTextElement("child " + i, libraryUrlAbbreviations, i + 1));
+			templateBuilder.restoreCurrentTemplateElement();
+			templateBuilder.restoreCurrentTemplateElement();
+
+			expectedText.append(i);
+		}
+
+		Template template = configuration.getTemplateOptimiser().optimise(templateBuilder.build());
+		assert template instanceof CompiledTemplate;
+
+		StringWriter stringWriter = new StringWriter();
+		TemplateUtilities.processChildren(template, null, new DefaultContext(), new TextWriter(stringWriter, true));
+		assert stringWriter.getString().equals(expectedText.toString());
+
+		stringWriter = new StringWriter();
+		TemplateUtilities.processChildren(
+			template, parents.get(1100), new DefaultContext(), new TextWriter(stringWriter, true));
+		assert stringWriter.getString().equals("child 1100");
+	}
+
+	public void templateWithActionsShouldBeCompiled() {
+		Template template = configuration.getParsers().get("xml").parseTemplate("compiled");
+
+		assert configuration.getTemplateOptimiser().optimise(template) instanceof CompiledTemplate;
+	}
+
+	public void compiledTemplateShouldProcessTextExpressionsAndActions() {
+		Context context = new DefaultContext();
+		context.setVariable("name", "world");
+		context.setVariable("numbers", Arrays.asList(1, 2, 3));
+
+		assert processTemplate(configuration, "compiled", context).equals("Hello, world! 2 3");
+	}
+
+	public void exceptionsInCompiledTemplateShouldHaveSameOriginAsInInterpretedTemplate() {
+		Configuration interpretingConfiguration = createConfiguration(DefaultTemplateOptimiser.class.getName());
+
+		try {
+			String compiledOrigin = getOrigin(configuration, "compiled-with-invalid-expression");
+			String interpretedOrigin = getOrigin(interpretingConfiguration, "compiled-with-invalid-expression");
+
+			assert compiledOrigin != null;
+			assert compiledOrigin.equals(interpretedOrigin);
+		} finally {
+			interpretingConfiguration.close();
+		}
+	}
+
+	private String getOrigin(Configuration configuration, String templateName) {
+		String origin = null;
+
+		try {
+			processTemplate(configuration, templateName, new DefaultContext());
+		} catch (AluminumException exception) {
+			origin = exception.getOrigin();
+		}
+
+		return origin;
+	}
+
+	private String processTemplate(Configuration configuration, String templateName, Context context) {
+		StringWriter stringWriter = new StringWriter();
+
+		new TemplateProcessor(configuration).processTemplate(
+			templateName, "xml", context, new TextWriter(stringWriter, true));
+
+		return stringWriter.getString();
+	}
+}
\ No newline at end of file
@@ -17,6 +17,7 @@ package com.googlecode.aluminumproject.parsers;
 
 import com.googlecode.aluminumproject.annotations.Ignored;
 import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.finders.TemplateFinder;
 import com.googlecode.aluminumproject.templates.Template;
 
 /**
@@ -36,4 +37,8 @@ public class IgnoredParser implements Parser {
 	public Template parseTemplate(String name) {
 		return null;
 	}
+
+	public long getTemplateVersion(String name) {
+		return TemplateFinder.UNKNOWN_VERSION;
+	}
 }
\ No newline at end of file
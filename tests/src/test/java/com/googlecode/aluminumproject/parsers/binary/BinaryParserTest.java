@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.parsers.binary;
+
+import static com.googlecode.aluminumproject.templates.TemplateAssertions.assertEqualTemplates;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.DefaultConfiguration;
+import com.googlecode.aluminumproject.finders.ClassPathTemplateFinder;
+import com.googlecode.aluminumproject.finders.InMemoryTemplateStoreFinder;
+import com.googlecode.aluminumproject.parsers.Parser;
+import com.googlecode.aluminumproject.templates.Template;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"parsers", "parsers-binary", "slow"})
+public class BinaryParserTest {
+	private Configuration configuration;
+
+	@BeforeMethod
+	public void createConfiguration() {
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(ClassPathTemplateFinder.TEMPLATE_PATH, "templates");
+		parameters.addParameter(DefaultConfiguration.TEMPLATE_FINDER_CLASS, StoredTemplateFinder.class.getName());
+		parameters.addParameter(BinaryParser.TEMPLATE_EXTENSION, "bin");
+
+		configuration = new DefaultConfiguration(parameters);
+	}
+
+	@AfterMethod
+	public void closeConfiguration() {
+		configuration.close();
+	}
+
+	public void binaryParserShouldBeRegistered() {
+		assert configuration.getParsers().get("binary") instanceof BinaryParser;
+	}
+
+	public void xmlTemplatesShouldSurviveRoundTrip() {
+		assertRoundTrip("xml", "test.xml");
+		assertRoundTrip("xml", "core/if.xml");
+		assertRoundTrip("xml", "core/each-with-stored-information.xml");
+		assertRoundTrip("xml", "core/block-include-local.xml");
+	}
+
+	public void aluScriptTemplatesShouldSurviveRoundTrip() {
+		assertRoundTrip("aluscript", "test.alu");
+		assertRoundTrip("aluscript", "text.alu");
+	}
+
+	private void assertRoundTrip(String parserName, String name) {
+		Template template = configuration.getParsers().get(parserName).parseTemplate(name);
+
+		configuration.getSerialisers().get("binary").serialiseTemplate(template, name + ".bin");
+
+		Parser binaryParser = configuration.getParsers().get("binary");
+		assert binaryParser.getTemplateVersion(name) == configuration.getTemplateFinder().getVersion(name + ".bin");
+
+		Template readTemplate = binaryParser.parseTemplate(name);
+		assert readTemplate.getName().equals(name);
+
+		assertEqualTemplates(template, readTemplate);
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void parsingTemplateInOtherFormatShouldCauseException() {
+		configuration.getParsers().get("binary").parseTemplate("test.alu");
+	}
+
+	public static class StoredTemplateFinder extends ClassPathTemplateFinder {
+		private Configuration configuration;
+
+		@Override
+		public void initialise(Configuration configuration) throws AluminumException {
+			super.initialise(configuration);
+
+			this.configuration = configuration;
+		}
+
+		@Override
+		public InputStream find(String name) throws AluminumException {
+			byte[] template = getStoredTemplate(name);
+
+			return (template == null) ? super.find(name) : new ByteArrayInputStream(template);
+		}
+
+		@Override
+		public long getVersion(String name) throws AluminumException {
+			return (getStoredTemplate(name) == null) ? super.getVersion(name) : UNKNOWN_VERSION;
+		}
+
+		private byte[] getStoredTemplate(String name) {
+			return ((InMemoryTemplateStoreFinder) configuration.getTemplateStoreFinder()).get(name);
+		}
+	}
+}
\ No newline at end of file
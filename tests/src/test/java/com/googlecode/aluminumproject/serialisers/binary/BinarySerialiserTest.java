@@ -0,0 +1,71 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.serialisers.binary;
+
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.DefaultConfiguration;
+import com.googlecode.aluminumproject.finders.InMemoryTemplateStoreFinder;
+import com.googlecode.aluminumproject.templates.TemplateBuilder;
+import com.googlecode.aluminumproject.utilities.BinaryTemplateUtilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"serialisers", "serialisers-binary", "fast"})
+public class BinarySerialiserTest {
+	private Configuration configuration;
+
+	@BeforeMethod
+	public void createConfiguration() {
+		configuration = new DefaultConfiguration(new ConfigurationParameters());
+	}
+
+	@AfterMethod
+	public void closeConfiguration() {
+		configuration.close();
+	}
+
+	public void binarySerialiserShouldBeRegistered() {
+		assert configuration.getSerialisers().get("binary") instanceof BinarySerialiser;
+	}
+
+	public void serialisedTemplateShouldStartWithMagicNumberAndFormatVersion() throws IOException {
+		TemplateBuilder templateBuilder = new TemplateBuilder("test");
+
+		Map<String, String> libraryUrlAbbreviations = Collections.emptyMap();
+		templateBuilder.addTemplateElement(
+			configuration.getTemplateElementFactory().createTextElement("text", libraryUrlAbbreviations, 1));
+		templateBuilder.restoreCurrentTemplateElement();
+
+		configuration.getSerialisers().get("binary").serialiseTemplate(templateBuilder.build(), "test");
+
+		byte[] template = ((InMemoryTemplateStoreFinder) configuration.getTemplateStoreFinder()).get("test");
+		assert template != null;
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(template));
+		assert in.readInt() == BinaryTemplateUtilities.MAGIC_NUMBER;
+		assert in.readInt() == BinaryTemplateUtilities.FORMAT_VERSION;
+	}
+}
\ No newline at end of file
@@ -170,7 +170,7 @@ public class XmlSerialiserTest {
 		ActionDescriptor actionDescriptor = new ActionDescriptor("test", "test");
 		Map<String, ActionParameter> parameters = Collections.emptyMap();
 		List<ActionContributionDescriptor> contributions = Arrays.asList(new ActionContributionDescriptor("c", "if",
-			new ExpressionActionParameter(getExpressionFactory(), "[proceed]", configuration.getConverterRegistry())));
+			createExpressionParameter("[proceed]")));
 
 		Map<String, String> libraryUrlAbbreviations = new LinkedHashMap<String, String>();
 		libraryUrlAbbreviations.put("c", "http://aluminumproject.googlecode.com/core");
@@ -214,7 +214,7 @@ public class XmlSerialiserTest {
 
 		List<ActionContributionDescriptor> contributions = new LinkedList<ActionContributionDescriptor>();
 		contributions.add(new ActionContributionDescriptor("C", "if",
-			new ExpressionActionParameter(getExpressionFactory(), "[proceed]", configuration.getConverterRegistry())));
+			createExpressionParameter("[proceed]")));
 
 		Map<String, String> libraryUrlAbbreviations = new LinkedHashMap<String, String>();
 		libraryUrlAbbreviations.put("C", "http://aluminumproject.googlecode.com/core");
@@ -291,6 +291,11 @@ public class XmlSerialiserTest {
 		return configuration.getExpressionFactories().get(0);
 	}
 
+	private ActionParameter createExpressionParameter(String text) {
+		return new ExpressionActionParameter(getExpressionFactory(),
+			text, Collections.<String, String>emptyMap(), configuration.getConverterRegistry());
+	}
+
 	private String getTemplateText() {
 		configuration.getSerialisers().get("xml").serialiseTemplate(templateBuilder.build(), "template");
 
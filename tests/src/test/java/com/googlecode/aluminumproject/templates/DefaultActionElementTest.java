@@ -0,0 +1,173 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.templates;
+
+import com.googlecode.aluminumproject.annotations.Reusable;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.TestConfiguration;
+import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.context.DefaultContext;
+import com.googlecode.aluminumproject.interceptors.ActionInterceptor;
+import com.googlecode.aluminumproject.interceptors.TestActionInterceptor;
+import com.googlecode.aluminumproject.libraries.actions.AbstractAction;
+import com.googlecode.aluminumproject.libraries.actions.Action;
+import com.googlecode.aluminumproject.libraries.actions.ActionContributionFactory;
+import com.googlecode.aluminumproject.libraries.actions.ActionFactory;
+import com.googlecode.aluminumproject.libraries.actions.ActionParameter;
+import com.googlecode.aluminumproject.libraries.actions.DefaultActionFactory;
+import com.googlecode.aluminumproject.libraries.actions.TestAction;
+import com.googlecode.aluminumproject.libraries.actions.TestActionFactory;
+import com.googlecode.aluminumproject.writers.ListWriter;
+import com.googlecode.aluminumproject.writers.StringWriter;
+import com.googlecode.aluminumproject.writers.Writer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"core", "fast"})
+public class DefaultActionElementTest {
+	private TestConfiguration configuration;
+
+	private Context context;
+	private StringWriter writer;
+
+	private Action parent;
+	private Action executedAction;
+	private Action currentActionDuringExecution;
+
+	@BeforeMethod
+	public void createConfigurationAndContext() {
+		configuration = new TestConfiguration(new ConfigurationParameters());
+
+		context = new DefaultContext();
+		writer = new StringWriter();
+
+		parent = new TestAction();
+		TemplateInformation.from(context).addAction(parent);
+
+		executedAction = null;
+		currentActionDuringExecution = null;
+	}
+
+	private DefaultActionElement createActionElement(List<ActionInterceptor> actionInterceptors) {
+		ActionFactory actionFactory = new TestActionFactory() {
+			@Override
+			public Action create(Map<String, ActionParameter> parameters, Context context) {
+				return new TestAction() {
+					@Override
+					public void execute(Context context, Writer writer) {
+						executedAction = this;
+						currentActionDuringExecution = TemplateInformation.from(context).getCurrentAction();
+					}
+				};
+			}
+		};
+
+		return createActionElement(actionFactory, actionInterceptors);
+	}
+
+	private DefaultActionElement createActionElement(
+			ActionFactory actionFactory, List<ActionInterceptor> actionInterceptors) {
+		return new DefaultActionElement(configuration, new ActionDescriptor("test", "test"), actionFactory,
+			Collections.<String, ActionParameter>emptyMap(),
+			Collections.<ActionContributionDescriptor, ActionContributionFactory>emptyMap(),
+			actionInterceptors, Collections.<String, String>emptyMap(), 1);
+	}
+
+	public void actionWithoutInterceptorsShouldBeExecuted() {
+		createActionElement(Collections.<ActionInterceptor>emptyList()).process(context, writer);
+
+		assert executedAction != null;
+		assert executedAction.getParent() == parent;
+		assert currentActionDuringExecution == executedAction;
+
+		assert TemplateInformation.from(context).getCurrentAction() == parent;
+		assert writer.getString().equals("");
+	}
+
+	public void actionWithInterceptorsShouldBeIntercepted() {
+		List<ActionInterceptor> actionInterceptors =
+			Collections.<ActionInterceptor>singletonList(new TestActionInterceptor(ActionPhase.EXECUTION));
+
+		createActionElement(actionInterceptors).process(context, writer);
+
+		assert executedAction != null;
+		assert executedAction.getParent() == parent;
+		assert currentActionDuringExecution == executedAction;
+
+		assert TemplateInformation.from(context).getCurrentAction() == parent;
+		assert writer.getString().equals("intercepted action 'test' during execution");
+	}
+
+	@Reusable
+	public static class ReusableAction extends AbstractAction {
+		public void execute(Context context, Writer writer) {
+			writer.write(this);
+		}
+	}
+
+	private DefaultActionElement createReusableActionElement(List<ActionInterceptor> actionInterceptors) {
+		DefaultActionFactory actionFactory = new DefaultActionFactory(ReusableAction.class);
+		actionFactory.initialise(configuration);
+
+		return createActionElement(actionFactory, actionInterceptors);
+	}
+
+	public void reusableActionShouldBeReusedByActionElement() {
+		DefaultActionElement actionElement = createReusableActionElement(Collections.<ActionInterceptor>emptyList());
+
+		ListWriter writer = new ListWriter(true);
+		actionElement.process(context, writer);
+		actionElement.process(context, writer);
+
+		List<?> actions = writer.getList();
+		assert actions.size() == 2;
+		assert actions.get(0) == actions.get(1);
+		assert ((Action) actions.get(1)).getParent() == parent;
+	}
+
+	public void reusableActionShouldNotBeReusedInOtherContext() {
+		DefaultActionElement actionElement = createReusableActionElement(Collections.<ActionInterceptor>emptyList());
+
+		ListWriter writer = new ListWriter(true);
+		actionElement.process(context, writer);
+		actionElement.process(new DefaultContext(), writer);
+
+		List<?> actions = writer.getList();
+		assert actions.size() == 2;
+		assert actions.get(0) != actions.get(1);
+	}
+
+	public void reusableActionShouldNotBeReusedWhenIntercepted() {
+		List<ActionInterceptor> actionInterceptors =
+			Collections.<ActionInterceptor>singletonList(new TestActionInterceptor(ActionPhase.CONTRIBUTION));
+
+		DefaultActionElement actionElement = createReusableActionElement(actionInterceptors);
+
+		ListWriter writer = new ListWriter(true);
+		actionElement.process(context, writer);
+		actionElement.process(context, writer);
+
+		List<?> objects = writer.getList();
+		assert objects.size() == 4;
+		assert objects.get(1) != objects.get(3);
+	}
+}
\ No newline at end of file
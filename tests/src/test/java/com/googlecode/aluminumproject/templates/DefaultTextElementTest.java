@@ -0,0 +1,69 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.templates;
+
+import com.googlecode.aluminumproject.context.DefaultContext;
+import com.googlecode.aluminumproject.writers.OutputStreamWriter;
+import com.googlecode.aluminumproject.writers.StringWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"core", "fast"})
+public class DefaultTextElementTest {
+	private DefaultTextElement textElement;
+
+	@BeforeMethod
+	public void createTextElement() {
+		textElement = new DefaultTextElement("caf\u00e9", Collections.<String, String>emptyMap(), 1);
+	}
+
+	public void encodedTextShouldBeRemembered() {
+		Charset charset = Charset.forName("UTF-8");
+
+		byte[] bytes = textElement.getBytes(charset);
+		assert bytes.length == 5;
+		assert textElement.getBytes(charset) == bytes;
+
+		byte[] otherBytes = textElement.getBytes(Charset.forName("ISO-8859-1"));
+		assert otherBytes.length == 4;
+		assert textElement.getBytes(charset) == bytes;
+	}
+
+	@Test(dependsOnMethods = "encodedTextShouldBeRemembered")
+	public void textShouldBeWrittenAsBytesToByteWriter() {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		OutputStreamWriter writer = new OutputStreamWriter(outputStream);
+		textElement.process(new DefaultContext(), writer);
+		writer.flush();
+
+		assert Arrays.equals(outputStream.toByteArray(), textElement.getBytes(writer.getCharset()));
+	}
+
+	public void textShouldBeWrittenAsCharactersToOtherWriters() {
+		StringWriter writer = new StringWriter();
+		textElement.process(new DefaultContext(), writer);
+
+		assert writer.getString().equals("caf\u00e9");
+	}
+}
\ No newline at end of file
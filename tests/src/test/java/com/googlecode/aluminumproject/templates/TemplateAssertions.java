@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.templates;
+
+import com.googlecode.aluminumproject.libraries.actions.ActionParameter;
+import com.googlecode.aluminumproject.utilities.Utilities;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contains assertions that compare the structures of templates.
+ */
+public class TemplateAssertions {
+	private TemplateAssertions() {}
+
+	/**
+	 * Asserts that two templates consist of equal template elements.
+	 *
+	 * @param expectedTemplate the expected template
+	 * @param actualTemplate the actual template
+	 */
+	public static void assertEqualTemplates(Template expectedTemplate, Template actualTemplate) {
+		assertEqualChildren(expectedTemplate, null, actualTemplate, null);
+	}
+
+	private static void assertEqualChildren(Template expectedTemplate, TemplateElement expectedParent,
+			Template actualTemplate, TemplateElement actualParent) {
+		List<TemplateElement> expectedChildren = expectedTemplate.getChildren(expectedParent);
+		List<TemplateElement> actualChildren = actualTemplate.getChildren(actualParent);
+
+		assert actualChildren.size() == expectedChildren.size();
+
+		for (int i = 0; i < expectedChildren.size(); i++) {
+			TemplateElement expectedChild = expectedChildren.get(i);
+			TemplateElement actualChild = actualChildren.get(i);
+
+			assert actualChild.getLineNumber() == expectedChild.getLineNumber();
+			assert actualChild.getLibraryUrlAbbreviations().equals(expectedChild.getLibraryUrlAbbreviations());
+
+			if (expectedChild instanceof ActionElement) {
+				assertEqualActionElements((ActionElement) expectedChild, (ActionElement) actualChild);
+			} else if (expectedChild instanceof TextElement) {
+				assert ((TextElement) actualChild).getText().equals(((TextElement) expectedChild).getText());
+			} else {
+				assert ((ExpressionElement) actualChild).getText().equals(
+					((ExpressionElement) expectedChild).getText());
+			}
+
+			assertEqualChildren(expectedTemplate, expectedChild, actualTemplate, actualChild);
+		}
+	}
+
+	private static void assertEqualActionElements(
+			ActionElement expectedActionElement, ActionElement actualActionElement) {
+		assert Utilities.equals(actualActionElement.getDescriptor().getLibraryUrlAbbreviation(),
+			expectedActionElement.getDescriptor().getLibraryUrlAbbreviation());
+		assert actualActionElement.getDescriptor().getName().equals(expectedActionElement.getDescriptor().getName());
+
+		Map<String, ActionParameter> expectedParameters = expectedActionElement.getParameters();
+		Map<String, ActionParameter> actualParameters = actualActionElement.getParameters();
+
+		assert actualParameters.keySet().equals(expectedParameters.keySet());
+
+		for (String parameterName: expectedParameters.keySet()) {
+			assertEqualParameters(expectedParameters.get(parameterName), actualParameters.get(parameterName));
+		}
+
+		List<ActionContributionDescriptor> expectedContributions = expectedActionElement.getContributionDescriptors();
+		List<ActionContributionDescriptor> actualContributions = actualActionElement.getContributionDescriptors();
+
+		assert actualContributions.size() == expectedContributions.size();
+
+		for (int i = 0; i < expectedContributions.size(); i++) {
+			ActionContributionDescriptor expectedContribution = expectedContributions.get(i);
+			ActionContributionDescriptor actualContribution = actualContributions.get(i);
+
+			assert actualContribution.getLibraryUrlAbbreviation().equals(
+				expectedContribution.getLibraryUrlAbbreviation());
+			assert actualContribution.getName().equals(expectedContribution.getName());
+
+			assertEqualParameters(expectedContribution.getParameter(), actualContribution.getParameter());
+		}
+	}
+
+	private static void assertEqualParameters(ActionParameter expectedParameter, ActionParameter actualParameter) {
+		assert actualParameter.getClass() == expectedParameter.getClass();
+		assert actualParameter.getText().equals(expectedParameter.getText());
+	}
+}
\ No newline at end of file
@@ -17,6 +17,8 @@ package com.googlecode.aluminumproject.templates;
 
 import com.googlecode.aluminumproject.AluminumException;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.testng.annotations.Test;
@@ -107,6 +109,77 @@ public class TemplateBuilderTest {
 		assert children.contains(secondChild);
 	}
 
+	public void childrenShouldBeRetrievableInOrderAfterDeepNesting() {
+		TemplateElement[] templateElements = new TemplateElement[100];
+
+		TemplateBuilder templateBuilder = new TemplateBuilder("test");
+
+		for (int i = 0; i < templateElements.length; i++) {
+			templateElements[i] = (i % 2 == 0) ? new TestActionElement() : new TestTextElement();
+			templateBuilder.addTemplateElement(templateElements[i]);
+		}
+
+		for (int i = 0; i < templateElements.length; i++) {
+			templateBuilder.restoreCurrentTemplateElement();
+		}
+
+		TemplateElement sibling = new TestTextElement();
+		templateBuilder.addTemplateElement(sibling);
+
+		Template template = templateBuilder.build();
+
+		assert template.getChildren(null).equals(Arrays.asList(templateElements[0], sibling));
+		assert template.getParent(sibling) == null;
+
+		for (int i = 1; i < templateElements.length; i++) {
+			assert template.getParent(templateElements[i]) == templateElements[i - 1];
+			assert template.getChildren(templateElements[i - 1]).equals(Collections.singletonList(templateElements[i]));
+		}
+
+		assert template.getChildren(templateElements[templateElements.length - 1]).isEmpty();
+	}
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void childrenShouldNotBeModifiable() {
+		TemplateElement parent = new TestActionElement();
+
+		TemplateBuilder templateBuilder = new TemplateBuilder("test");
+		templateBuilder.addTemplateElement(parent);
+		templateBuilder.addTemplateElement(new TestTextElement());
+
+		templateBuilder.build().getChildren(parent).add(new TestTextElement());
+	}
+
+	public void builtTemplateShouldBeKnownToAbstractTemplateElements() {
+		AbstractTemplateElement templateElement = new TestTextElement();
+		assert templateElement.getTemplate() == null;
+
+		TemplateBuilder templateBuilder = new TemplateBuilder("test");
+		templateBuilder.addTemplateElement(templateElement);
+
+		Template template = templateBuilder.build();
+		assert templateElement.getTemplate() == template;
+	}
+
+	public void templateElementShouldBeUsableInMultipleTemplates() {
+		TemplateElement templateElement = new TestTextElement();
+
+		TemplateBuilder firstTemplateBuilder = new TemplateBuilder("first");
+		firstTemplateBuilder.addTemplateElement(new TestActionElement());
+		firstTemplateBuilder.addTemplateElement(templateElement);
+		Template firstTemplate = firstTemplateBuilder.build();
+
+		TemplateBuilder secondTemplateBuilder = new TemplateBuilder("second");
+		secondTemplateBuilder.addTemplateElement(templateElement);
+		Template secondTemplate = secondTemplateBuilder.build();
+
+		assert firstTemplate.contains(templateElement);
+		assert firstTemplate.getParent(templateElement) != null;
+
+		assert secondTemplate.contains(templateElement);
+		assert secondTemplate.getParent(templateElement) == null;
+	}
+
 	@Test(dependsOnMethods = "buildingEmptyTemplateShouldBePossible", expectedExceptions = AluminumException.class)
 	public void retrievingParentOfUnknownTemplateElementShouldCauseException() {
 		new TemplateBuilder("test").build().getParent(new TestActionElement());
@@ -122,4 +122,82 @@ public class TemplateInformationTest {
 
 		assert templateInformation.getCurrentAction() == action;
 	}
+
+	@Test(dependsOnMethods = "removingTemplateElementShouldRevertToPreviousCurrentTemplateElement")
+	public void templateElementStackShouldSupportDeepNesting() {
+		TemplateInformation templateInformation = TemplateInformation.from(new DefaultContext());
+
+		TemplateElement[] templateElements = new TemplateElement[100];
+
+		for (int i = 0; i < templateElements.length; i++) {
+			templateElements[i] = new TestActionElement();
+
+			templateInformation.addTemplateElement(templateElements[i]);
+		}
+
+		for (int i = templateElements.length - 1; i >= 0; i--) {
+			assert templateInformation.getCurrentTemplateElement() == templateElements[i];
+
+			templateInformation.removeCurrentTemplateElement();
+		}
+
+		assert templateInformation.getCurrentTemplateElement() == null;
+	}
+
+	@Test(dependsOnMethods = "removingCurrentActionShouldRevertToPreviousCurrentAction")
+	public void actionStackShouldSupportDeepNesting() {
+		TemplateInformation templateInformation = TemplateInformation.from(new DefaultContext());
+
+		Action[] actions = new Action[100];
+
+		for (int i = 0; i < actions.length; i++) {
+			actions[i] = new TestAction();
+
+			templateInformation.addAction(actions[i]);
+		}
+
+		for (int i = actions.length - 1; i >= 0; i--) {
+			assert templateInformation.getCurrentAction() == actions[i];
+
+			templateInformation.removeCurrentAction();
+		}
+
+		assert templateInformation.getCurrentAction() == null;
+	}
+
+	public void subcontextShouldHaveOwnTemplateInformation() {
+		Context context = new DefaultContext();
+
+		assert TemplateInformation.from(context) != TemplateInformation.from(context.createSubcontext());
+	}
+
+	public void newTemplateInformationShouldNotHaveReusableActions() {
+		assert TemplateInformation.from(new DefaultContext()).removeReusableAction(new TestActionElement()) == null;
+	}
+
+	public void removedReusableActionShouldNotBeReusedAgain() {
+		TemplateInformation templateInformation = TemplateInformation.from(new DefaultContext());
+
+		TemplateElement templateElement = new TestActionElement();
+		Action action = new TestAction();
+
+		templateInformation.addReusableAction(templateElement, action);
+		assert templateInformation.removeReusableAction(new TestActionElement()) == null;
+		assert templateInformation.removeReusableAction(templateElement) == action;
+		assert templateInformation.removeReusableAction(templateElement) == null;
+	}
+
+	public void reusableActionsOfTemplateElementShouldBeReusedInReverseOrder() {
+		TemplateInformation templateInformation = TemplateInformation.from(new DefaultContext());
+
+		TemplateElement templateElement = new TestActionElement();
+		Action firstAction = new TestAction();
+		Action secondAction = new TestAction();
+
+		templateInformation.addReusableAction(templateElement, firstAction);
+		templateInformation.addReusableAction(templateElement, secondAction);
+		assert templateInformation.removeReusableAction(templateElement) == secondAction;
+		assert templateInformation.removeReusableAction(templateElement) == firstAction;
+		assert templateInformation.removeReusableAction(templateElement) == null;
+	}
 }
\ No newline at end of file
@@ -70,6 +70,10 @@ public class TemplateProcessorTest {
 
 			return templateBuilder.build();
 		}
+
+		public long getTemplateVersion(String name) {
+			return TemplateFinder.UNKNOWN_VERSION;
+		}
 	}
 
 	public void cacheShouldBePreferredOverParser() {
@@ -16,6 +16,7 @@
 package com.googlecode.aluminumproject.templates;
 
 import com.googlecode.aluminumproject.context.Context;
+import com.googlecode.aluminumproject.expressions.ExpressionFactory;
 import com.googlecode.aluminumproject.writers.Writer;
 
 import java.util.Collections;
@@ -35,5 +36,9 @@ public class TestExpressionElement extends AbstractTemplateElement implements Ex
 		return "";
 	}
 
+	public ExpressionFactory getExpressionFactory() {
+		return null;
+	}
+
 	protected void processAsCurrent(Context context, Writer writer) {}
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.utilities;
+
+import static com.googlecode.aluminumproject.templates.TemplateAssertions.assertEqualTemplates;
+
+import com.googlecode.aluminumproject.AluminumException;
+import com.googlecode.aluminumproject.configuration.Configuration;
+import com.googlecode.aluminumproject.configuration.ConfigurationParameters;
+import com.googlecode.aluminumproject.configuration.DefaultConfiguration;
+import com.googlecode.aluminumproject.finders.ClassPathTemplateFinder;
+import com.googlecode.aluminumproject.parsers.xml.XmlParser;
+import com.googlecode.aluminumproject.templates.Template;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"utilities", "slow"})
+public class BinaryTemplateUtilitiesTest {
+	private Configuration configuration;
+
+	@BeforeMethod
+	public void createConfiguration() {
+		ConfigurationParameters parameters = new ConfigurationParameters();
+		parameters.addParameter(ClassPathTemplateFinder.TEMPLATE_PATH, "templates");
+		parameters.addParameter(XmlParser.TEMPLATE_EXTENSION, "xml");
+
+		configuration = new DefaultConfiguration(parameters);
+	}
+
+	@AfterMethod
+	public void closeConfiguration() {
+		configuration.close();
+	}
+
+	public void readTemplateShouldEqualWrittenTemplate() throws Exception {
+		for (String name: new String[] {"test", "core/if", "core/each-with-stored-information"}) {
+			Template template = configuration.getParsers().get("xml").parseTemplate(name);
+
+			Template readTemplate = BinaryTemplateUtilities.readTemplate(
+				name, new DataInputStream(new ByteArrayInputStream(writeTemplate(template))), configuration);
+
+			assert readTemplate.getName().equals(name);
+
+			assertEqualTemplates(template, readTemplate);
+		}
+	}
+
+	private byte[] writeTemplate(Template template) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		BinaryTemplateUtilities.writeTemplate(template, new DataOutputStream(out));
+
+		return out.toByteArray();
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void readingInputWithoutMagicNumberShouldCauseException() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		DataOutputStream dataOut = new DataOutputStream(out);
+		dataOut.writeInt(0);
+		dataOut.writeInt(BinaryTemplateUtilities.FORMAT_VERSION);
+
+		BinaryTemplateUtilities.readTemplate("test",
+			new DataInputStream(new ByteArrayInputStream(out.toByteArray())), configuration);
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void readingTemplateWithUnsupportedFormatVersionShouldCauseException() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		DataOutputStream dataOut = new DataOutputStream(out);
+		dataOut.writeInt(BinaryTemplateUtilities.MAGIC_NUMBER);
+		dataOut.writeInt(BinaryTemplateUtilities.FORMAT_VERSION + 1);
+
+		BinaryTemplateUtilities.readTemplate("test",
+			new DataInputStream(new ByteArrayInputStream(out.toByteArray())), configuration);
+	}
+}
\ No newline at end of file
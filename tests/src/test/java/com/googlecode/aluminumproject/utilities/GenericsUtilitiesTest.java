@@ -165,6 +165,25 @@ public class GenericsUtilitiesTest {
 		assert name.equals("java.util.Map<java.lang.String, java.lang.Integer>");
 	}
 
+	@Test(dependsOnMethods = "parameterisedTypeWithMultipleParametersShouldBeCreatable")
+	public void createdTypesShouldEqualEquivalentTypes() {
+		String[] names = {
+			"java.util.Map<java.lang.String, java.lang.Integer>",
+			"java.lang.Comparable<?>[]",
+			"java.util.List<? super java.lang.Long>"
+		};
+
+		for (String name: names) {
+			Type type = getType(name);
+			Type equivalentType = getType(name);
+
+			assert type.equals(equivalentType);
+			assert type.hashCode() == equivalentType.hashCode();
+		}
+
+		assert !getType("java.util.List<java.lang.String>").equals(getType("java.util.List<java.lang.Integer>"));
+	}
+
 	public void genericArrayTypeShouldBeCreatable() {
 		Type type = getType("java.lang.Comparable<?>[]");
 		assert type instanceof GenericArrayType;
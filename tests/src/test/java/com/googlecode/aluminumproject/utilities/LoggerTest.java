@@ -0,0 +1,41 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.utilities;
+
+import org.testng.annotations.Test;
+
+@SuppressWarnings("javadoc")
+@Test(groups = {"utilities", "fast"})
+public class LoggerTest {
+	public void loggersShouldBeShared() {
+		assert Logger.get(LoggerTest.class) == Logger.get(LoggerTest.class);
+	}
+
+	public void loggersForDifferentClassesShouldDiffer() {
+		assert Logger.get(LoggerTest.class) != Logger.get(StringUtilities.class);
+	}
+
+	public void underlyingLoggerShouldBeNamedAfterClass() {
+		assert Logger.get(LoggerTest.class).getLogger().getName().equals(LoggerTest.class.getName());
+	}
+
+	public void levelChecksShouldMatchUnderlyingLogger() {
+		Logger logger = Logger.get(LoggerTest.class);
+
+		assert logger.isDebugEnabled() == logger.getLogger().isDebugEnabled();
+		assert logger.isErrorEnabled() == logger.getLogger().isErrorEnabled();
+	}
+}
\ No newline at end of file
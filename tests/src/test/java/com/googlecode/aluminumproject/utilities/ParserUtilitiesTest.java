@@ -22,10 +22,12 @@ import com.googlecode.aluminumproject.expressions.ExpressionFactory;
 import com.googlecode.aluminumproject.expressions.ExpressionOccurrence;
 import com.googlecode.aluminumproject.expressions.TestExpressionFactory;
 import com.googlecode.aluminumproject.expressions.el.ElExpressionFactory;
+import com.googlecode.aluminumproject.libraries.actions.ActionParameter;
 import com.googlecode.aluminumproject.libraries.actions.CompoundActionParameter;
 import com.googlecode.aluminumproject.libraries.actions.ConstantActionParameter;
 import com.googlecode.aluminumproject.libraries.actions.ExpressionActionParameter;
 
+import java.util.Collections;
 import java.util.Set;
 import java.util.SortedMap;
 
@@ -54,15 +56,19 @@ public class ParserUtilitiesTest {
 	}
 
 	public void nonExpressionShouldResultInConstantActionParameter() {
-		assert ParserUtilities.createParameter("name", configuration) instanceof ConstantActionParameter;
+		assert createParameter("name") instanceof ConstantActionParameter;
 	}
 
 	public void expressionShouldResultInExpressionActionParameter() {
-		assert ParserUtilities.createParameter("<<name>>", configuration) instanceof ExpressionActionParameter;
+		assert createParameter("<<name>>") instanceof ExpressionActionParameter;
 	}
 
 	public void multipleExpressionsShouldResultInCompoundActionParameter() {
-		assert ParserUtilities.createParameter("<<name>><<name>>", configuration) instanceof CompoundActionParameter;
+		assert createParameter("<<name>><<name>>") instanceof CompoundActionParameter;
+	}
+
+	private ActionParameter createParameter(String value) {
+		return ParserUtilities.createParameter(value, Collections.<String, String>emptyMap(), configuration);
 	}
 
 	public void textWithoutExpressionsShouldResultInSingleExpressionOccurrenceWithoutExpressionFactory() {
@@ -165,6 +165,18 @@ public class ReflectionUtilitiesTest {
 		assert point.x == 3;
 	}
 
+	public void settingValueOfResolvedFieldShouldUpdateBean() throws NoSuchFieldException {
+		Point point = new Point();
+
+		ReflectionUtilities.setFieldValue(point, ReflectionUtilities.makeAccessible(Point.class.getField("y")), 5);
+		assert point.y == 5;
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void settingValueOfResolvedFieldWithWrongTypeShouldCauseException() throws NoSuchFieldException {
+		ReflectionUtilities.setFieldValue(new Point(), Point.class.getField("y"), "5");
+	}
+
 	public void gettersShouldBeRecognisedAsSuch() throws NoSuchMethodException {
 		assert ReflectionUtilities.isGetter(String.class.getMethod("getBytes"));
 	}
@@ -19,6 +19,8 @@ import com.googlecode.aluminumproject.AluminumException;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -50,6 +52,20 @@ public class AbstractOutputStreamWriterTest {
 		assert bytes[0] == 10;
 	}
 
+	public void encodedBytesShouldBeWrittenAsIs() {
+		writer.writeBytes(new byte[] {10, 20});
+
+		byte[] bytes = outputStream.toByteArray();
+		assert bytes != null;
+		assert bytes.length == 2;
+		assert bytes[0] == 10;
+		assert bytes[1] == 20;
+	}
+
+	public void writerShouldUseDefaultCharset() {
+		assert writer.getCharset().equals(Charset.defaultCharset());
+	}
+
 	public void nonByteArraysShouldBeConvertedToStrings() {
 		writer.write(10);
 
@@ -77,6 +93,45 @@ public class AbstractOutputStreamWriterTest {
 		assert string.equals("10");
 	}
 
+	public void textShouldBeEncodedWithCharsetOfWriter() throws UnsupportedEncodingException {
+		Charset charset = Charset.forName("UTF-16BE");
+
+		new OutputStreamWriter(outputStream, charset, 16, 0).write("caf\u00e9");
+
+		byte[] bytes = outputStream.toByteArray();
+		assert bytes.length == 8;
+		assert new String(bytes, charset.name()).equals("caf\u00e9");
+	}
+
+	public void textThatDoesNotFitInBufferShouldBeWrittenCompletely() {
+		StringBuilder textBuilder = new StringBuilder();
+
+		for (int i = 0; i < 100; i++) {
+			textBuilder.append(i % 10);
+		}
+
+		String text = textBuilder.toString();
+
+		new OutputStreamWriter(outputStream, Charset.forName("UTF-8"), 16, 16).write(text);
+
+		assert outputStream.toString().equals(text.substring(0, 96));
+	}
+
+	public void writerShouldPassBufferToOutputStreamWhenFlushThresholdIsReached() {
+		AbstractOutputStreamWriter writer = new OutputStreamWriter(outputStream, Charset.forName("UTF-8"), 16, 4);
+
+		writer.write("abc");
+		assert outputStream.size() == 0;
+
+		writer.writeBytes(new byte[] {100});
+		assert outputStream.toString().equals("abcd");
+	}
+
+	@Test(expectedExceptions = AluminumException.class)
+	public void usingFlushThresholdThatExceedsBufferSizeShouldCauseException() {
+		new OutputStreamWriter(outputStream, Charset.forName("UTF-8"), 16, 32);
+	}
+
 	public void closingWriterShouldCloseOutputStream() {
 		writer.close();
 
@@ -116,6 +171,14 @@ public class AbstractOutputStreamWriterTest {
 			this.close = close;
 		}
 
+		public OutputStreamWriter(OutputStream outputStream, Charset charset, int bufferSize, int flushThreshold) {
+			super(charset, bufferSize, flushThreshold);
+
+			this.outputStream = outputStream;
+
+			close = true;
+		}
+
 		protected OutputStream createOutputStream() {
 			return outputStream;
 		}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2014 Aluminum project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.aluminumproject.finders;
+
+import com.googlecode.aluminumproject.annotations.FunctionClass;
+import com.googlecode.aluminumproject.configuration.ConfigurationElement;
+import com.googlecode.aluminumproject.converters.Converter;
+import com.googlecode.aluminumproject.interceptors.ActionInterceptor;
+import com.googlecode.aluminumproject.libraries.actions.Action;
+import com.googlecode.aluminumproject.libraries.actions.ActionContribution;
+import com.googlecode.aluminumproject.optimisers.OptimisationRule;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor that writes the type index that is read by the {@link IndexedTypeFinder indexed type
+ * finder}.
+ * <p>
+ * The index contains all compiled classes that can be found by a type finder during the configuration of Aluminum:
+ * configuration elements (such as libraries, parsers, serialisers, context enrichers, and expression factories),
+ * actions, action contributions, action interceptors, converters, optimisation rules, EL resolvers, and classes that
+ * are annotated with {@link FunctionClass &#64;FunctionClass}. It is written to the class output as {@value
+ * IndexedTypeFinder#INDEX}.
+ * <p>
+ * The processor is not registered as a service, so it has to be enabled explicitly, e.g. with the {@code -processor}
+ * option of {@code javac}. Since it looks at every compiled type, it supports all annotation types; it claims them as
+ * well, so that other processors that are run after it won't see them.
+ * <p>
+ * When only some of the types of a project are compiled (as happens during incremental builds), the processor merges
+ * the index it writes with the index that was written before: indexed types that were not compiled again are kept, as
+ * long as they still exist.
+ */
+@SupportedAnnotationTypes("*")
+public class TypeIndexProcessor extends AbstractProcessor {
+	private List<TypeMirror> indexedTypes;
+	private TypeElement functionClassAnnotation;
+
+	private Set<String> typeNames;
+	private Set<String> compiledTypeNames;
+
+	/**
+	 * Creates a type index processor.
+	 */
+	public TypeIndexProcessor() {
+		typeNames = new TreeSet<String>();
+		compiledTypeNames = new HashSet<String>();
+	}
+
+	@Override
+	public synchronized void init(ProcessingEnvironment processingEnvironment) {
+		super.init(processingEnvironment);
+
+		Elements elements = processingEnvironment.getElementUtils();
+		Types types = processingEnvironment.getTypeUtils();
+
+		indexedTypes = new LinkedList<TypeMirror>();
+
+		for (String indexedTypeName: INDEXED_TYPE_NAMES) {
+			TypeElement indexedType = elements.getTypeElement(indexedTypeName);
+
+			if (indexedType != null) {
+				indexedTypes.add(types.erasure(indexedType.asType()));
+			}
+		}
+
+		functionClassAnnotation = elements.getTypeElement(FunctionClass.class.getName());
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+		if (roundEnvironment.processingOver()) {
+			writeIndex();
+		} else {
+			for (Element element: roundEnvironment.getRootElements()) {
+				addTypeNames(element);
+			}
+		}
+
+		return true;
+	}
+
+	private void addTypeNames(Element element) {
+		if (element.getKind().isClass() || element.getKind().isInterface()) {
+			TypeElement type = (TypeElement) element;
+			String typeName = processingEnv.getElementUtils().getBinaryName(type).toString();
+
+			compiledTypeNames.add(typeName);
+
+			if (element.getKind().isClass() && isIndexed(type)) {
+				typeNames.add(typeName);
+			}
+
+			for (Element enclosedElement: type.getEnclosedElements()) {
+				addTypeNames(enclosedElement);
+			}
+		}
+	}
+
+	private boolean isIndexed(TypeElement type) {
+		Types types = processingEnv.getTypeUtils();
+		TypeMirror erasure = types.erasure(type.asType());
+
+		boolean indexed = false;
+
+		for (int i = 0; !indexed && (i < indexedTypes.size()); i++) {
+			indexed = types.isAssignable(erasure, indexedTypes.get(i));
+		}
+
+		if (!indexed && (functionClassAnnotation != null)) {
+			for (AnnotationMirror annotation: processingEnv.getElementUtils().getAllAnnotationMirrors(type)) {
+				indexed = indexed || annotation.getAnnotationType().asElement().equals(functionClassAnnotation);
+			}
+		}
+
+		return indexed;
+	}
+
+	private void writeIndex() {
+		boolean indexExists = readIndex();
+
+		if (indexExists || !typeNames.isEmpty()) {
+			try {
+				FileObject index = processingEnv.getFiler().createResource(
+					StandardLocation.CLASS_OUTPUT, "", IndexedTypeFinder.INDEX);
+
+				Writer out = new OutputStreamWriter(index.openOutputStream(), "UTF-8");
+
+				try {
+					for (String typeName: typeNames) {
+						out.write(typeName);
+						out.write('\n');
+					}
+				} finally {
+					out.close();
+				}
+			} catch (IOException exception) {
+				processingEnv.getMessager().printMessage(
+					Diagnostic.Kind.ERROR, String.format("can't write type index: %s", exception.getMessage()));
+			}
+		}
+	}
+
+	private boolean readIndex() {
+		BufferedReader in;
+
+		try {
+			FileObject index = processingEnv.getFiler().getResource(
+				StandardLocation.CLASS_OUTPUT, "", IndexedTypeFinder.INDEX);
+
+			in = new BufferedReader(new InputStreamReader(index.openInputStream(), "UTF-8"));
+		} catch (IOException exception) {
+			return false;
+		}
+
+		try {
+			try {
+				String line;
+
+				while ((line = in.readLine()) != null) {
+					String typeName = line.trim();
+
+					if ((typeName.length() > 0) && !compiledTypeNames.contains(typeName) && exists(typeName)) {
+						typeNames.add(typeName);
+					}
+				}
+			} finally {
+				in.close();
+			}
+		} catch (IOException exception) {
+			processingEnv.getMessager().printMessage(
+				Diagnostic.Kind.ERROR, String.format("can't read type index: %s", exception.getMessage()));
+		}
+
+		return true;
+	}
+
+	private boolean exists(String typeName) {
+		int separatorIndex = typeName.lastIndexOf('.');
+
+		String packageName = (separatorIndex < 0) ? "" : typeName.substring(0, separatorIndex);
+		String classFileName = String.format("%s.class", typeName.substring(separatorIndex + 1));
+
+		Filer filer = processingEnv.getFiler();
+
+		boolean exists;
+
+		try {
+			filer.getResource(StandardLocation.CLASS_OUTPUT, packageName, classFileName).openInputStream().close();
+
+			exists = true;
+		} catch (IOException exception) {
+			exists = processingEnv.getElementUtils().getTypeElement(typeName.replace('$', '.')) != null;
+		}
+
+		return exists;
+	}
+
+	/** The names of the types whose subtypes are indexed. */
+	private final static String[] INDEXED_TYPE_NAMES = {
+		ConfigurationElement.class.getName(),
+		Action.class.getName(),
+		ActionContribution.class.getName(),
+		ActionInterceptor.class.getName(),
+		Converter.class.getName(),
+		OptimisationRule.class.getName(),
+		"javax.el.ELResolver"
+	};
+}
\ No newline at end of file